@@ -1,13 +1,26 @@
 package com.example.minix.application.handler;
 
 import com.example.minix.application.port.out.FollowRepository;
+import com.example.minix.application.port.out.PartitionedExecutor;
 import com.example.minix.application.port.out.TimelineRepository;
+import com.example.minix.application.port.out.TimelineUpdatePublisher;
+import com.example.minix.application.service.FanOutPolicy;
 import com.example.minix.domain.event.TweetCreatedEvent;
+import com.example.minix.domain.event.TweetsCreatedEvent;
+import com.example.minix.domain.model.TimelineEntry;
 import com.example.minix.domain.model.TimelineItem;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static com.example.minix.config.EventLaneConfiguration.FAN_OUT_LANES;
 
 /**
  * Handles TweetCreatedEvent and raises the tweet created event.
@@ -18,31 +31,109 @@ public class TweetCreatedEventHandler implements EventHandler<TweetCreatedEvent>
 
     private final FollowRepository followRepository;
     private final TimelineRepository timelineRepository;
+    private final FanOutPolicy fanOutPolicy;
+    private final PartitionedExecutor partitionedExecutor;
+    private final TimelineUpdatePublisher timelineUpdatePublisher;
+    private final int chunkSize;
 
     public TweetCreatedEventHandler(FollowRepository followRepository,
-            TimelineRepository timelineRepository) {
+            TimelineRepository timelineRepository,
+            FanOutPolicy fanOutPolicy,
+            @Qualifier(FAN_OUT_LANES) PartitionedExecutor partitionedExecutor,
+            TimelineUpdatePublisher timelineUpdatePublisher,
+            @Value("${event-publisher.fan-out.chunk-size}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Fan-out chunk size must be positive");
+        }
         this.followRepository = followRepository;
         this.timelineRepository = timelineRepository;
+        this.fanOutPolicy = fanOutPolicy;
+        this.partitionedExecutor = partitionedExecutor;
+        this.timelineUpdatePublisher = timelineUpdatePublisher;
+        this.chunkSize = chunkSize;
     }
 
     /**
      * Handles the tweet created event.
+     * Tweets from authors pulled on read are not fanned out, readers merge them into their timeline.
+     * <p>
+     * Followers are streamed without copying the follower list, and buffered per partition into chunks run on
+     * their fan-out lane, so each timeline only receives fan-out writes from the thread owning its user. The
+     * publisher thread does not wait for them.
+     * <p>
+     * Once a chunk is written, the tweet is pushed to the live streams of its followers. Tweets pulled on read
+     * are pushed to the connected followers only.
      *
      * @param event the tweet created event
      */
     public void handle(TweetCreatedEvent event) {
 
         log.debug("Tweet created for user {}", event.authorId());
-        List<String> followers = followRepository.getFollowers(event.authorId());
-
-        followers.parallelStream().forEach(followerId -> {
-            // each timeline item needs to be a new timelime item for each user
-            TimelineItem item = new TimelineItem(
-                    event.tweetId(),
-                    event.authorId(),
-                    event.content(),
-                    event.createdAt());
-            timelineRepository.addToTimeline(followerId, item);
+        fanOut(event.authorId(), List.of(event));
+    }
+
+    /**
+     * Handles tweets created together by an author for {@link TweetsCreatedEventHandler}, like {@link #handle}
+     * but in a single pass: the followers are streamed once and each chunk of timelines receives all the tweets
+     * at once.
+     *
+     * @param event the tweets created event
+     */
+    public void handleBatch(TweetsCreatedEvent event) {
+
+        log.debug("{} tweets created for user {}", event.tweets().size(), event.authorId());
+        fanOut(event.authorId(), event.tweets());
+    }
+
+    private void fanOut(String authorId, List<TweetCreatedEvent> tweets) {
+        List<TimelineItem> items = tweets.stream()
+                .map(tweet -> new TimelineItem(tweet.tweetId(), tweet.authorId(), tweet.content(), tweet.createdAt()))
+                .toList();
+        if (fanOutPolicy.isPulledOnRead(authorId)) {
+            log.debug("Skipping fan-out for high-follower user {}", authorId);
+            fanOutPolicy.recordTweet(authorId);
+            // pushed to the connected followers only, indexed when they connect or follow
+            items.forEach(item -> timelineUpdatePublisher.publishToWatchers(authorId, item));
+            return;
+        }
+
+        // timelines only keep a reference to the tweet, so a single entry is shared by all followers
+        List<TimelineEntry> entries = tweets.stream()
+                .map(tweet -> new TimelineEntry(tweet.tweetId(), tweet.createdAt()))
+                .toList();
+        List<List<String>> chunks = new ArrayList<>(Collections.nCopies(partitionedExecutor.partitions(), null));
+        try (Stream<String> followers = followRepository.streamFollowers(authorId)) {
+            Iterator<String> iterator = followers.iterator();
+            while (iterator.hasNext()) {
+                String followerId = iterator.next();
+                int partition = partitionedExecutor.partitionOf(followerId);
+                List<String> chunk = chunks.get(partition);
+                if (chunk == null) {
+                    chunk = new ArrayList<>(chunkSize);
+                    chunks.set(partition, chunk);
+                }
+                chunk.add(followerId);
+                if (chunk.size() == chunkSize) {
+                    submit(chunk, entries, items);
+                    chunks.set(partition, null);
+                }
+            }
+        }
+        for (List<String> chunk : chunks) {
+            if (chunk != null) {
+                submit(chunk, entries, items);
+            }
+        }
+    }
+
+    private void submit(List<String> chunk, List<TimelineEntry> entries, List<TimelineItem> items) {
+        partitionedExecutor.execute(chunk.get(0), () -> {
+            if (entries.size() == 1) {
+                timelineRepository.addToTimelines(chunk, entries.get(0));
+            } else {
+                timelineRepository.addAllToTimelines(chunk, entries);
+            }
+            items.forEach(item -> timelineUpdatePublisher.publish(chunk, item));
         });
     }
 }
@@ -0,0 +1,26 @@
+package com.example.minix.application.handler;
+
+import com.example.minix.domain.event.TweetsCreatedEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handles TweetsCreatedEvent by fanning out the tweets of a batch in a single pass.
+ */
+@Component
+public class TweetsCreatedEventHandler implements EventHandler<TweetsCreatedEvent> {
+
+    private final TweetCreatedEventHandler tweetCreatedEventHandler;
+
+    public TweetsCreatedEventHandler(TweetCreatedEventHandler tweetCreatedEventHandler) {
+        this.tweetCreatedEventHandler = tweetCreatedEventHandler;
+    }
+
+    /**
+     * Handles the tweets created event, sharing the fan-out of single tweets.
+     *
+     * @param event the tweets created event
+     */
+    public void handle(TweetsCreatedEvent event) {
+        tweetCreatedEventHandler.handleBatch(event);
+    }
+}
@@ -1,14 +1,18 @@
 package com.example.minix.application.handler;
 
+import com.example.minix.application.port.out.FollowRepository;
 import com.example.minix.application.port.out.TimelineRepository;
+import com.example.minix.application.port.out.TimelineUpdatePublisher;
 import com.example.minix.application.port.out.TweetRepository;
+import com.example.minix.application.service.FanOutPolicy;
 import com.example.minix.domain.event.UserFollowedEvent;
-import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.domain.model.TimelineEntry;
 import com.example.minix.domain.model.Tweet;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Handles UserFollowedEvent by backfilling the follower's timeline.
@@ -22,11 +26,20 @@ public class UserFollowedEventHandler implements EventHandler<UserFollowedEvent>
 
     private final TweetRepository tweetRepository;
     private final TimelineRepository timelineRepository;
+    private final FanOutPolicy fanOutPolicy;
+    private final FollowRepository followRepository;
+    private final TimelineUpdatePublisher timelineUpdatePublisher;
 
     public UserFollowedEventHandler(TweetRepository tweetRepository,
-            TimelineRepository timelineRepository) {
+            TimelineRepository timelineRepository,
+            FanOutPolicy fanOutPolicy,
+            FollowRepository followRepository,
+            TimelineUpdatePublisher timelineUpdatePublisher) {
         this.tweetRepository = tweetRepository;
         this.timelineRepository = timelineRepository;
+        this.fanOutPolicy = fanOutPolicy;
+        this.followRepository = followRepository;
+        this.timelineUpdatePublisher = timelineUpdatePublisher;
     }
 
     /**
@@ -39,6 +52,9 @@ public class UserFollowedEventHandler implements EventHandler<UserFollowedEvent>
      * 3. Add those tweets to the follower's timeline
      * <p>
      * This avoids fetching all tweets and only gets relevant ones.
+     * Users pulled on read are not backfilled, their tweets are merged when the timeline is read and pushed to
+     * the live streams of the followers watching them. The follow may push the followed user over the threshold,
+     * then all their connected followers start watching them.
      *
      * @param event the user followed event
      */
@@ -46,6 +62,17 @@ public class UserFollowedEventHandler implements EventHandler<UserFollowedEvent>
         log.debug("User {} followed {}", event.followerId(), event.followedId());
         String followerId = event.followerId();
         String followedId = event.followedId();
+        if (fanOutPolicy.recordFollow(followedId)) {
+            // only just over the threshold, so the followers are few
+            try (Stream<String> followers = followRepository.streamFollowers(followedId)) {
+                followers.forEach(userId -> timelineUpdatePublisher.watchAuthor(userId, followedId));
+            }
+        }
+        if (fanOutPolicy.isPulledOnRead(followedId)) {
+            log.debug("Skipping backfill of high-follower user {}", followedId);
+            timelineUpdatePublisher.watchAuthor(followerId, followedId);
+            return;
+        }
 
         log.debug("Backfilling tweets for user timeline");
         // Get recent tweets from the followed user created after the oldest timeline
@@ -54,14 +81,9 @@ public class UserFollowedEventHandler implements EventHandler<UserFollowedEvent>
                 followedId,
                 MAX_BACKFILL_TWEETS);
 
-        // Add each tweet to the follower's timeline
-        for (Tweet tweet : tweetsToBackfill) {
-            TimelineItem item = new TimelineItem(
-                    tweet.id(),
-                    tweet.authorId(),
-                    tweet.content(),
-                    tweet.createdAt());
-            timelineRepository.addToTimeline(followerId, item);
+        // Add all the tweets to the follower's timeline at once
+        if (!tweetsToBackfill.isEmpty()) {
+            timelineRepository.addAllToTimeline(followerId, tweetsToBackfill.stream().map(TimelineEntry::of).toList());
         }
     }
 }
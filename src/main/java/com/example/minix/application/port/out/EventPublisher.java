@@ -9,7 +9,27 @@ import com.example.minix.domain.event.EventType;
  * Defines the contract for event publishing and handler registration.
  */
 public interface EventPublisher {
-    
+
+    /**
+     * Checks that a new event can be accepted, to be called before any state it describes is stored.
+     *
+     * @param partitionKey the partition key of the upcoming event
+     * @throws EventPublisherOverloadedException if the publisher is saturated and sheds new events
+     */
+    default void ensureCapacity(String partitionKey) {
+        ensureCapacity(partitionKey, 1);
+    }
+
+    /**
+     * Checks that several new events of a partition can be accepted, to be called before any state they describe
+     * is stored.
+     *
+     * @param partitionKey the partition key of the upcoming events
+     * @param events the number of upcoming events
+     * @throws EventPublisherOverloadedException if the publisher is saturated and sheds new events
+     */
+    void ensureCapacity(String partitionKey, int events);
+
     /**
      * Publishes an event to all registered handlers.
      *
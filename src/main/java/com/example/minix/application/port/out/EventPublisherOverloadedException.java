@@ -0,0 +1,22 @@
+package com.example.minix.application.port.out;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the event publisher cannot take new events and the request should be retried later.
+ */
+public class EventPublisherOverloadedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public EventPublisherOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
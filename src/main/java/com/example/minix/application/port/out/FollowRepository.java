@@ -3,6 +3,7 @@ package com.example.minix.application.port.out;
 import com.example.minix.domain.model.Follow;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Port interface for follow relationship persistence operations.
@@ -41,6 +42,40 @@ public interface FollowRepository {
      * @return list of follower IDs
      */
     List<String> getFollowers(String userId);
+
+    /**
+     * Streams the followers of a given user without copying the follower list.
+     * The stream is weakly consistent: followers added while it is consumed may or may not be included.
+     * It can be split for parallel processing.
+     *
+     * @param userId the user ID
+     * @return stream of follower IDs, in no particular order
+     */
+    Stream<String> streamFollowers(String userId);
+
+    /**
+     * Finds the users that a given user follows and who follow them back.
+     *
+     * @param userId the user ID
+     * @return list of mutual follow user IDs
+     */
+    List<String> findMutualFollowIds(String userId);
+
+    /**
+     * Counts the followers of a given user.
+     *
+     * @param userId the user ID
+     * @return number of followers
+     */
+    int countFollowers(String userId);
+
+    /**
+     * Finds the users with more followers than a given count.
+     *
+     * @param count the follower count to exceed
+     * @return list of user IDs
+     */
+    List<String> findUserIdsWithMoreFollowersThan(int count);
     
     /**
      * Checks if a follow relationship exists.
@@ -0,0 +1,33 @@
+package com.example.minix.application.port.out;
+
+/**
+ * Port for running work serialized per partition key.
+ * Tasks with keys of the same partition run one at a time in submission order,
+ * different partitions run in parallel.
+ */
+public interface PartitionedExecutor {
+
+    /**
+     * Runs the task on the partition of the given key.
+     * Runs it right away when the caller is already on that partition.
+     *
+     * @param partitionKey the key, usually a user ID
+     * @param task the task to run
+     */
+    void execute(String partitionKey, Runnable task);
+
+    /**
+     * Returns the partition a key is mapped to.
+     *
+     * @param partitionKey the key, usually a user ID
+     * @return the partition index, between 0 and {@link #partitions()} excluded
+     */
+    int partitionOf(String partitionKey);
+
+    /**
+     * Returns the number of partitions.
+     *
+     * @return number of partitions
+     */
+    int partitions();
+}
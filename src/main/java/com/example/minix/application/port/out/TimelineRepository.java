@@ -1,10 +1,10 @@
 package com.example.minix.application.port.out;
 
-import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.domain.model.TimelineEntry;
+import com.example.minix.domain.model.TimelineQuery;
 
-import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Port interface for timeline persistence operations.
@@ -13,19 +13,51 @@ import java.util.Optional;
 public interface TimelineRepository {
     
     /**
-     * Adds a timeline item to a user's timeline.
+     * Adds a timeline entry to a user's timeline.
      *
      * @param userId the user ID
-     * @param item the timeline item to add
+     * @param entry the timeline entry to add
      */
-    void addToTimeline(String userId, TimelineItem item);
+    void addToTimeline(String userId, TimelineEntry entry);
+
+    /**
+     * Adds the same timeline entry to the timelines of many users, as done by fan-out.
+     *
+     * @param userIds the user IDs
+     * @param entry the timeline entry to add
+     */
+    void addToTimelines(Collection<String> userIds, TimelineEntry entry);
+
+    /**
+     * Adds many timeline entries to a user's timeline, as done by backfill.
+     *
+     * @param userId the user ID
+     * @param entries the timeline entries to add, in any order
+     */
+    void addAllToTimeline(String userId, Collection<TimelineEntry> entries);
+
+    /**
+     * Adds the same timeline entries to the timelines of many users, as done by batched fan-out.
+     *
+     * @param userIds the user IDs
+     * @param entries the timeline entries to add, in any order
+     */
+    void addAllToTimelines(Collection<String> userIds, Collection<TimelineEntry> entries);
     
     /**
-     * Gets a user's timeline with a limit on the number of items.
+     * Gets a page of a user's timeline.
+     *
+     * @param userId the user ID
+     * @param query the cursors and maximum number of entries to return
+     * @return list of timeline entries (newest first)
+     */
+    List<TimelineEntry> getTimeline(String userId, TimelineQuery query);
+
+    /**
+     * Gets the version of a user's timeline, which increases whenever its entries change.
      *
      * @param userId the user ID
-     * @param limit maximum number of items to return
-     * @return list of timeline items (newest first)
+     * @return the timeline version, 0 if the user has no timeline
      */
-    List<TimelineItem> getTimeline(String userId, int limit);
+    long getTimelineVersion(String userId);
 }
@@ -0,0 +1,31 @@
+package com.example.minix.application.port.out;
+
+import com.example.minix.domain.model.TimelineUpdate;
+
+/**
+ * Live stream of the new items of a user's timeline, buffered until the consumer polls them.
+ * The buffer is bounded: when the consumer is too slow, the oldest items are dropped and counted.
+ */
+public interface TimelineSubscription extends AutoCloseable {
+
+    /**
+     * Removes the oldest buffered update.
+     *
+     * @return the update, or null if none is buffered
+     */
+    TimelineUpdate poll();
+
+    /**
+     * Sets the callback run after each buffered update, on the publishing thread.
+     * It must not block.
+     *
+     * @param listener the callback
+     */
+    void onAvailable(Runnable listener);
+
+    /**
+     * Stops receiving updates.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,44 @@
+package com.example.minix.application.port.out;
+
+import com.example.minix.domain.model.TimelineItem;
+
+import java.util.Collection;
+
+/**
+ * Port for pushing new timeline items to the users connected to a live stream.
+ */
+public interface TimelineUpdatePublisher {
+
+    /**
+     * Opens a stream of the new items of a user's timeline.
+     *
+     * @param userId the user ID
+     * @return the subscription, to close once the user disconnects
+     */
+    TimelineSubscription subscribe(String userId);
+
+    /**
+     * Pushes an item to the streams of the given users. Users without a stream are skipped.
+     *
+     * @param userIds the user IDs
+     * @param item the new timeline item
+     */
+    void publish(Collection<String> userIds, TimelineItem item);
+
+    /**
+     * Also pushes the items of an author to a user's streams, for authors whose tweets are not fanned out.
+     * Skipped if the user has no open stream, the author is forgotten once the user's streams are all closed.
+     *
+     * @param userId the user ID
+     * @param authorId the author ID
+     */
+    void watchAuthor(String userId, String authorId);
+
+    /**
+     * Pushes an item to the streams of the users watching its author.
+     *
+     * @param authorId the author ID
+     * @param item the new timeline item
+     */
+    void publishToWatchers(String authorId, TimelineItem item);
+}
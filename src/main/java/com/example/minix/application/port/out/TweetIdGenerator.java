@@ -0,0 +1,16 @@
+package com.example.minix.application.port.out;
+
+/**
+ * Port interface for tweet ID generation.
+ * Defines the contract for generating unique, time-ordered tweet IDs.
+ */
+public interface TweetIdGenerator {
+
+    /**
+     * Generates a new tweet ID.
+     * IDs are positive and increase over time, so they can be used to order tweets.
+     *
+     * @return the generated ID
+     */
+    long nextId();
+}
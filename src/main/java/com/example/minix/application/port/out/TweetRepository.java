@@ -1,8 +1,9 @@
 package com.example.minix.application.port.out;
 
+import com.example.minix.domain.model.TimelineQuery;
 import com.example.minix.domain.model.Tweet;
 
-import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,15 @@ public interface TweetRepository {
      * @return the saved tweet
      */
     Tweet save(Tweet tweet);
+
+    /**
+     * Saves many tweets at once, as done by bulk ingestion.
+     * Adapters store them together, so the batch costs about as much as a single save.
+     *
+     * @param tweets the tweets to save
+     * @return the saved tweets, in the given order
+     */
+    List<Tweet> saveAll(List<Tweet> tweets);
     
     /**
      * Finds a tweet by its ID.
@@ -26,7 +36,16 @@ public interface TweetRepository {
      * @param id the tweet ID
      * @return an Optional containing the tweet if found
      */
-    Optional<Tweet> findById(String id);
+    Optional<Tweet> findById(long id);
+
+    /**
+     * Finds the tweets with the given IDs.
+     * Unknown IDs are skipped.
+     *
+     * @param ids the tweet IDs
+     * @return list of found tweets, in the order of the given IDs
+     */
+    List<Tweet> findAllById(Collection<Long> ids);
     
     /**
      * Finds all tweets by an author.
@@ -37,14 +56,23 @@ public interface TweetRepository {
     List<Tweet> findByAuthorId(String authorId);
     
     /**
-     * Finds tweets by author.
+     * Finds the latest tweets by author.
      *
      * @param authorId the author ID
      * @param limit maximum number of tweets to return
-     * @return list of tweets.
+     * @return list of tweets (newest first)
      */
     List<Tweet> findByAuthorIdAfter(String authorId, int limit);
 
+    /**
+     * Finds the latest tweets by author between the cursors of a timeline query.
+     *
+     * @param authorId the author ID
+     * @param query the cursors and maximum number of tweets to return
+     * @return list of tweets (newest first)
+     */
+    List<Tweet> findByAuthorId(String authorId, TimelineQuery query);
+
     /**
      * Finds all tweets.
      *
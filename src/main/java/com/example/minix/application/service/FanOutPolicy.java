@@ -0,0 +1,112 @@
+package com.example.minix.application.service;
+
+import com.example.minix.application.port.out.FollowRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides how an author's tweets reach their followers' timelines.
+ * <p>
+ * Tweets from regular authors are fanned out on write. Authors with more followers than the
+ * configured threshold are pulled on read instead, their recent tweets are merged into the reader's
+ * timeline when it is requested. This bounds the write amplification of a single tweet.
+ * <p>
+ * The authors pulled on read are kept in memory, added when a follow pushes them over the threshold, so
+ * readers only check the few of them they follow. Each carries a stamp from a single counter, taken again
+ * whenever they post, so the stamps a reader follows only ever grow as the pulled tweets change.
+ */
+@Component
+public class FanOutPolicy {
+
+    private final FollowRepository followRepository;
+    private final int celebrityThreshold;
+    // author ID -> stamp of their latest change
+    private final Map<String, Long> pulledAuthors = new ConcurrentHashMap<>();
+    private final AtomicLong stamps = new AtomicLong();
+
+    public FanOutPolicy(final FollowRepository followRepository,
+                        @Value("${timeline.fan-out.celebrity-threshold}") final int celebrityThreshold) {
+        this.followRepository = followRepository;
+        this.celebrityThreshold = celebrityThreshold;
+    }
+
+    /**
+     * Checks whether the author's tweets are merged at read time instead of fanned out.
+     *
+     * @param authorId the author ID
+     * @return true if the author has more followers than the threshold
+     */
+    public boolean isPulledOnRead(String authorId) {
+        return pulledAuthors.containsKey(authorId);
+    }
+
+    /**
+     * Pulls the followed user's tweets on read from now on if the follow pushed them over the threshold.
+     * Called once the follow is saved.
+     *
+     * @param followedId the followed user ID
+     * @return true if the followed user is pulled on read from this follow on
+     */
+    public boolean recordFollow(String followedId) {
+        return !pulledAuthors.containsKey(followedId)
+                && followRepository.countFollowers(followedId) > celebrityThreshold
+                && pulledAuthors.putIfAbsent(followedId, stamps.incrementAndGet()) == null;
+    }
+
+    /**
+     * Stamps an author pulled on read again, called once their new tweets are saved.
+     *
+     * @param authorId the author ID
+     */
+    public void recordTweet(String authorId) {
+        pulledAuthors.computeIfPresent(authorId, (author, stamp) -> stamps.incrementAndGet());
+    }
+
+    /**
+     * Marks every author over the threshold, used once the follow graph is restored on startup.
+     */
+    public void reload() {
+        for (String authorId : followRepository.findUserIdsWithMoreFollowersThan(celebrityThreshold)) {
+            pulledAuthors.putIfAbsent(authorId, stamps.incrementAndGet());
+        }
+    }
+
+    /**
+     * Finds the authors pulled on read that a user follows.
+     *
+     * @param userId the user ID
+     * @return list of author IDs
+     */
+    public List<String> findPulledAuthorsFollowedBy(String userId) {
+        List<String> authors = new ArrayList<>();
+        for (String authorId : pulledAuthors.keySet()) {
+            if (followRepository.exists(userId, authorId)) {
+                authors.add(authorId);
+            }
+        }
+        return authors;
+    }
+
+    /**
+     * Returns the sum of the stamps of the authors pulled on read that a user follows. It grows whenever one
+     * of them posts, or the user follows another one, and never repeats a previous value.
+     *
+     * @param userId the user ID
+     * @return the pulled tweets version, 0 if the user follows none of them
+     */
+    public long pulledVersion(String userId) {
+        long version = 0;
+        for (Map.Entry<String, Long> pulled : pulledAuthors.entrySet()) {
+            if (followRepository.exists(userId, pulled.getKey())) {
+                version += pulled.getValue();
+            }
+        }
+        return version;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.minix.application.usecase;
 
 import com.example.minix.application.port.out.EventPublisher;
+import com.example.minix.application.port.out.EventPublisherOverloadedException;
+import com.example.minix.application.port.out.TweetIdGenerator;
 import com.example.minix.application.port.out.TweetRepository;
 import com.example.minix.domain.event.TweetCreatedEvent;
 import com.example.minix.domain.model.Tweet;
@@ -19,6 +21,7 @@ public class CreateTweetUseCase {
 
     private final TweetRepository tweetRepository;
     private final EventPublisher eventPublisher;
+    private final TweetIdGenerator tweetIdGenerator;
 
     /**
      * Executes the creation tweet use case.
@@ -28,9 +31,13 @@ public class CreateTweetUseCase {
      * @param content the tweet content
      * @return the created tweet
      * @throws IllegalArgumentException if user does not exist
+     * @throws EventPublisherOverloadedException if the publisher sheds load, nothing is stored then
      */
     public Tweet execute(String authorId, String content) {
-        Tweet tweet = new Tweet(authorId, content);
+        // admission happens before saving, a stored tweet is always fanned out
+        eventPublisher.ensureCapacity(authorId);
+
+        Tweet tweet = new Tweet(tweetIdGenerator.nextId(), authorId, content);
         
         Tweet savedTweet = tweetRepository.save(tweet);
         
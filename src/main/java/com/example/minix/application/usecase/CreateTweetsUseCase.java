@@ -0,0 +1,77 @@
+package com.example.minix.application.usecase;
+
+import com.example.minix.application.port.out.EventPublisher;
+import com.example.minix.application.port.out.EventPublisherOverloadedException;
+import com.example.minix.application.port.out.TweetIdGenerator;
+import com.example.minix.application.port.out.TweetRepository;
+import com.example.minix.domain.event.TweetCreatedEvent;
+import com.example.minix.domain.event.TweetsCreatedEvent;
+import com.example.minix.domain.model.Tweet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use case for creating many tweets of an author at once, as done by imports and bots.
+ * Tweets are saved and published in batches: each batch is logged with a single write and fanned out by a
+ * single event, so the followers of the author are streamed once per batch rather than once per tweet.
+ */
+@Component
+@Slf4j
+public class CreateTweetsUseCase {
+
+    private final TweetRepository tweetRepository;
+    private final EventPublisher eventPublisher;
+    private final TweetIdGenerator tweetIdGenerator;
+    private final int batchSize;
+
+    public CreateTweetsUseCase(final TweetRepository tweetRepository,
+                               final EventPublisher eventPublisher,
+                               final TweetIdGenerator tweetIdGenerator,
+                               @Value("${tweet-batch.batch-size}") final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Tweet batch size must be positive");
+        }
+        this.tweetRepository = tweetRepository;
+        this.eventPublisher = eventPublisher;
+        this.tweetIdGenerator = tweetIdGenerator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Executes the create tweets use case.
+     * Every tweet is validated before any is stored, so an invalid tweet rejects the whole request.
+     *
+     * @param authorId the author ID
+     * @param contents the tweet contents, oldest first
+     * @return the created tweets, in the given order
+     * @throws IllegalArgumentException if there is no tweet or a tweet is invalid
+     * @throws EventPublisherOverloadedException if the publisher sheds load, nothing is stored then
+     */
+    public List<Tweet> execute(String authorId, List<String> contents) {
+        if (contents.isEmpty()) {
+            throw new IllegalArgumentException("Tweet batch cannot be empty");
+        }
+        List<Tweet> tweets = new ArrayList<>(contents.size());
+        for (String content : contents) {
+            tweets.add(new Tweet(tweetIdGenerator.nextId(), authorId, content));
+        }
+
+        // admission of every batch event happens before saving, a stored tweet is always fanned out
+        eventPublisher.ensureCapacity(authorId, (tweets.size() + batchSize - 1) / batchSize);
+
+        List<Tweet> savedTweets = new ArrayList<>(tweets.size());
+        for (int from = 0; from < tweets.size(); from += batchSize) {
+            List<Tweet> batch = tweetRepository.saveAll(tweets.subList(from, Math.min(from + batchSize, tweets.size())));
+            eventPublisher.publish(new TweetsCreatedEvent(authorId, batch.stream()
+                    .map(tweet -> new TweetCreatedEvent(tweet.id(), tweet.authorId(), tweet.content(), tweet.createdAt()))
+                    .toList()));
+            savedTweets.addAll(batch);
+        }
+        log.debug("Created {} tweets for user {}", savedTweets.size(), authorId);
+        return savedTweets;
+    }
+}
@@ -1,12 +1,22 @@
 package com.example.minix.application.usecase;
 
 import com.example.minix.application.port.out.TimelineRepository;
+import com.example.minix.application.port.out.TweetRepository;
+import com.example.minix.application.service.FanOutPolicy;
+import com.example.minix.domain.model.TimelineCursor;
+import com.example.minix.domain.model.TimelineEntry;
 import com.example.minix.domain.model.TimelineItem;
-import lombok.RequiredArgsConstructor;
+import com.example.minix.domain.model.TimelineQuery;
+import com.example.minix.domain.model.Tweet;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Use case for retrieving a user's timeline.
@@ -16,11 +26,17 @@ import java.util.List;
 public class GetTimelineUseCase {
 
     private final TimelineRepository timelineRepository;
+    private final TweetRepository tweetRepository;
+    private final FanOutPolicy fanOutPolicy;
     private final int maxTimelineLength;
 
     public GetTimelineUseCase(final TimelineRepository timelineRepository,
+                              final TweetRepository tweetRepository,
+                              final FanOutPolicy fanOutPolicy,
                               @Value("${timeline.max-length}") final int maxTimelineLength) {
         this.timelineRepository = timelineRepository;
+        this.tweetRepository = tweetRepository;
+        this.fanOutPolicy = fanOutPolicy;
         this.maxTimelineLength = maxTimelineLength;
     }
 
@@ -33,6 +49,96 @@ public class GetTimelineUseCase {
      * @return list of timeline items (newest first)
      */
     public List<TimelineItem> execute(String userId) {
-        return timelineRepository.getTimeline(userId, maxTimelineLength);
+        return execute(userId, null, null, 0);
+    }
+
+    /**
+     * Executes the get timeline use case for a page of the timeline.
+     * Returns the newest items between the cursors from the user's pre-computed timeline, merged with
+     * the tweets of followed users that are pulled on read instead of fanned out.
+     * The timeline only holds tweet references, the tweets are hydrated with a single multi-get.
+     *
+     * @param userId the user ID
+     * @param before only items older than this cursor are returned, optional
+     * @param since only items newer than this cursor are returned, optional
+     * @param limit maximum number of items, capped to the max timeline length. 0 for the max length
+     * @return list of timeline items (newest first)
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public List<TimelineItem> execute(String userId, TimelineCursor before, TimelineCursor since, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        TimelineQuery query = new TimelineQuery(before, since,
+                limit == 0 ? maxTimelineLength : Math.min(limit, maxTimelineLength));
+        List<TimelineEntry> entries = timelineRepository.getTimeline(userId, query);
+
+        Map<Long, Tweet> pulledTweets = new HashMap<>();
+        for (String authorId : fanOutPolicy.findPulledAuthorsFollowedBy(userId)) {
+            tweetRepository.findByAuthorId(authorId, query).forEach(tweet -> pulledTweets.put(tweet.id(), tweet));
+        }
+        if (!pulledTweets.isEmpty()) {
+            entries = merge(entries, pulledTweets.values(), query.limit());
+        }
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        return hydrate(entries, pulledTweets);
+    }
+
+    /**
+     * Returns the version of the user's timeline, which changes whenever the items returned by
+     * {@link #execute} may have changed: the materialized timeline changed, or a followed user whose tweets
+     * are pulled on read posted or was followed. Reading the version before the timeline guarantees the timeline
+     * is at least as recent as the version.
+     * <p>
+     * Both the timeline version and the pulled tweets version only grow, and each change increases one of them,
+     * so their sum never repeats a previous value.
+     *
+     * @param userId the user ID
+     * @return the timeline version
+     */
+    public long version(String userId) {
+        return timelineRepository.getTimelineVersion(userId) + fanOutPolicy.pulledVersion(userId);
+    }
+
+    private List<TimelineEntry> merge(List<TimelineEntry> entries, Iterable<Tweet> pulledTweets, int limit) {
+        List<TimelineEntry> merged = new ArrayList<>(entries);
+        pulledTweets.forEach(tweet -> merged.add(TimelineEntry.of(tweet)));
+        merged.sort(TimelineEntry.NEWEST_FIRST);
+
+        // a tweet may have been fanned out before its author crossed the threshold
+        Set<Long> seen = new HashSet<>();
+        List<TimelineEntry> result = new ArrayList<>(limit);
+        for (TimelineEntry entry : merged) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (seen.add(entry.tweetId())) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private List<TimelineItem> hydrate(List<TimelineEntry> entries, Map<Long, Tweet> knownTweets) {
+        List<Long> missingIds = entries.stream()
+                .map(TimelineEntry::tweetId)
+                .filter(tweetId -> !knownTweets.containsKey(tweetId))
+                .toList();
+        Map<Long, Tweet> tweets = new HashMap<>(knownTweets);
+        if (!missingIds.isEmpty()) {
+            tweetRepository.findAllById(missingIds).forEach(tweet -> tweets.put(tweet.id(), tweet));
+        }
+
+        List<TimelineItem> items = new ArrayList<>(entries.size());
+        for (TimelineEntry entry : entries) {
+            Tweet tweet = tweets.get(entry.tweetId());
+            if (tweet != null) {
+                items.add(TimelineItem.of(tweet));
+            }
+        }
+        return items;
     }
 }
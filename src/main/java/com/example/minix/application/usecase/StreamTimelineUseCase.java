@@ -0,0 +1,34 @@
+package com.example.minix.application.usecase;
+
+import com.example.minix.application.port.out.TimelineSubscription;
+import com.example.minix.application.port.out.TimelineUpdatePublisher;
+import com.example.minix.application.service.FanOutPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use case for streaming the new items of a user's timeline as they are fanned out.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamTimelineUseCase {
+
+    private final TimelineUpdatePublisher timelineUpdatePublisher;
+    private final FanOutPolicy fanOutPolicy;
+
+    /**
+     * Executes the stream timeline use case.
+     * Only items added from now on are streamed, clients read the current timeline first.
+     * The user watches the followed authors pulled on read, whose tweets reach no timeline.
+     *
+     * @param userId the user ID
+     * @return the subscription, to close once the user disconnects
+     */
+    public TimelineSubscription execute(String userId) {
+        TimelineSubscription subscription = timelineUpdatePublisher.subscribe(userId);
+        // after subscribing, so an author followed meanwhile is watched by the follow handler instead
+        fanOutPolicy.findPulledAuthorsFollowedBy(userId)
+                .forEach(authorId -> timelineUpdatePublisher.watchAuthor(userId, authorId));
+        return subscription;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.minix.config;
+
+import com.example.minix.infrastructure.out.messaging.LaneExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EventLaneConfiguration {
+
+    public static final String EVENT_LANES = "EVENT_LANES";
+    public static final String FAN_OUT_LANES = "FAN_OUT_LANES";
+
+    @Bean(EVENT_LANES)
+    public LaneExecutor eventLanes(@Value("${event-publisher.lanes.count}") int count,
+                                   @Value("${event-publisher.lanes.queue-capacity}") int queueCapacity,
+                                   @Value("${spring.threads.virtual.enabled}") boolean virtualThreads,
+                                   @Value("${event-publisher.lanes.max-concurrency}") int maxConcurrency) {
+        return new LaneExecutor("event-lane", count, queueCapacity, virtualThreads, maxConcurrency);
+    }
+
+    /**
+     * Lanes writing fan-out chunks, kept apart from the event lanes so the chunks of a large fan-out do not
+     * queue up in front of the other events of the users sharing their lanes.
+     */
+    @Bean(FAN_OUT_LANES)
+    public LaneExecutor fanOutLanes(@Value("${event-publisher.fan-out.lanes.count}") int count,
+                                    @Value("${event-publisher.fan-out.lanes.queue-capacity}") int queueCapacity,
+                                    @Value("${spring.threads.virtual.enabled}") boolean virtualThreads,
+                                    @Value("${event-publisher.fan-out.lanes.max-concurrency}") int maxConcurrency) {
+        return new LaneExecutor("fan-out-lane", count, queueCapacity, virtualThreads, maxConcurrency);
+    }
+}
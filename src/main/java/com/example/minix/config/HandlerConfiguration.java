@@ -3,6 +3,7 @@ package com.example.minix.config;
 import com.example.minix.application.port.out.EventPublisher;
 import com.example.minix.domain.event.EventType;
 import com.example.minix.application.handler.TweetCreatedEventHandler;
+import com.example.minix.application.handler.TweetsCreatedEventHandler;
 import com.example.minix.application.handler.UserFollowedEventHandler;
 import jakarta.annotation.PostConstruct;
 import org.springframework.context.annotation.Configuration;
@@ -12,18 +13,22 @@ public class HandlerConfiguration {
 
     private final EventPublisher publisher;
     private final TweetCreatedEventHandler tweetCreatedEventHandler;
+    private final TweetsCreatedEventHandler tweetsCreatedEventHandler;
     private final UserFollowedEventHandler userFollowedEventHandler;
 
     public HandlerConfiguration(final EventPublisher publisher, final TweetCreatedEventHandler tweetCreatedEventHandler,
+            final TweetsCreatedEventHandler tweetsCreatedEventHandler,
             final UserFollowedEventHandler userFollowedEventHandler) {
         this.publisher = publisher;
         this.tweetCreatedEventHandler = tweetCreatedEventHandler;
+        this.tweetsCreatedEventHandler = tweetsCreatedEventHandler;
         this.userFollowedEventHandler = userFollowedEventHandler;
     }
 
     @PostConstruct
     public void registerHandlers() {
         publisher.addListener(EventType.TWEET_CREATED, tweetCreatedEventHandler);
+        publisher.addListener(EventType.TWEETS_CREATED, tweetsCreatedEventHandler);
         publisher.addListener(EventType.USER_FOLLOWED, userFollowedEventHandler);
     }
 }
@@ -2,4 +2,11 @@ package com.example.minix.domain.event;
 
 public interface Event {
     EventType getType();
+
+    /**
+     * Key used to order events, events with the same key are handled one at a time in publication order.
+     *
+     * @return the ID of the user whose data the event changes first
+     */
+    String partitionKey();
 }
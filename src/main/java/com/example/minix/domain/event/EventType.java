@@ -1,5 +1,5 @@
 package com.example.minix.domain.event;
 
 public enum EventType {
-    TWEET_CREATED, USER_FOLLOWED
+    TWEET_CREATED, TWEETS_CREATED, USER_FOLLOWED
 }
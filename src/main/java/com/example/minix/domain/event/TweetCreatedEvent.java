@@ -5,10 +5,15 @@ import java.time.Instant;
 /**
  * Domain event representing a tweet creation.
  */
-public record TweetCreatedEvent(String tweetId, String authorId,
+public record TweetCreatedEvent(long tweetId, String authorId,
                                 String content, Instant createdAt) implements Event {
     @Override
     public EventType getType() {
         return EventType.TWEET_CREATED;
     }
+
+    @Override
+    public String partitionKey() {
+        return authorId;
+    }
 }
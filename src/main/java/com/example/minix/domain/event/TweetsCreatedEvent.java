@@ -0,0 +1,28 @@
+package com.example.minix.domain.event;
+
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * Domain event representing tweets created together by an author, fanned out in a single pass.
+ */
+public record TweetsCreatedEvent(String authorId, List<TweetCreatedEvent> tweets) implements Event {
+
+    public TweetsCreatedEvent {
+        Assert.notEmpty(tweets, "Created tweets required");
+        Assert.isTrue(tweets.stream().allMatch(tweet -> tweet.authorId().equals(authorId)),
+                "Created tweets must share their author");
+        tweets = List.copyOf(tweets);
+    }
+
+    @Override
+    public EventType getType() {
+        return EventType.TWEETS_CREATED;
+    }
+
+    @Override
+    public String partitionKey() {
+        return authorId;
+    }
+}
@@ -8,4 +8,9 @@ public record UserFollowedEvent(String followerId, String followedId) implements
     public EventType getType() {
         return EventType.USER_FOLLOWED;
     }
+
+    @Override
+    public String partitionKey() {
+        return followerId;
+    }
 }
@@ -1,42 +1,282 @@
 package com.example.minix.domain.model;
 
-import java.util.Comparator;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeSet;
+import java.util.concurrent.locks.StampedLock;
 
+/**
+ * Materialized timeline of a single user.
+ * <p>
+ * Entries are kept in a fixed-size ring buffer ordered from oldest to newest, so memory per user is
+ * bounded by the capacity. Inserting the newest entry (the fan-out case) is O(1); older entries coming
+ * from backfill are shifted into place. Once full, the oldest entries are evicted.
+ * <p>
+ * Only the creation time (as epoch nanos) and the tweet ID of each entry are stored, in parallel primitive arrays.
+ * <p>
+ * Writes for a user are expected to come from its fan-out lane, and from its event lane for backfills, so the
+ * write lock is rarely contended. Reads are optimistic: they copy the primitives they need and only fall back to the read
+ * lock when a write happened meanwhile.
+ * <p>
+ * A version is bumped by every write that changes the entries, so readers can tell an unchanged timeline apart
+ * without reading it.
+ */
 public class Timeline {
 
-    private final NavigableSet<TimelineItem> items;
+    private static final long[] NO_ENTRIES = new long[0];
 
-    public Timeline() {
-        this.items = new TreeSet<>(
-                Comparator.comparing(TimelineItem::createdAt)
-                        .thenComparing(TimelineItem::tweetId)
-        );
+    private final StampedLock lock = new StampedLock();
+    private final long[] timestamps;
+    private final long[] tweetIds;
+    private int head;
+    private int size;
+    private long version;
+
+    public Timeline(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Timeline capacity must be positive");
+        }
+        this.timestamps = new long[capacity];
+        this.tweetIds = new long[capacity];
+    }
+
+    public void add(TimelineEntry entry) {
+        Objects.requireNonNull(entry, "Timeline entry cannot be null");
+        long stamp = lock.writeLock();
+        try {
+            if (insert(toEpochNanos(entry.createdAt()), entry.tweetId())) {
+                version++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds several entries under a single lock acquisition.
+     * Entries are inserted oldest first, so each one lands at the newest end when they are newer than the timeline.
+     *
+     * @param entries the entries to add, in any order
+     */
+    public void addAll(Collection<TimelineEntry> entries) {
+        TimelineEntry[] oldestFirst = entries.toArray(TimelineEntry[]::new);
+        Arrays.sort(oldestFirst, TimelineEntry.NEWEST_FIRST.reversed());
+        long stamp = lock.writeLock();
+        try {
+            boolean changed = false;
+            for (TimelineEntry entry : oldestFirst) {
+                changed |= insert(toEpochNanos(entry.createdAt()), entry.tweetId());
+            }
+            if (changed) {
+                version++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public Optional<TimelineEntry> oldest() {
+        List<TimelineEntry> oldest = toEntries(read(ReadQuery.OLDEST));
+        return oldest.isEmpty() ? Optional.empty() : Optional.of(oldest.get(0));
+    }
+
+    public List<TimelineEntry> items(int max) {
+        return toEntries(read(new ReadQuery(null, null, max)));
+    }
+
+    /**
+     * Returns the entries between the query cursors, newest first.
+     * Cursors are located with binary searches over the ordered buffer.
+     *
+     * @param query the page to read
+     * @return list of timeline entries (newest first)
+     */
+    public List<TimelineEntry> items(TimelineQuery query) {
+        return toEntries(read(new ReadQuery(query.before(), query.since(), query.limit())));
     }
 
-    public synchronized void add(TimelineItem item) {
-        Objects.requireNonNull(item, "Timeline item cannot be null");
-        items.add(item);
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int current = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                current = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return current;
     }
 
-    public Optional<TimelineItem> oldest() {
-        return this.isEmpty()
-                ? Optional.empty()
-                : Optional.of(items.first());
+    /**
+     * Returns the version of the entries, which increases whenever they change.
+     */
+    public long version() {
+        long stamp = lock.tryOptimisticRead();
+        long current = version;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                current = version;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return current;
     }
 
-    public synchronized List<TimelineItem> items(int max) {
-        return items.descendingSet()
-                .stream()
-                .limit(max)
-                .toList();
+    public int capacity() {
+        return timestamps.length;
     }
 
     public boolean isEmpty() {
-        return items == null || items.isEmpty();
+        return size() == 0;
+    }
+
+    /**
+     * Inserts an entry at its position.
+     *
+     * @return false if the entry was already there or is too old to be retained
+     */
+    private boolean insert(long timestamp, long tweetId) {
+        // walk back from the newest entry, in-order inserts stop right away
+        int position = size;
+        while (position > 0) {
+            int comparison = compare(head, position - 1, timestamp, tweetId);
+            if (comparison == 0) {
+                return false;
+            }
+            if (comparison < 0) {
+                break;
+            }
+            position--;
+        }
+
+        if (size == capacity()) {
+            if (position == 0) {
+                // older than everything retained in a full timeline
+                return false;
+            }
+            evictOldest();
+            position--;
+        }
+
+        for (int i = size; i > position; i--) {
+            move(i - 1, i);
+        }
+        int slot = slot(head, position);
+        timestamps[slot] = timestamp;
+        tweetIds[slot] = tweetId;
+        size++;
+        return true;
+    }
+
+    /**
+     * Copies the requested entries as (timestamp, tweet ID) pairs, newest first.
+     * The copy is taken optimistically and retried under the read lock if a write interleaved.
+     */
+    private long[] read(ReadQuery query) {
+        long stamp = lock.tryOptimisticRead();
+        long[] copy = copy(query);
+        if (lock.validate(stamp)) {
+            return copy;
+        }
+        stamp = lock.readLock();
+        try {
+            return copy(query);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Reads head and size once, so an interleaved write can yield a stale copy but never an out of range index.
+     */
+    private long[] copy(ReadQuery query) {
+        int head = this.head;
+        int size = Math.min(this.size, capacity());
+        if (query == ReadQuery.OLDEST) {
+            return size == 0 ? NO_ENTRIES : copy(head, 1, 1);
+        }
+        int from = query.since() != null ? search(head, size, query.since(), true) : 0;
+        int to = query.before() != null ? search(head, size, query.before(), false) : size;
+        int count = Math.max(Math.min(query.limit(), to - from), 0);
+        return copy(head, to, count);
+    }
+
+    private long[] copy(int head, int toIndex, int count) {
+        long[] copy = new long[count * 2];
+        for (int i = 0; i < count; i++) {
+            int slot = slot(head, toIndex - 1 - i);
+            copy[i * 2] = timestamps[slot];
+            copy[i * 2 + 1] = tweetIds[slot];
+        }
+        return copy;
+    }
+
+    private int compare(int head, int index, long timestamp, long tweetId) {
+        int slot = slot(head, index);
+        int comparison = Long.compare(timestamps[slot], timestamp);
+        return comparison != 0 ? comparison : Long.compare(tweetIds[slot], tweetId);
+    }
+
+    private int search(int head, int size, TimelineCursor cursor, boolean skipEqual) {
+        long timestamp = toEpochNanos(cursor.createdAt());
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(head, middle, timestamp, cursor.tweetId());
+            if (comparison < 0 || (skipEqual && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void evictOldest() {
+        head = (head + 1) % capacity();
+        size--;
+    }
+
+    private void move(int from, int to) {
+        int fromSlot = slot(head, from);
+        int toSlot = slot(head, to);
+        timestamps[toSlot] = timestamps[fromSlot];
+        tweetIds[toSlot] = tweetIds[fromSlot];
+    }
+
+    private int slot(int head, int index) {
+        return (head + index) % capacity();
+    }
+
+    private static List<TimelineEntry> toEntries(long[] copy) {
+        TimelineEntry[] entries = new TimelineEntry[copy.length / 2];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new TimelineEntry(copy[i * 2 + 1], fromEpochNanos(copy[i * 2]));
+        }
+        return Collections.unmodifiableList(Arrays.asList(entries));
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    private static Instant fromEpochNanos(long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+
+    /**
+     * Range of a read, {@link #OLDEST} reads the single oldest entry.
+     */
+    private record ReadQuery(TimelineCursor before, TimelineCursor since, int limit) {
+        private static final ReadQuery OLDEST = new ReadQuery(null, null, 1);
     }
 }
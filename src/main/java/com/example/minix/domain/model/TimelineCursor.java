@@ -0,0 +1,33 @@
+package com.example.minix.domain.model;
+
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+
+/**
+ * Domain model representing a position in a timeline.
+ * Positions follow the timeline order: creation time, then tweet ID.
+ */
+public record TimelineCursor(Instant createdAt, long tweetId) {
+
+    public TimelineCursor {
+        Assert.notNull(createdAt, "Created at cannot be null");
+        Assert.isTrue(tweetId > 0, "Tweet ID must be positive");
+    }
+
+    public static TimelineCursor of(TimelineEntry entry) {
+        return new TimelineCursor(entry.createdAt(), entry.tweetId());
+    }
+
+    /**
+     * Compares this position with the position of a tweet.
+     *
+     * @param createdAt the tweet creation time
+     * @param tweetId the tweet ID
+     * @return negative if this position is older than the tweet, positive if newer, zero if the same
+     */
+    public int compareTo(Instant createdAt, long tweetId) {
+        int comparison = this.createdAt.compareTo(createdAt);
+        return comparison != 0 ? comparison : Long.compare(this.tweetId, tweetId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.minix.domain.model;
+
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+/**
+ * Domain model representing a reference to a tweet in a materialized timeline.
+ * Only the ordering key is stored, the content is hydrated from the tweet store at read time.
+ */
+public record TimelineEntry(long tweetId, Instant createdAt) {
+
+    /**
+     * Timeline order, newest first.
+     */
+    public static final Comparator<TimelineEntry> NEWEST_FIRST = Comparator.comparing(TimelineEntry::createdAt)
+            .thenComparingLong(TimelineEntry::tweetId)
+            .reversed();
+
+    public TimelineEntry {
+        Assert.isTrue(tweetId > 0, "Tweet ID must be positive");
+        Assert.notNull(createdAt, "Created at cannot be null");
+    }
+
+    public static TimelineEntry of(Tweet tweet) {
+        return new TimelineEntry(tweet.id(), tweet.createdAt());
+    }
+}
@@ -7,17 +7,21 @@ import java.time.Instant;
 /**
  * Domain model representing a tweet in a user's timeline.
  */
-public record TimelineItem(String tweetId, String authorId, String content,
+public record TimelineItem(long tweetId, String authorId, String content,
                            Instant createdAt) implements Comparable<TimelineItem> {
 
     public TimelineItem {
 
-        Assert.hasText(tweetId, "Tweet ID cannot be empty");
+        Assert.isTrue(tweetId > 0, "Tweet ID must be positive");
         Assert.hasText(authorId, "Author ID cannot be empty");
         Assert.hasText(content, "Content cannot be empty");
         Assert.notNull(createdAt, "Created at cannot be null");
     }
 
+    public static TimelineItem of(Tweet tweet) {
+        return new TimelineItem(tweet.id(), tweet.authorId(), tweet.content(), tweet.createdAt());
+    }
+
     /**
      * Sort by creation time, newest first (reverse chronological).
      */
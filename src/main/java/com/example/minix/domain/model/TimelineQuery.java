@@ -0,0 +1,33 @@
+package com.example.minix.domain.model;
+
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+
+/**
+ * Domain model representing a page of a timeline.
+ * Selects the newest entries strictly older than {@code before} and strictly newer than {@code since},
+ * any of them being optional.
+ */
+public record TimelineQuery(TimelineCursor before, TimelineCursor since, int limit) {
+
+    public TimelineQuery {
+        Assert.isTrue(limit > 0, "Limit must be positive");
+    }
+
+    public static TimelineQuery latest(int limit) {
+        return new TimelineQuery(null, null, limit);
+    }
+
+    /**
+     * Checks whether a tweet position falls within the cursors of this query.
+     *
+     * @param createdAt the tweet creation time
+     * @param tweetId the tweet ID
+     * @return true if the position is between the cursors
+     */
+    public boolean contains(Instant createdAt, long tweetId) {
+        return (before == null || before.compareTo(createdAt, tweetId) > 0)
+                && (since == null || since.compareTo(createdAt, tweetId) < 0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.minix.domain.model;
+
+import org.springframework.util.Assert;
+
+/**
+ * A new item pushed to a live timeline stream.
+ * When the stream fell behind, {@code missed} counts the items dropped just before this one, so the client
+ * can fetch them with a timeline query instead.
+ */
+public record TimelineUpdate(TimelineItem item, int missed) {
+
+    public TimelineUpdate {
+        Assert.notNull(item, "Timeline item cannot be null");
+        Assert.isTrue(missed >= 0, "Missed items cannot be negative");
+    }
+}
@@ -3,25 +3,25 @@ package com.example.minix.domain.model;
 import org.springframework.util.Assert;
 
 import java.time.Instant;
-import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Domain model representing a tweet.
  * Immutable and enforces business rules (280 character limit).
+ * IDs are positive and time-ordered, see {@code TweetIdGenerator}.
  */
-public record Tweet(String id, String authorId, String content, Instant createdAt) {
+public record Tweet(long id, String authorId, String content, Instant createdAt) {
 
     private static final int MAX_CONTENT_LENGTH = 280;
 
     /**
      * Creates a new tweet with validation.
      *
+     * @param id       the generated tweet ID
      * @param authorId the ID of the tweet author
      * @param content  the tweet content
      */
-    public Tweet(String authorId, String content) {
-        this(UUID.randomUUID().toString(), authorId, content, Instant.now());
+    public Tweet(long id, String authorId, String content) {
+        this(id, authorId, content, Instant.now());
     }
 
     /**
@@ -29,6 +29,7 @@ public record Tweet(String id, String authorId, String content, Instant createdA
      */
     public Tweet {
         validateContent(content);
+        Assert.isTrue(id > 0, "Tweet ID must be positive");
         Assert.hasText(authorId, "Tweet ID cannot be empty");
     }
 
@@ -48,12 +49,12 @@ public record Tweet(String id, String authorId, String content, Instant createdA
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Tweet tweet = (Tweet) o;
-        return Objects.equals(id, tweet.id);
+        return id == tweet.id;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Long.hashCode(id);
     }
 
 }
@@ -0,0 +1,49 @@
+package com.example.minix.infrastructure.in.reactive;
+
+import com.example.minix.config.AuthFilterProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import static com.example.minix.infrastructure.in.web.ControllerAuthConstants.USER_ID_HEADER;
+
+/**
+ * Web filter to ensure requests have the required authentication header, the reactive counterpart of the
+ * servlet AuthenticationFilter.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Order(1)
+public class AuthenticationWebFilter implements WebFilter {
+
+    private final AuthFilterProperties authFilterProperties;
+
+    public AuthenticationWebFilter(AuthFilterProperties authFilterProperties) {
+        this.authFilterProperties = authFilterProperties;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        if (isExcluded(path)) {
+            return chain.filter(exchange);
+        }
+
+        String userId = exchange.getRequest().getHeaders().getFirst(USER_ID_HEADER);
+        if (userId == null || userId.trim().isEmpty()) {
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
+        }
+
+        return chain.filter(exchange);
+    }
+
+    private boolean isExcluded(String path) {
+        return authFilterProperties.excludedPaths().stream().anyMatch(path::startsWith);
+    }
+}
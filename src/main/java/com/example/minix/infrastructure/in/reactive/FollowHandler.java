@@ -0,0 +1,38 @@
+package com.example.minix.infrastructure.in.reactive;
+
+import com.example.minix.application.usecase.FollowUserUseCase;
+import com.example.minix.infrastructure.in.web.dto.FollowRequest;
+import com.example.minix.infrastructure.in.web.dto.FollowResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static com.example.minix.infrastructure.in.web.ControllerAuthConstants.USER_ID_HEADER;
+
+/**
+ * Reactive handler for follow operations.
+ * Saves may wait for the write-ahead log, so they run off the event loop.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class FollowHandler {
+
+    private final FollowUserUseCase followUserUseCase;
+    private final RequestBodies requestBodies;
+
+    public FollowHandler(FollowUserUseCase followUserUseCase, RequestBodies requestBodies) {
+        this.followUserUseCase = followUserUseCase;
+        this.requestBodies = requestBodies;
+    }
+
+    public Mono<ServerResponse> followUser(ServerRequest request) {
+        String userId = request.headers().firstHeader(USER_ID_HEADER);
+        return requestBodies.read(request, FollowRequest.class)
+                .publishOn(Schedulers.boundedElastic())
+                .map(body -> FollowResponse.fromDomain(followUserUseCase.execute(userId, body.followedId())))
+                .flatMap(follow -> ServerResponse.ok().bodyValue(follow));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.minix.infrastructure.in.reactive;
+
+import com.example.minix.application.port.out.EventPublisherOverloadedException;
+import com.example.minix.infrastructure.in.web.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Functional routes of the reactive adapters, served on the event loop instead of a thread per request.
+ * Enabled by the {@code reactive} profile, which runs the application as a reactive web application.
+ * <p>
+ * Errors are translated like the servlet GlobalExceptionHandler does.
+ * <p>
+ * The servlet stack stays on the classpath for the default profile, so Netty is picked explicitly: Spring Boot
+ * would otherwise serve the reactive application from Tomcat.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveRoutes {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> routes(TweetHandler tweetHandler, FollowHandler followHandler,
+            TimelineHandler timelineHandler) {
+        return RouterFunctions.route()
+                .POST("/tweets/batch", tweetHandler::createTweets)
+                .POST("/tweets", tweetHandler::createTweet)
+                .POST("/follow", followHandler::followUser)
+                .GET("/timeline/stream", timelineHandler::streamTimeline)
+                .GET("/timeline", timelineHandler::getTimeline)
+                .onError(IllegalArgumentException.class,
+                        (e, request) -> error(HttpStatus.BAD_REQUEST, e.getMessage()))
+                .onError(EventPublisherOverloadedException.class, (e, request) -> ServerResponse
+                        .status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfter().toSeconds()))
+                        .bodyValue(new ErrorResponse(e.getMessage())))
+                .onError(e -> !(e instanceof ResponseStatusException), (e, request) -> {
+                    log.warn("Unhandled exception. Consider adding a handler", e);
+                    return error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+                })
+                .build();
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status).bodyValue(new ErrorResponse(message));
+    }
+}
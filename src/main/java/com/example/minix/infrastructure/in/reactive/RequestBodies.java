@@ -0,0 +1,46 @@
+package com.example.minix.infrastructure.in.reactive;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and validates request bodies, as {@code @RequestBody @Valid} does for the servlet controllers.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class RequestBodies {
+
+    private final Validator validator;
+
+    public RequestBodies(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Decodes the body of a request.
+     *
+     * @return the body, or an IllegalArgumentException with the violated constraints when it is missing or invalid
+     */
+    public <T> Mono<T> read(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Request body is required")))
+                .handle((body, sink) -> {
+                    Set<ConstraintViolation<T>> violations = validator.validate(body);
+                    if (violations.isEmpty()) {
+                        sink.next(body);
+                    } else {
+                        sink.error(new IllegalArgumentException(violations.stream()
+                                .map(ConstraintViolation::getMessage)
+                                .sorted()
+                                .collect(Collectors.joining(", "))));
+                    }
+                });
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.minix.infrastructure.in.reactive;
+
+import com.example.minix.application.usecase.GetTimelineUseCase;
+import com.example.minix.application.usecase.StreamTimelineUseCase;
+import com.example.minix.domain.model.TimelineCursor;
+import com.example.minix.infrastructure.in.web.TimelineCursorCodec;
+import com.example.minix.infrastructure.in.web.TimelineResponseCache;
+import com.example.minix.infrastructure.in.web.TimelineStreamEvents;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static com.example.minix.infrastructure.in.web.ControllerAuthConstants.USER_ID_HEADER;
+
+/**
+ * Reactive handler for timeline operations, with the same cursors and ETags as the servlet controller.
+ * ETags are checked on the event loop, the timeline version and follow graph being in memory. Pages are read
+ * on the bounded elastic scheduler, since hydrating tweets may read the persistent tweet store.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class TimelineHandler {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<Object>> SERVER_SENT_EVENTS =
+            new ParameterizedTypeReference<>() { };
+
+    private final GetTimelineUseCase getTimelineUseCase;
+    private final TimelineResponseCache responseCache;
+    private final StreamTimelineUseCase streamTimelineUseCase;
+    private final TimelineStreamEvents streamEvents;
+
+    public TimelineHandler(GetTimelineUseCase getTimelineUseCase, TimelineResponseCache responseCache,
+            StreamTimelineUseCase streamTimelineUseCase, TimelineStreamEvents streamEvents) {
+        this.getTimelineUseCase = getTimelineUseCase;
+        this.responseCache = responseCache;
+        this.streamTimelineUseCase = streamTimelineUseCase;
+        this.streamEvents = streamEvents;
+    }
+
+    public Mono<ServerResponse> getTimeline(ServerRequest request) {
+        return Mono.defer(() -> {
+            String userId = request.headers().firstHeader(USER_ID_HEADER);
+            TimelineCursor before = TimelineCursorCodec.decode(request.queryParam("before").orElse(null));
+            TimelineCursor since = TimelineCursorCodec.decode(request.queryParam("since").orElse(null));
+            int limit = request.queryParam("limit").map(Integer::parseInt).orElse(0);
+
+            // the version is read first, so the page served under its ETag is at least as recent
+            String etag = responseCache.etag(getTimelineUseCase.version(userId), before, since, limit);
+            if (request.exchange().checkNotModified(etag)) {
+                return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return Mono.fromSupplier(() -> responseCache.get(userId, etag, before, since, limit,
+                            () -> getTimelineUseCase.execute(userId, before, since, limit)))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(body -> ServerResponse.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(body));
+        });
+    }
+
+    public Mono<ServerResponse> streamTimeline(ServerRequest request) {
+        String userId = request.headers().firstHeader(USER_ID_HEADER);
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(streamEvents.events(() -> streamTimelineUseCase.execute(userId)), SERVER_SENT_EVENTS);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.minix.infrastructure.in.reactive;
+
+import com.example.minix.application.usecase.CreateTweetUseCase;
+import com.example.minix.application.usecase.CreateTweetsUseCase;
+import com.example.minix.infrastructure.in.web.TweetBatchReader;
+import com.example.minix.infrastructure.in.web.dto.CreateTweetRequest;
+import com.example.minix.infrastructure.in.web.dto.TweetResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+
+import static com.example.minix.infrastructure.in.web.ControllerAuthConstants.USER_ID_HEADER;
+
+/**
+ * Reactive handler for tweet operations.
+ * Saves may wait for the write-ahead log, so they run off the event loop.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class TweetHandler {
+
+    private final CreateTweetUseCase createTweetUseCase;
+    private final CreateTweetsUseCase createTweetsUseCase;
+    private final RequestBodies requestBodies;
+    private final TweetBatchReader batchReader;
+
+    public TweetHandler(CreateTweetUseCase createTweetUseCase, CreateTweetsUseCase createTweetsUseCase,
+            RequestBodies requestBodies, TweetBatchReader batchReader) {
+        this.createTweetUseCase = createTweetUseCase;
+        this.createTweetsUseCase = createTweetsUseCase;
+        this.requestBodies = requestBodies;
+        this.batchReader = batchReader;
+    }
+
+    public Mono<ServerResponse> createTweet(ServerRequest request) {
+        String userId = request.headers().firstHeader(USER_ID_HEADER);
+        return requestBodies.read(request, CreateTweetRequest.class)
+                .publishOn(Schedulers.boundedElastic())
+                .map(body -> TweetResponse.fromDomain(createTweetUseCase.execute(userId, body.content())))
+                .flatMap(tweet -> ServerResponse.status(HttpStatus.CREATED).bodyValue(tweet));
+    }
+
+    /**
+     * Creates many tweets of the user at once, from a JSON array or newline-delimited JSON decoded as it streams in.
+     */
+    public Mono<ServerResponse> createTweets(ServerRequest request) {
+        String userId = request.headers().firstHeader(USER_ID_HEADER);
+        return request.bodyToFlux(CreateTweetRequest.class)
+                .collect(ArrayList<String>::new, batchReader::add)
+                .publishOn(Schedulers.boundedElastic())
+                .map(contents -> createTweetsUseCase.execute(userId, contents).stream()
+                        .map(TweetResponse::fromDomain)
+                        .toList())
+                .flatMap(tweets -> ServerResponse.status(HttpStatus.CREATED).bodyValue(tweets));
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.minix.infrastructure.in.web;
 
+import com.example.minix.application.port.out.EventPublisherOverloadedException;
 import com.example.minix.infrastructure.in.web.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -18,6 +21,7 @@ import java.util.stream.Collectors;
  * This adapter translates domain exceptions into HTTP responses.
  */
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Slf4j
 public class GlobalExceptionHandler {
     
@@ -67,6 +71,20 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(message));
     }
     
+    /**
+     * Handles load shedding when events cannot be published.
+     *
+     * @param e the overloaded exception
+     * @return 503 Service Unavailable with a Retry-After header
+     */
+    @ExceptionHandler(EventPublisherOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleOverloaded(EventPublisherOverloadedException e) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfter().toSeconds()))
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
     /**
      * Handles any unexpected exceptions.
      * 
@@ -1,7 +1,8 @@
 package com.example.minix.infrastructure.in.web;
 
 import com.example.minix.application.usecase.GetTimelineUseCase;
-import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.application.usecase.StreamTimelineUseCase;
+import com.example.minix.domain.model.TimelineCursor;
 import com.example.minix.infrastructure.in.web.dto.TimelineItemResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,14 +12,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
 
 import static com.example.minix.infrastructure.in.web.ControllerAuthConstants.USER_ID_HEADER;
 
@@ -26,25 +30,64 @@ import static com.example.minix.infrastructure.in.web.ControllerAuthConstants.US
  * REST controller for timeline operations.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/timeline")
 public class TimelineController {
     
     private final GetTimelineUseCase getTimelineUseCase;
+    private final TimelineResponseCache responseCache;
+    private final StreamTimelineUseCase streamTimelineUseCase;
+    private final TimelineStreamEvents streamEvents;
     
-    public TimelineController(GetTimelineUseCase getTimelineUseCase) {
+    public TimelineController(GetTimelineUseCase getTimelineUseCase, TimelineResponseCache responseCache,
+            StreamTimelineUseCase streamTimelineUseCase, TimelineStreamEvents streamEvents) {
         this.getTimelineUseCase = getTimelineUseCase;
+        this.responseCache = responseCache;
+        this.streamTimelineUseCase = streamTimelineUseCase;
+        this.streamEvents = streamEvents;
     }
     
-    @GetMapping
-    public ResponseEntity<List<TimelineItemResponse>> getTimeline(
-            @RequestHeader(USER_ID_HEADER) String userId) {
-        
-        List<TimelineItem> timeline = getTimelineUseCase.execute(userId);
+    /**
+     * Gets a page of the user's timeline, newest first.
+     * Each item carries an opaque cursor: pass the last one as {@code before} to get older items,
+     * or the first one as {@code since} to only get items newer than the ones already seen.
+     * Responses carry an ETag: polling with it in {@code If-None-Match} returns 304 while the timeline is unchanged.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = @Content(
+                    array = @ArraySchema(schema = @Schema(implementation = TimelineItemResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "Timeline unchanged since the given ETag")
+    })
+    public ResponseEntity<byte[]> getTimeline(
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit,
+            @Parameter(hidden = true) WebRequest request) {
         
-        List<TimelineItemResponse> response = timeline.stream()
-                .map(TimelineItemResponse::fromDomain)
-                .collect(Collectors.toList());
+        TimelineCursor beforeCursor = TimelineCursorCodec.decode(before);
+        TimelineCursor sinceCursor = TimelineCursorCodec.decode(since);
+        int pageLimit = limit != null ? limit : 0;
+
+        // the version is read first, so the page served under its ETag is at least as recent
+        String etag = responseCache.etag(getTimelineUseCase.version(userId), beforeCursor, sinceCursor, pageLimit);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        byte[] body = responseCache.get(userId, etag, beforeCursor, sinceCursor, pageLimit,
+                () -> getTimelineUseCase.execute(userId, beforeCursor, sinceCursor, pageLimit));
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(body);
+    }
+
+    /**
+     * Streams the items added to the user's timeline from now on, as Server-Sent Events.
+     * Clients read the current page first, then apply {@code item} events. A {@code missed} event means the
+     * client read too slowly and older items were dropped: they can be fetched with {@code since}.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamTimeline(@RequestHeader(USER_ID_HEADER) String userId) {
+        return streamEvents.events(() -> streamTimelineUseCase.execute(userId));
     }
 }
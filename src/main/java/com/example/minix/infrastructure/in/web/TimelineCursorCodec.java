@@ -0,0 +1,61 @@
+package com.example.minix.infrastructure.in.web;
+
+import com.example.minix.domain.model.TimelineCursor;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Encodes timeline cursors as opaque URL-safe strings.
+ * Clients must not rely on the format, it only needs to round-trip through this codec.
+ */
+public final class TimelineCursorCodec {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    // timelines and the tweet index store creation times as epoch nanoseconds in a long
+    private static final Instant MIN_CREATED_AT = Instant.ofEpochSecond(0, Long.MIN_VALUE);
+    private static final Instant MAX_CREATED_AT = Instant.ofEpochSecond(0, Long.MAX_VALUE);
+
+    private TimelineCursorCodec() {
+    }
+
+    public static String encode(TimelineCursor cursor) {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(cursor.createdAt().getEpochSecond())
+                .putInt(cursor.createdAt().getNano())
+                .putLong(cursor.tweetId());
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor.
+     *
+     * @param value the encoded cursor, may be null
+     * @return the decoded cursor or null if no value was given
+     * @throws IllegalArgumentException if the value is not a valid cursor, or its time does not fit in epoch
+     *         nanoseconds (about 1677 to 2262)
+     */
+    public static TimelineCursor decode(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] bytes = DECODER.decode(value);
+            if (bytes.length != ENCODED_BYTES) {
+                throw new IllegalArgumentException("Unexpected cursor length");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            if (createdAt.isBefore(MIN_CREATED_AT) || createdAt.isAfter(MAX_CREATED_AT)) {
+                throw new IllegalArgumentException("Cursor time out of range");
+            }
+            return new TimelineCursor(createdAt, buffer.getLong());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid timeline cursor");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.minix.infrastructure.in.web;
+
+import com.example.minix.domain.model.TimelineCursor;
+import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.infrastructure.in.web.dto.TimelineItemResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Serialized timeline responses, one per user, reused while the timeline version is unchanged.
+ * Shared by the servlet and the reactive adapters.
+ * <p>
+ * Clients mostly poll timelines that did not change since their last request. Keeping the last serialized
+ * page of each user skips reading, hydrating and serializing it again, and its ETag lets clients skip the
+ * body altogether. ETags include an epoch taken at startup, since timeline versions restart from zero.
+ * The cache is bounded by the size of the serialized responses.
+ */
+@Component
+public class TimelineResponseCache {
+
+    // the map entry, the key and the byte array header
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedResponse> responses;
+
+    public TimelineResponseCache(ObjectMapper objectMapper,
+            @Value("${timeline.response-cache.maximum-size-bytes}") long maximumSizeBytes) {
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maximumSizeBytes)
+                .weigher((String userId, CachedResponse response) -> ENTRY_OVERHEAD_BYTES + response.body().length)
+                .build();
+    }
+
+    /**
+     * Returns the ETag of a timeline page at a version.
+     */
+    public String etag(long version, TimelineCursor before, TimelineCursor since, int limit) {
+        return "\"" + epoch + "-" + Long.toHexString(version) + "-"
+                + Integer.toHexString(Objects.hash(before, since, limit)) + "\"";
+    }
+
+    /**
+     * Returns the serialized page of a user's timeline, serializing it again unless the cached one is the same
+     * page with the same ETag.
+     *
+     * @param timeline reads the page, called outside of any lock
+     */
+    public byte[] get(String userId, String etag, TimelineCursor before, TimelineCursor since, int limit,
+            Supplier<List<TimelineItem>> timeline) {
+        CachedResponse cached = responses.getIfPresent(userId);
+        if (cached != null && cached.etag().equals(etag) && Objects.equals(cached.before(), before)
+                && Objects.equals(cached.since(), since) && cached.limit() == limit) {
+            return cached.body();
+        }
+        byte[] body = serialize(timeline.get());
+        responses.put(userId, new CachedResponse(etag, before, since, limit, body));
+        return body;
+    }
+
+    /**
+     * Drops every cached response.
+     */
+    public void clear() {
+        responses.invalidateAll();
+    }
+
+    private byte[] serialize(List<TimelineItem> timeline) {
+        List<TimelineItemResponse> response = timeline.stream()
+                .map(TimelineItemResponse::fromDomain)
+                .collect(Collectors.toList());
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize timeline", e);
+        }
+    }
+
+    private record CachedResponse(String etag, TimelineCursor before, TimelineCursor since, int limit,
+            byte[] body) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.minix.infrastructure.in.web;
+
+import com.example.minix.application.port.out.TimelineSubscription;
+import com.example.minix.domain.model.TimelineUpdate;
+import com.example.minix.infrastructure.in.web.dto.MissedItemsResponse;
+import com.example.minix.infrastructure.in.web.dto.TimelineItemResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Turns a timeline subscription into Server-Sent Events, shared by the servlet and the reactive adapters.
+ * <p>
+ * Updates are polled from the subscription only as fast as the connection writes them, so a slow client
+ * never holds more than its bounded buffer. Each new item is sent as an {@code item} event whose ID is its
+ * cursor, preceded by a {@code missed} event when older items were dropped. Idle streams get a comment every
+ * {@code timeline.stream.heartbeat-ms}, which also detects closed connections.
+ */
+@Component
+public class TimelineStreamEvents {
+
+    static final String ITEM_EVENT = "item";
+    static final String MISSED_EVENT = "missed";
+
+    private final Duration heartbeat;
+
+    public TimelineStreamEvents(@Value("${timeline.stream.heartbeat-ms}") long heartbeatMs) {
+        if (heartbeatMs <= 0) {
+            throw new IllegalArgumentException("Stream heartbeat must be positive");
+        }
+        this.heartbeat = Duration.ofMillis(heartbeatMs);
+    }
+
+    /**
+     * Streams the updates of a subscription opened on subscribe and closed when the stream is cancelled.
+     */
+    public Flux<ServerSentEvent<Object>> events(Supplier<TimelineSubscription> subscriber) {
+        // an immediate comment sends the response headers before the first item
+        Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(Duration.ZERO, heartbeat)
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.builder().comment("keep-alive").build());
+        return Flux.merge(updates(subscriber), heartbeats);
+    }
+
+    Flux<ServerSentEvent<Object>> updates(Supplier<TimelineSubscription> subscriber) {
+        return Flux.create(sink -> {
+            TimelineSubscription subscription = subscriber.get();
+            Drain drain = new Drain(subscription, sink);
+            sink.onRequest(requested -> drain.run());
+            sink.onDispose(subscription::close);
+            subscription.onAvailable(drain);
+            drain.run();
+        });
+    }
+
+    /**
+     * Emits buffered updates while the connection has demand, one event per requested element. Publishing
+     * threads and the connection may run it at once: a single caller drains, the others make it loop once more.
+     */
+    private static final class Drain implements Runnable {
+
+        private final TimelineSubscription subscription;
+        private final FluxSink<ServerSentEvent<Object>> sink;
+        private final AtomicInteger pending = new AtomicInteger();
+        // item polled along with a missed event, sent on the next demand. Only used by the draining thread
+        private ServerSentEvent<Object> deferred;
+
+        private Drain(TimelineSubscription subscription, FluxSink<ServerSentEvent<Object>> sink) {
+            this.subscription = subscription;
+            this.sink = sink;
+        }
+
+        @Override
+        public void run() {
+            if (pending.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (sink.requestedFromDownstream() > 0 && !sink.isCancelled()) {
+                    ServerSentEvent<Object> event = next();
+                    if (event == null) {
+                        break;
+                    }
+                    sink.next(event);
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private ServerSentEvent<Object> next() {
+            if (deferred != null) {
+                ServerSentEvent<Object> event = deferred;
+                deferred = null;
+                return event;
+            }
+            TimelineUpdate update = subscription.poll();
+            if (update == null) {
+                return null;
+            }
+            TimelineItemResponse item = TimelineItemResponse.fromDomain(update.item());
+            ServerSentEvent<Object> itemEvent = ServerSentEvent.builder()
+                    .id(item.cursor())
+                    .event(ITEM_EVENT)
+                    .data(item)
+                    .build();
+            if (update.missed() == 0) {
+                return itemEvent;
+            }
+            deferred = itemEvent;
+            return ServerSentEvent.builder()
+                    .event(MISSED_EVENT)
+                    .data(new MissedItemsResponse(update.missed()))
+                    .build();
+        }
+    }
+}
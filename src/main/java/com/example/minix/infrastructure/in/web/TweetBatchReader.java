@@ -0,0 +1,80 @@
+package com.example.minix.infrastructure.in.web;
+
+import com.example.minix.infrastructure.in.web.dto.CreateTweetRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the tweets of a batch request, shared by the servlet and the reactive adapters.
+ * <p>
+ * A batch is either a JSON array of tweets or newline-delimited JSON, one tweet per line. Tweets are decoded
+ * and validated one at a time as the body streams in, and a request is rejected as soon as it exceeds
+ * {@code tweet-batch.max-tweets}.
+ */
+@Component
+public class TweetBatchReader {
+
+    private final ObjectReader reader;
+    private final Validator validator;
+    private final int maxTweets;
+
+    public TweetBatchReader(ObjectMapper objectMapper, Validator validator,
+            @Value("${tweet-batch.max-tweets}") int maxTweets) {
+        if (maxTweets <= 0) {
+            throw new IllegalArgumentException("Tweet batch limit must be positive");
+        }
+        this.reader = objectMapper.readerFor(CreateTweetRequest.class);
+        this.validator = validator;
+        this.maxTweets = maxTweets;
+    }
+
+    /**
+     * Reads a JSON array or newline-delimited JSON body.
+     *
+     * @return the tweet contents, in request order
+     * @throws IllegalArgumentException if the body is malformed, holds an invalid tweet or too many tweets
+     */
+    public List<String> read(InputStream body) throws IOException {
+        List<String> contents = new ArrayList<>();
+        try (MappingIterator<CreateTweetRequest> requests = reader.readValues(body)) {
+            while (requests.hasNextValue()) {
+                add(contents, requests.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed tweet batch: " + e.getOriginalMessage());
+        }
+        return contents;
+    }
+
+    /**
+     * Validates the next tweet of a batch and adds its content.
+     *
+     * @throws IllegalArgumentException if the tweet is invalid or the batch is full
+     */
+    public void add(List<String> contents, CreateTweetRequest request) {
+        if (contents.size() == maxTweets) {
+            throw new IllegalArgumentException("Tweet batch cannot hold more than " + maxTweets + " tweets");
+        }
+        Set<ConstraintViolation<CreateTweetRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException("Tweet " + (contents.size() + 1) + ": " + violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        contents.add(request.content());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.minix.infrastructure.in.web;
 
 import com.example.minix.application.usecase.CreateTweetUseCase;
+import com.example.minix.application.usecase.CreateTweetsUseCase;
 import com.example.minix.application.usecase.FollowUserUseCase;
 import com.example.minix.domain.model.Follow;
 import com.example.minix.domain.model.Tweet;
@@ -11,13 +12,16 @@ import com.example.minix.infrastructure.in.web.dto.FollowResponse;
 import com.example.minix.infrastructure.in.web.dto.TweetResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -25,19 +29,29 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 import static com.example.minix.infrastructure.in.web.ControllerAuthConstants.USER_ID_HEADER;
 
 /**
  * REST controller for tweet operations.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/tweets")
 public class TweetController {
 
     private final CreateTweetUseCase createTweetUseCase;
+    private final CreateTweetsUseCase createTweetsUseCase;
+    private final TweetBatchReader batchReader;
 
-    public TweetController(CreateTweetUseCase createTweetUseCase) {
+    public TweetController(CreateTweetUseCase createTweetUseCase, CreateTweetsUseCase createTweetsUseCase,
+            TweetBatchReader batchReader) {
         this.createTweetUseCase = createTweetUseCase;
+        this.createTweetsUseCase = createTweetsUseCase;
+        this.batchReader = batchReader;
     }
 
     @PostMapping
@@ -49,4 +63,26 @@ public class TweetController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(TweetResponse.fromDomain(tweet));
     }
+
+    /**
+     * Creates many tweets of the user at once, as a JSON array or newline-delimited JSON.
+     * Tweets are saved and fanned out in batches, much cheaper than a request per tweet.
+     */
+    @PostMapping(path = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", content = @Content(
+                    array = @ArraySchema(schema = @Schema(implementation = TweetResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Malformed body, invalid tweet or too many tweets",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<TweetResponse>> createTweets(
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+                    array = @ArraySchema(schema = @Schema(implementation = CreateTweetRequest.class))))
+            InputStream body) throws IOException {
+
+        List<Tweet> tweets = createTweetsUseCase.execute(userId, batchReader.read(body));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(tweets.stream().map(TweetResponse::fromDomain).toList());
+    }
 }
@@ -0,0 +1,8 @@
+package com.example.minix.infrastructure.in.web.dto;
+
+/**
+ * DTO for the items a timeline stream dropped because the client read too slowly.
+ * The client can fetch them with a regular timeline request.
+ */
+public record MissedItemsResponse(int count) {
+}
@@ -1,24 +1,29 @@
 package com.example.minix.infrastructure.in.web.dto;
 
+import com.example.minix.domain.model.TimelineCursor;
 import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.infrastructure.in.web.TimelineCursorCodec;
 
 import java.time.Instant;
 
 /**
  * DTO for timeline item response.
+ * The cursor can be passed as {@code before} to get older items or as {@code since} to get newer ones.
  */
 public record TimelineItemResponse(
         String tweetId,
         String authorId,
         String content,
-        Instant createdAt
+        Instant createdAt,
+        String cursor
 ) {
     public static TimelineItemResponse fromDomain(TimelineItem item) {
         return new TimelineItemResponse(
-            item.tweetId(),
+            Long.toString(item.tweetId()),
             item.authorId(),
             item.content(),
-            item.createdAt()
+            item.createdAt(),
+            TimelineCursorCodec.encode(new TimelineCursor(item.createdAt(), item.tweetId()))
         );
     }
 }
@@ -6,6 +6,7 @@ import java.time.Instant;
 
 /**
  * DTO for tweet response.
+ * IDs are 64-bit and exposed as strings so JSON clients don't lose precision.
  */
 public record TweetResponse(
         String id,
@@ -15,7 +16,7 @@ public record TweetResponse(
 ) {
     public static TweetResponse fromDomain(Tweet tweet) {
         return new TweetResponse(
-            tweet.id(),
+            Long.toString(tweet.id()),
             tweet.authorId(),
             tweet.content(),
             tweet.createdAt()
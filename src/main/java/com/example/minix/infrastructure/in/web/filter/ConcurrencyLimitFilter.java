@@ -0,0 +1,71 @@
+package com.example.minix.infrastructure.in.web.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of requests handled at once when requests run on virtual threads.
+ * <p>
+ * Tomcat then starts a virtual thread per request instead of sizing a thread pool, so nothing else limits
+ * concurrency. Requests beyond the limit wait for a permit up to a timeout, then get 503 with Retry-After.
+ * Like Tomcat's virtual thread executor, the filter needs both {@code spring.threads.virtual.enabled} and a
+ * Java 21+ runtime; on older runtimes requests stay on Tomcat's bounded thread pool.
+ */
+@Component
+@Order(0)
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final long retryAfterSec;
+
+    public ConcurrencyLimitFilter(@Value("${request-limit.max-concurrent}") int maxConcurrent,
+            @Value("${request-limit.acquire-timeout-ms}") long acquireTimeoutMs,
+            @Value("${request-limit.retry-after-sec}") long retryAfterSec) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Maximum concurrent requests must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrent);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.retryAfterSec = retryAfterSec;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            log.warn("Too many concurrent requests, shedding {} {}", request.getMethod(), request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSec));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many concurrent requests");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.minix.infrastructure.out.id;
+
+import com.example.minix.application.port.out.TweetIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style implementation of TweetIdGenerator.
+ * <p>
+ * IDs are 64-bit: 41 bits of milliseconds since {@link #EPOCH}, 10 bits of node ID and a 12 bit
+ * sequence within the millisecond. The generator is lock-free, the last timestamp and sequence are
+ * packed in a single atomic long updated with CAS. When the clock goes backwards or the sequence of a
+ * millisecond is exhausted, IDs keep increasing by borrowing from the next millisecond.
+ */
+@Component
+public class SnowflakeTweetIdGenerator implements TweetIdGenerator {
+
+    public static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+
+    // milliseconds since epoch << SEQUENCE_BITS | sequence
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeTweetIdGenerator(@Value("${tweet-id.node-id}") final long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public long nextId() {
+        long next;
+        long previous;
+        do {
+            previous = state.get();
+            long millis = System.currentTimeMillis() - EPOCH.toEpochMilli();
+            next = Math.max(millis << SEQUENCE_BITS, previous + 1);
+        } while (!state.compareAndSet(previous, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
@@ -2,52 +2,105 @@ package com.example.minix.infrastructure.out.messaging;
 
 import com.example.minix.application.handler.EventHandler;
 import com.example.minix.application.port.out.EventPublisher;
+import com.example.minix.application.port.out.EventPublisherOverloadedException;
 import com.example.minix.domain.event.Event;
 import com.example.minix.domain.event.EventType;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
-import static com.example.minix.config.EventPublisherThreadpoolConfiguration.EVENT_PUBLISHER_POOL_EXECUTOR;
+import static com.example.minix.config.EventLaneConfiguration.EVENT_LANES;
 
 /**
  * In-memory implementation of EventPublisher.
- * Uses a thread pool for asynchronous event processing.
+ * Events are hashed by their partition key onto the lanes of a {@link LaneExecutor},
+ * so the events of a user are handled in order, one at a time.
  * Simulates production-like behavior with async fan-out and backfill.
+ * <p>
+ * When a lane is saturated the configured {@link OverloadPolicy} applies. Handlers always run on the lane
+ * of their event, whatever the policy, so the events of a user are never handled out of order.
  */
 @Component
+@ConditionalOnProperty(name = "event-publisher.type", havingValue = "lanes", matchIfMissing = true)
 @Slf4j
 public class InMemoryEventPublisher implements EventPublisher {
 
-    private final ExecutorService executorService;
-    private final Map<EventType, List<EventHandler<?>>> handlers;
+    // lanes do not signal freed room, waiting publishers check it this often
+    private static final long ROOM_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
 
+    private final LaneExecutor lanes;
+    private final Map<EventType, List<EventHandler<?>>> handlers;
+    private final OverloadPolicy overloadPolicy;
+    private final Duration blockTimeout;
+    private final Duration retryAfter;
+    private final List<BlockingQueue<Runnable>> overflows;
 
-    // TODO Extract threadpool configuration to yml and probably a configuration file
-    public InMemoryEventPublisher(@Qualifier(EVENT_PUBLISHER_POOL_EXECUTOR) ThreadPoolExecutor executorService) {
-        this.executorService = executorService;
+    public InMemoryEventPublisher(@Qualifier(EVENT_LANES) LaneExecutor lanes,
+            @Value("${event-publisher.overload.policy}") OverloadPolicy overloadPolicy,
+            @Value("${event-publisher.overload.block-timeout-ms}") long blockTimeoutMs,
+            @Value("${event-publisher.overload.retry-after-sec}") long retryAfterSec,
+            @Value("${event-publisher.overload.overflow-capacity}") int overflowCapacity) {
+        this.lanes = lanes;
+        this.overloadPolicy = overloadPolicy;
+        this.blockTimeout = Duration.ofMillis(blockTimeoutMs);
+        this.retryAfter = Duration.ofSeconds(retryAfterSec);
+        this.overflows = new ArrayList<>(lanes.partitions());
+        for (int i = 0; i < lanes.partitions(); i++) {
+            overflows.add(new LinkedBlockingQueue<>(overflowCapacity));
+        }
         handlers = new HashMap<>();
     }
 
+    /**
+     * Rejects new events when the lane of the key has no room for them and the policy sheds load.
+     * {@link OverloadPolicy#BLOCK} first waits up to its timeout for room, {@link OverloadPolicy#CALLER_RUNS}
+     * never rejects. More events than a lane holds are admitted once it is empty, or they never would be.
+     */
+    @Override
+    public void ensureCapacity(String partitionKey, int events) {
+        int partition = lanes.partitionOf(partitionKey);
+        boolean saturated = switch (overloadPolicy) {
+            case SHED -> !hasRoom(partition, events, 0);
+            case SPILL -> !hasRoom(partition, events, overflows.get(partition).remainingCapacity());
+            case BLOCK -> !awaitRoom(partition, events);
+            case CALLER_RUNS -> false;
+        };
+        if (saturated) {
+            log.warn("Event publisher saturated, shedding new events");
+            throw new EventPublisherOverloadedException("Too many pending events, retry later", retryAfter);
+        }
+    }
 
     @Override
     @SuppressWarnings("unchecked")
     public <E extends Event> void publish(final E event) {
-        if (!handlers.containsKey(event.getType())) {
+        final var eventHandlers = handlers.get(event.getType());
+        if (eventHandlers == null) {
             log.warn("No handler found for event {}", event.getType());
+            return;
         }
-        final var eventHandlers = handlers.get(event.getType());
-        eventHandlers.forEach(handler -> executorService.submit(() -> {
-            ((EventHandler<E>) handler).handle(event);
+        int partition = lanes.partitionOf(event.partitionKey());
+        eventHandlers.forEach(handler -> dispatch(partition, () -> {
+            try {
+                ((EventHandler<E>) handler).handle(event);
+            } catch (RuntimeException e) {
+                log.error("Handler {} failed for event {}", handler.getClass().getSimpleName(), event.getType(), e);
+            }
         }));
     }
 
@@ -59,21 +112,131 @@ public class InMemoryEventPublisher implements EventPublisher {
         log.info("Handler {} registered for type {}", handler.getClass().getCanonicalName(), eventType);
     }
 
+    /**
+     * Queues the task on its lane, applying the overload policy when it is rejected.
+     * Accepted events are not lost: if the policy cannot park the task the calling thread waits for room.
+     */
+    private void dispatch(int partition, Runnable task) {
+        if (overloadPolicy == OverloadPolicy.SPILL) {
+            spill(partition, task);
+        } else {
+            lanes.enqueue(partition, task);
+        }
+    }
 
     /**
-     * Gracefully shutdown the executor on application shutdown.
+     * Queues the task on its lane, or behind the tasks already spilled from it so the lane keeps its order.
+     * Spilled tasks move back onto the lane, oldest first, each time one of its tasks completes.
      */
-    @PreDestroy
-    public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
-                executorService.shutdownNow();
+    private void spill(int partition, Runnable task) {
+        ThreadPoolExecutor lane = lanes.lane(partition);
+        BlockingQueue<Runnable> overflow = overflows.get(partition);
+        boolean spilled;
+        synchronized (overflow) {
+            if (overflow.isEmpty()) {
+                try {
+                    lane.execute(refilling(partition, task));
+                    return;
+                } catch (RejectedExecutionException e) {
+                    if (lane.isShutdown()) {
+                        log.warn("Event publisher is shut down, dropping event");
+                        return;
+                    }
+                }
+            }
+            spilled = overflow.offer(task);
+        }
+        if (!spilled && !awaitOverflow(overflow, task)) {
+            return;
+        }
+        // the lane may have drained before the task was spilled, leaving no completion to move it back
+        if (lane.getQueue().remainingCapacity() > 0) {
+            refill(partition);
+        }
+    }
+
+    private Runnable refilling(int partition, Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } finally {
+                refill(partition);
+            }
+        };
+    }
+
+    /**
+     * Moves spilled tasks back onto their lane, oldest first, while its queue has room.
+     */
+    private void refill(int partition) {
+        ThreadPoolExecutor lane = lanes.lane(partition);
+        BlockingQueue<Runnable> overflow = overflows.get(partition);
+        synchronized (overflow) {
+            Runnable spilled;
+            while ((spilled = overflow.peek()) != null
+                    && !lane.isShutdown() && lane.getQueue().remainingCapacity() > 0) {
+                try {
+                    lane.execute(refilling(partition, spilled));
+                } catch (RejectedExecutionException e) {
+                    return;
+                }
+                overflow.poll();
             }
+        }
+    }
+
+    /**
+     * Waits for room in a full overflow, only reached by events accepted while it filled up.
+     * Tasks queued meanwhile by other threads may go first, the events of this thread keep their order.
+     */
+    private boolean awaitOverflow(BlockingQueue<Runnable> overflow, Runnable task) {
+        log.debug("Event publisher overflow full, waiting for room");
+        try {
+            overflow.put(task);
+            return true;
         } catch (InterruptedException e) {
-            executorService.shutdownNow();
             Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for the overflow, dropping event");
+            return false;
+        }
+    }
+
+    /**
+     * Waits up to the block timeout for room in the lane queue.
+     */
+    private boolean awaitRoom(int partition, int events) {
+        long deadline = System.nanoTime() + blockTimeout.toNanos();
+        while (!hasRoom(partition, events, 0)) {
+            if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(ROOM_POLL_NANOS);
         }
+        return true;
+    }
+
+    /**
+     * Whether the lane queue, plus the given extra room, can take the events.
+     */
+    private boolean hasRoom(int partition, int events, int extraRoom) {
+        BlockingQueue<Runnable> queue = lanes.lane(partition).getQueue();
+        int room = queue.remainingCapacity() + extraRoom;
+        return room >= Math.min(events, room + queue.size());
+    }
+
+    /**
+     * Gracefully shutdown the lanes on application shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        lanes.shutdown();
+        // spilled events are only drained by lane workers
+        overflows.forEach(overflow -> {
+            Runnable spilled;
+            while ((spilled = overflow.poll()) != null) {
+                spilled.run();
+            }
+        });
     }
 
 }
@@ -0,0 +1,175 @@
+package com.example.minix.infrastructure.out.messaging;
+
+import com.example.minix.application.port.out.PartitionedExecutor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed set of single-threaded lanes, keys are hashed onto a lane.
+ * <p>
+ * All the work of a user runs on its lane, so it is applied in order without locks while different users
+ * spread across cores. Each lane has a bounded queue; when it is full, {@link #execute(String, Runnable)}
+ * waits for room rather than dropping the task or running it on the calling thread, next to the tasks already
+ * queued on its lane.
+ * <p>
+ * With {@code spring.threads.virtual.enabled} on Java 21+, lanes run on virtual threads, so a lane blocked on
+ * I/O does not hold a platform thread and many more lanes can be configured. The number of tasks running at
+ * once is then bounded by the max concurrency instead of by the lane count.
+ * <p>
+ * Events and fan-out chunks run on two separate lane groups, see the {@code EventLaneConfiguration}.
+ */
+@Slf4j
+public class LaneExecutor implements PartitionedExecutor {
+
+    private final ThreadLocal<Integer> currentLane = new ThreadLocal<>();
+    private final ThreadPoolExecutor[] lanes;
+
+    /**
+     * @param name prefix of the lane thread names
+     * @param virtualThreads run the lanes on virtual threads, ignored with a warning before Java 21
+     * @param maxConcurrency maximum number of lanes running a task at once, 0 for no limit
+     */
+    public LaneExecutor(String name, int count, int queueCapacity, boolean virtualThreads, int maxConcurrency) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Lane count must be positive");
+        }
+        if (maxConcurrency < 0) {
+            throw new IllegalArgumentException("Lane concurrency cannot be negative");
+        }
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            log.warn("Virtual threads need Java 21 or later, event lanes run on platform threads");
+        }
+        boolean virtual = virtualThreads && VirtualThreads.isSupported();
+        Semaphore permits = maxConcurrency > 0 && maxConcurrency < count ? new Semaphore(maxConcurrency) : null;
+        this.lanes = new ThreadPoolExecutor[count];
+        for (int i = 0; i < count; i++) {
+            int lane = i;
+            lanes[i] = new LaneThreadPool(new LinkedBlockingQueue<>(queueCapacity), permits, runnable -> {
+                Runnable inLane = () -> {
+                    currentLane.set(lane);
+                    runnable.run();
+                };
+                String threadName = name + "-" + lane;
+                return virtual ? VirtualThreads.newThread(threadName, inLane) : new Thread(inLane, threadName);
+            });
+        }
+    }
+
+    @Override
+    public void execute(String partitionKey, Runnable task) {
+        int partition = partitionOf(partitionKey);
+        if (isCurrent(partition)) {
+            task.run();
+            return;
+        }
+        enqueue(partition, task);
+    }
+
+    @Override
+    public int partitionOf(String partitionKey) {
+        int hash = partitionKey.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    @Override
+    public int partitions() {
+        return lanes.length;
+    }
+
+    /**
+     * Returns the executor backing a lane, for callers applying their own overload policy.
+     */
+    ThreadPoolExecutor lane(int partition) {
+        return lanes[partition];
+    }
+
+    /**
+     * Queues the task on a lane, waiting while its queue is full so the lane keeps its order.
+     * Tasks are dropped only when the lane is shut down or the waiting thread is interrupted.
+     */
+    void enqueue(int partition, Runnable task) {
+        ThreadPoolExecutor lane = lanes[partition];
+        try {
+            lane.execute(task);
+            return;
+        } catch (RejectedExecutionException e) {
+            if (lane.isShutdown()) {
+                log.warn("Lane {} is shut down, dropping task", partition);
+                return;
+            }
+        }
+        log.debug("Lane {} saturated, waiting for room", partition);
+        try {
+            // the lane worker is running since its queue is full, it picks the task up from the queue
+            lane.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for lane {}, dropping task", partition);
+            return;
+        }
+        if (lane.isShutdown() && lane.getQueue().remove(task)) {
+            log.warn("Lane {} is shut down, dropping task", partition);
+        }
+    }
+
+    boolean isCurrent(int partition) {
+        Integer current = currentLane.get();
+        return current != null && current == partition;
+    }
+
+    /**
+     * Gracefully shutdown the lanes on application shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            for (ThreadPoolExecutor lane : lanes) {
+                lane.shutdownNow();
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Single-threaded lane, holding a permit of the shared semaphore while running a task when limited.
+     */
+    private static final class LaneThreadPool extends ThreadPoolExecutor {
+
+        private final Semaphore permits;
+
+        private LaneThreadPool(LinkedBlockingQueue<Runnable> queue, Semaphore permits, ThreadFactory threadFactory) {
+            super(1, 1, 0, TimeUnit.SECONDS, queue, threadFactory);
+            this.permits = permits;
+        }
+
+        @Override
+        protected void beforeExecute(Thread thread, Runnable task) {
+            if (permits != null) {
+                permits.acquireUninterruptibly();
+            }
+        }
+
+        @Override
+        protected void afterExecute(Runnable task, Throwable failure) {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+}
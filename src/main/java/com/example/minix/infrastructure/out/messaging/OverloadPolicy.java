@@ -0,0 +1,33 @@
+package com.example.minix.infrastructure.out.messaging;
+
+/**
+ * What the event publisher does when its thread pool queue is full.
+ * <p>
+ * Events of a saved tweet are never dropped: whenever an event was accepted but cannot be queued,
+ * the publishing thread waits for room. Every policy keeps the order of the events of a user, their handlers
+ * only ever run on its lane.
+ */
+public enum OverloadPolicy {
+
+    /**
+     * Wait for room in the lane queue, slowing the caller down. Unlike a thread pool caller-runs policy the
+     * handlers never run on the publishing thread, where they would race with the events queued before.
+     */
+    CALLER_RUNS,
+
+    /**
+     * Wait for room in the lane queue up to the configured timeout before accepting a new tweet, then reject it
+     * like {@link #SHED}.
+     */
+    BLOCK,
+
+    /**
+     * Reject new events before anything is stored, the client gets a 503 with a Retry-After header.
+     */
+    SHED,
+
+    /**
+     * Park events in a bounded overflow queue behind their lane, drained by its worker, shed once it is full.
+     */
+    SPILL
+}
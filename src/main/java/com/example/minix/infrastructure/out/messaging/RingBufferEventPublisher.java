@@ -0,0 +1,231 @@
+package com.example.minix.infrastructure.out.messaging;
+
+import com.example.minix.application.handler.EventHandler;
+import com.example.minix.application.port.out.EventPublisher;
+import com.example.minix.domain.event.Event;
+import com.example.minix.domain.event.EventType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Disruptor-style implementation of EventPublisher, enabled with {@code event-publisher.type=ring-buffer}.
+ * <p>
+ * Events are written into a preallocated ring of slots. Publishers claim a sequence with a single atomic
+ * increment and mark the slot as published, no lock and no per-handler task is involved. Each registered
+ * handler runs on its own consumer thread that owns its sequence (single writer) and processes every
+ * published event up to the cursor as one batch, updating its sequence once per batch.
+ * <p>
+ * Idle consumers spin briefly, then block until a publisher signals a new event. Publishers only take
+ * the lock to signal when a consumer is blocked.
+ * <p>
+ * When the ring is full, publishers wait for the slowest consumer, backing off up to a millisecond, so the
+ * ring never overwrites unprocessed events and {@link #ensureCapacity(String, int)} never rejects.
+ */
+@Component
+@ConditionalOnProperty(name = "event-publisher.type", havingValue = "ring-buffer")
+@Slf4j
+public class RingBufferEventPublisher implements EventPublisher {
+
+    private static final int SPIN_TRIES = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Event[] entries;
+    private final AtomicLongArray publishedSequences;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<Consumer<?>> consumers = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final AtomicInteger blockedConsumers = new AtomicInteger();
+
+    public RingBufferEventPublisher(@Value("${event-publisher.ring-buffer.size}") int size) {
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Ring buffer size must be a power of two");
+        }
+        this.entries = new Event[size];
+        this.publishedSequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            publishedSequences.set(i, -1);
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public void ensureCapacity(String partitionKey, int events) {
+        // publishers wait for room in the ring, nothing is shed
+    }
+
+    @Override
+    public <E extends Event> void publish(final E event) {
+        long sequence = cursor.incrementAndGet();
+        long wrapPoint = sequence - entries.length;
+        int tries = 0;
+        while (wrapPoint > slowestConsumerSequence()) {
+            tries = idle(tries);
+        }
+        int index = (int) sequence & mask;
+        entries[index] = event;
+        // volatile write, makes the entry visible to consumers reading the published sequence
+        publishedSequences.set(index, sequence);
+        if (blockedConsumers.get() > 0) {
+            signalConsumers();
+        }
+    }
+
+    @Override
+    public synchronized <E extends Event> void addListener(final EventType eventType,
+                                                           final EventHandler<E> handler) {
+        Consumer<E> consumer = new Consumer<>(eventType, handler, cursor.get());
+        consumers.add(consumer);
+        Thread thread = new Thread(consumer, "ring-buffer-" + eventType.name().toLowerCase() + "-" + consumers.size());
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Handler {} registered for type {}", handler.getClass().getCanonicalName(), eventType);
+    }
+
+    /**
+     * Lets consumers catch up with the published events, then stops them.
+     */
+    @PreDestroy
+    public void shutdown() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (slowestConsumerSequence() < cursor.get() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        consumers.forEach(Consumer::stop);
+    }
+
+    private long slowestConsumerSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (Consumer<?> consumer : consumers) {
+            minimum = Math.min(minimum, consumer.sequence.get());
+        }
+        return minimum;
+    }
+
+    /**
+     * Highest sequence from {@code from} onwards published without gaps.
+     */
+    private long highestPublished(long from, long claimed) {
+        for (long sequence = from; sequence <= claimed; sequence++) {
+            if (publishedSequences.get((int) sequence & mask) != sequence) {
+                return sequence - 1;
+            }
+        }
+        return claimed;
+    }
+
+    private void signalConsumers() {
+        lock.lock();
+        try {
+            published.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Spins, then parks for twice as long on each try, up to {@link #MAX_PARK_NANOS}.
+     */
+    private static int idle(int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else {
+            int backoff = Math.min(tries - SPIN_TRIES, 5);
+            LockSupport.parkNanos(Math.min(PARK_NANOS << backoff, MAX_PARK_NANOS));
+        }
+        return tries + 1;
+    }
+
+    private final class Consumer<E extends Event> implements Runnable {
+
+        private final EventType eventType;
+        private final EventHandler<E> handler;
+        private final AtomicLong sequence;
+        private volatile boolean running = true;
+
+        private Consumer(EventType eventType, EventHandler<E> handler, long startSequence) {
+            this.eventType = eventType;
+            this.handler = handler;
+            this.sequence = new AtomicLong(startSequence);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            long next = sequence.get() + 1;
+            int tries = 0;
+            while (running) {
+                long available = highestPublished(next, cursor.get());
+                if (available < next) {
+                    if (tries++ < SPIN_TRIES) {
+                        Thread.onSpinWait();
+                    } else {
+                        awaitPublished(next);
+                    }
+                    continue;
+                }
+                tries = 0;
+                for (long current = next; current <= available; current++) {
+                    Event event = entries[(int) current & mask];
+                    if (event.getType() == eventType) {
+                        handle((E) event);
+                    }
+                }
+                // single writer: only this thread moves its sequence, once per batch
+                sequence.lazySet(available);
+                next = available + 1;
+            }
+        }
+
+        /**
+         * Blocks until the event at {@code next} is published or the consumer stops.
+         * The consumer registers as blocked before checking, so a publisher either sees it or is seen.
+         */
+        private void awaitPublished(long next) {
+            lock.lock();
+            blockedConsumers.incrementAndGet();
+            try {
+                while (running && highestPublished(next, cursor.get()) < next) {
+                    published.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                blockedConsumers.decrementAndGet();
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Handles the event, never letting a failure stop the consumer, since publishers wait on its sequence.
+         */
+        private void handle(E event) {
+            try {
+                handler.handle(event);
+            } catch (Throwable e) {
+                log.error("Handler {} failed for event {}", handler.getClass().getSimpleName(), eventType, e);
+            }
+        }
+
+        private void stop() {
+            running = false;
+            signalConsumers();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.minix.infrastructure.out.persistence;
+
+import com.example.minix.application.port.out.EventPublisher;
+import com.example.minix.application.service.FanOutPolicy;
+import com.example.minix.domain.event.TweetCreatedEvent;
+import com.example.minix.domain.event.UserFollowedEvent;
+import com.example.minix.domain.model.Follow;
+import com.example.minix.domain.model.Tweet;
+import com.example.minix.infrastructure.out.persistence.inmemory.InMemoryFollowRepository;
+import com.example.minix.infrastructure.out.persistence.inmemory.InMemoryTweetRepository;
+import com.example.minix.infrastructure.out.persistence.snapshot.SnapshotManager;
+import com.example.minix.infrastructure.out.persistence.wal.WalRecord;
+import com.example.minix.infrastructure.out.persistence.wal.WriteAheadLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Rebuilds the in-memory repositories on startup, then starts the write-ahead log and the snapshots.
+ * <p>
+ * Loads the latest snapshot, then replays the write-ahead log tail after it. Runs once every singleton is
+ * created, so the event handlers are registered, and before the web server accepts requests. Records are
+ * applied in log order and their events are published again, so timelines are rebuilt by the usual fan-out
+ * and backfill.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RepositoryRecovery implements SmartInitializingSingleton {
+
+    private final WriteAheadLog writeAheadLog;
+    private final SnapshotManager snapshotManager;
+    // absent when tweets are stored by the persistent adapter, which recovers them itself
+    private final Optional<InMemoryTweetRepository> tweetRepository;
+    private final InMemoryFollowRepository followRepository;
+    private final EventPublisher eventPublisher;
+    private final FanOutPolicy fanOutPolicy;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!writeAheadLog.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        Optional<SnapshotManager.Snapshot> snapshot = snapshotManager.restoreLatest();
+        long snapshotMs = (System.nanoTime() - start) / 1_000_000;
+        // snapshot follows are not published again, replayed ones are recorded by their handler
+        fanOutPolicy.reload();
+
+        long replayStart = System.nanoTime();
+        long[] replayed = {0};
+        long lastSequence = writeAheadLog.replay(snapshot.map(SnapshotManager.Snapshot::redoSequence).orElse(0L),
+                (sequence, record) -> {
+                    apply(record);
+                    replayed[0]++;
+                });
+        long replayMs = (System.nanoTime() - replayStart) / 1_000_000;
+
+        log.info("Restored repositories up to sequence {} in {} ms: snapshot {} in {} ms, {} log records in {} ms",
+                lastSequence, (System.nanoTime() - start) / 1_000_000,
+                snapshot.map(s -> s.path().getFileName().toString()).orElse("none"), snapshotMs,
+                replayed[0], replayMs);
+        writeAheadLog.start();
+        snapshotManager.start();
+    }
+
+    private void apply(WalRecord record) {
+        if (record instanceof WalRecord.TweetSaved saved) {
+            Tweet tweet = tweetRepository.map(repository -> repository.restore(saved.tweet()))
+                    .orElse(saved.tweet());
+            eventPublisher.publish(new TweetCreatedEvent(tweet.id(), tweet.authorId(), tweet.content(),
+                    tweet.createdAt()));
+        } else if (record instanceof WalRecord.FollowSaved saved) {
+            Follow follow = followRepository.restore(saved.follow());
+            eventPublisher.publish(new UserFollowedEvent(follow.followerId(), follow.followedId()));
+        }
+    }
+}
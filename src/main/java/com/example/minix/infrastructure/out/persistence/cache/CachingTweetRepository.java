@@ -0,0 +1,152 @@
+package com.example.minix.infrastructure.out.persistence.cache;
+
+import com.example.minix.application.port.out.TweetRepository;
+import com.example.minix.domain.model.TimelineQuery;
+import com.example.minix.domain.model.Tweet;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-through cache of tweets by ID in front of the tweet repository adapter.
+ * <p>
+ * Timelines only hold tweet references, so every timeline read hydrates its tweets by ID, and reads skew
+ * heavily toward recent tweets. The cache is bounded by the approximate heap size of the cached tweets and
+ * uses Caffeine's W-TinyLFU admission, so a burst of one-off reads does not evict the hot tweets.
+ * <p>
+ * Saved tweets are written through, since new tweets are the ones timelines read next. Author and full
+ * scans go to the adapter directly. Tweets are immutable once created, so entries are never invalidated.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "tweet-cache.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CachingTweetRepository implements TweetRepository {
+
+    // object headers, fields, the author reference and the content string and array headers
+    private static final int TWEET_OVERHEAD_BYTES = 96;
+
+    private final TweetRepository delegate;
+    private final Cache<Long, Tweet> cache;
+
+    public CachingTweetRepository(TweetRepository delegate,
+            @Value("${tweet-cache.maximum-size-bytes}") long maximumSizeBytes) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSizeBytes)
+                .weigher((Long id, Tweet tweet) -> weightOf(tweet))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Tweet save(Tweet tweet) {
+        Tweet saved = delegate.save(tweet);
+        cache.put(saved.id(), saved);
+        return saved;
+    }
+
+    @Override
+    public List<Tweet> saveAll(List<Tweet> tweets) {
+        List<Tweet> saved = delegate.saveAll(tweets);
+        saved.forEach(tweet -> cache.put(tweet.id(), tweet));
+        return saved;
+    }
+
+    @Override
+    public Optional<Tweet> findById(long id) {
+        return Optional.ofNullable(cache.get(id, key -> delegate.findById(key).orElse(null)));
+    }
+
+    @Override
+    public List<Tweet> findAllById(Collection<Long> ids) {
+        Map<Long, Tweet> found = cache.getAll(ids, this::loadAll);
+        List<Tweet> result = new ArrayList<>(found.size());
+        for (Long id : ids) {
+            Tweet tweet = found.get(id);
+            if (tweet != null) {
+                result.add(tweet);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Tweet> findByAuthorId(String authorId) {
+        return delegate.findByAuthorId(authorId);
+    }
+
+    @Override
+    public List<Tweet> findByAuthorIdAfter(String authorId, int limit) {
+        return delegate.findByAuthorIdAfter(authorId, limit);
+    }
+
+    @Override
+    public List<Tweet> findByAuthorId(String authorId, TimelineQuery query) {
+        return delegate.findByAuthorId(authorId, query);
+    }
+
+    @Override
+    public List<Tweet> findAll() {
+        return delegate.findAll();
+    }
+
+    /**
+     * Hit, miss and eviction counters since startup.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Approximate heap size of the cached tweets.
+     */
+    public long cachedBytes() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    /**
+     * Runs pending maintenance, such as evictions, which is otherwise amortized over reads and writes.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * Loads the missing tweets with a single multi-get, unknown IDs are not cached.
+     */
+    private Map<Long, Tweet> loadAll(Iterable<? extends Long> ids) {
+        List<Long> missing = new ArrayList<>();
+        ids.forEach(missing::add);
+        Map<Long, Tweet> loaded = new HashMap<>(missing.size() * 2);
+        for (Tweet tweet : delegate.findAllById(missing)) {
+            loaded.put(tweet.id(), tweet);
+        }
+        return loaded;
+    }
+
+    private static int weightOf(Tweet tweet) {
+        return TWEET_OVERHEAD_BYTES + tweet.content().length() * 2;
+    }
+
+    @PreDestroy
+    public void logStats() {
+        CacheStats stats = stats();
+        log.info("Tweet cache: {} hits, {} misses (hit rate {}), {} evictions, {} bytes cached",
+                stats.hitCount(), stats.missCount(), String.format("%.3f", stats.hitRate()), stats.evictionCount(),
+                cachedBytes());
+    }
+}
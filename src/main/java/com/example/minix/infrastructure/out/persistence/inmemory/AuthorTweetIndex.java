@@ -0,0 +1,82 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import com.example.minix.domain.model.TimelineCursor;
+import com.example.minix.domain.model.TimelineQuery;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tweets of a single author kept in creation order (oldest first).
+ * Tweets are normally saved in creation order, so appending is O(1) and reading the latest N tweets
+ * is O(N) without sorting.
+ */
+class AuthorTweetIndex {
+
+    private static final Comparator<StoredTweet> CREATION_ORDER = Comparator.comparing(StoredTweet::createdAt)
+            .thenComparingLong(StoredTweet::id);
+
+    private final List<StoredTweet> tweets = new ArrayList<>();
+
+    synchronized void add(StoredTweet tweet) {
+        int position = tweets.size();
+        while (position > 0 && CREATION_ORDER.compare(tweets.get(position - 1), tweet) > 0) {
+            position--;
+        }
+        tweets.add(position, tweet);
+    }
+
+    synchronized void remove(StoredTweet tweet) {
+        tweets.remove(tweet);
+    }
+
+    /**
+     * Returns the latest tweets, newest first.
+     */
+    synchronized List<StoredTweet> latest(int limit) {
+        return newestFirst(0, limit);
+    }
+
+    /**
+     * Returns the latest tweets between the query cursors, newest first.
+     */
+    synchronized List<StoredTweet> page(TimelineQuery query) {
+        int from = query.since() != null ? firstPast(query.since(), true) : 0;
+        int to = query.before() != null ? firstPast(query.before(), false) : tweets.size();
+        return newestFirst(from, to, query.limit());
+    }
+
+    synchronized int size() {
+        return tweets.size();
+    }
+
+    private List<StoredTweet> newestFirst(int fromIndex, int limit) {
+        return newestFirst(fromIndex, tweets.size(), limit);
+    }
+
+    private List<StoredTweet> newestFirst(int fromIndex, int toIndex, int limit) {
+        int count = Math.max(Math.min(limit, toIndex - fromIndex), 0);
+        List<StoredTweet> result = new ArrayList<>(count);
+        for (int i = toIndex - 1; result.size() < count; i--) {
+            result.add(tweets.get(i));
+        }
+        return result;
+    }
+
+    private int firstPast(TimelineCursor cursor, boolean skipEqual) {
+        int low = 0;
+        int high = tweets.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            StoredTweet tweet = tweets.get(middle);
+            int comparison = cursor.compareTo(tweet.createdAt(), tweet.id());
+            if (comparison > 0 || (skipEqual && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
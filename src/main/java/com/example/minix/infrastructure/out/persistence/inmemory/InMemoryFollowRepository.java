@@ -2,52 +2,79 @@ package com.example.minix.infrastructure.out.persistence.inmemory;
 
 import com.example.minix.application.port.out.FollowRepository;
 import com.example.minix.domain.model.Follow;
+import com.example.minix.infrastructure.out.persistence.wal.WalRecord;
+import com.example.minix.infrastructure.out.persistence.wal.WriteAheadLog;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * In-memory implementation of FollowRepository.
- * Thread-safe using ConcurrentHashMap and synchronized sets.
+ * Users are stored as their dense IDs from the {@link UserIdDictionary}, external IDs are only
+ * resolved when results leave the repository.
+ * Both directions of the follow graph are primitive int adjacency arrays, see {@link IntAdjacency}.
+ * Users with more than {@code follow-graph.bitmap-threshold} followers or followed users switch to compressed bitmaps.
+ * Saves are appended to the {@link WriteAheadLog} before being applied.
  */
 @Repository
 public class InMemoryFollowRepository implements FollowRepository {
 
-    // Map: followed user ID -> set of follower IDs
-    private final ConcurrentHashMap<String, Set<String>> followers = new ConcurrentHashMap<>();
+    private final UserIdDictionary userIds;
+    private final WriteAheadLog writeAheadLog;
+
+    // dense followed user ID -> dense follower IDs
+    private final IntAdjacency followers;
+
+    // dense follower ID -> dense followed user IDs
+    private final IntAdjacency following;
+
+    public InMemoryFollowRepository(UserIdDictionary userIds, WriteAheadLog writeAheadLog,
+            @Value("${follow-graph.bitmap-threshold}") int bitmapThreshold) {
+        this.userIds = userIds;
+        this.writeAheadLog = writeAheadLog;
+        this.followers = new IntAdjacency(bitmapThreshold);
+        this.following = new IntAdjacency(bitmapThreshold);
+    }
 
-    // Map: follower ID -> set of followed user IDs
-    private final ConcurrentHashMap<String, Set<String>> following = new ConcurrentHashMap<>();
-    
     @Override
     public Follow save(Follow follow) {
-        // Add to followers map (who follows this user)
-        followers.computeIfAbsent(follow.followedId(), k ->
-            Collections.newSetFromMap(new ConcurrentHashMap<>()))
-            .add(follow.followerId());
-        
-        // Add to following map (who this user follows)
-        following.computeIfAbsent(follow.followerId(), k ->
-            Collections.newSetFromMap(new ConcurrentHashMap<>()))
-            .add(follow.followedId());
-        
+        return writeAheadLog.append(new WalRecord.FollowSaved(follow), () -> restore(follow));
+    }
+
+    /**
+     * Applies a follow without logging it, used to rebuild the repository on startup.
+     */
+    public Follow restore(Follow follow) {
+        int followerId = userIds.intern(follow.followerId());
+        int followedId = userIds.intern(follow.followedId());
+
+        // Add to followers graph (who follows this user)
+        followers.add(followedId, followerId);
+
+        // Add to following graph (who this user follows)
+        following.add(followerId, followedId);
+
         return follow;
     }
     
     @Override
     public List<String> findFollowedUserIds(String followerId) {
-        Set<String> followedSet = following.get(followerId);
-        return followedSet != null ? new ArrayList<>(followedSet) : Collections.emptyList();
+        int id = userIds.find(followerId);
+        return id != UserIdDictionary.UNKNOWN ? toUserIds(following.targetsOf(id)) : Collections.emptyList();
     }
     
     @Override
     public List<String> findFollowerIds(String followedId) {
-        Set<String> followerSet = followers.get(followedId);
-        return followerSet != null ? new ArrayList<>(followerSet) : Collections.emptyList();
+        int id = userIds.find(followedId);
+        return id != UserIdDictionary.UNKNOWN ? toUserIds(followers.targetsOf(id)) : Collections.emptyList();
     }
     
     @Override
@@ -55,9 +82,85 @@ public class InMemoryFollowRepository implements FollowRepository {
         return findFollowerIds(userId);
     }
     
+    @Override
+    public Stream<String> streamFollowers(String userId) {
+        int id = userIds.find(userId);
+        return id != UserIdDictionary.UNKNOWN ? followers.streamTargets(id).mapToObj(userIds::userIdOf) : Stream.empty();
+    }
+
+    @Override
+    public List<String> findMutualFollowIds(String userId) {
+        int id = userIds.find(userId);
+        if (id == UserIdDictionary.UNKNOWN) {
+            return Collections.emptyList();
+        }
+        return toUserIds(RoaringBitmap.and(following.bitmapOf(id), followers.bitmapOf(id)).toArray());
+    }
+
+    @Override
+    public int countFollowers(String userId) {
+        int id = userIds.find(userId);
+        return id != UserIdDictionary.UNKNOWN ? followers.degree(id) : 0;
+    }
+
+    @Override
+    public List<String> findUserIdsWithMoreFollowersThan(int count) {
+        List<String> result = new ArrayList<>();
+        int sources = followers.sourceBound();
+        for (int followedId = 0; followedId < sources; followedId++) {
+            if (followers.degree(followedId) > count) {
+                result.add(userIds.userIdOf(followedId));
+            }
+        }
+        return result;
+    }
+
     @Override
     public boolean exists(String followerId, String followedId) {
-        Set<String> followedSet = following.get(followerId);
-        return followedSet != null && followedSet.contains(followedId);
+        int follower = userIds.find(followerId);
+        int followed = userIds.find(followedId);
+        return follower != UserIdDictionary.UNKNOWN && followed != UserIdDictionary.UNKNOWN
+                && following.contains(follower, followed);
+    }
+
+    /**
+     * Writes the followed users of each follower, as dense IDs.
+     */
+    public void writeSnapshot(DataOutput output) throws IOException {
+        int sources = following.sourceBound();
+        for (int followerId = 0; followerId < sources; followerId++) {
+            int[] followedIds = following.targetsOf(followerId);
+            if (followedIds.length > 0) {
+                output.writeInt(followerId);
+                output.writeInt(followedIds.length);
+                for (int followedId : followedIds) {
+                    output.writeInt(followedId);
+                }
+            }
+        }
+        output.writeInt(UserIdDictionary.UNKNOWN);
+    }
+
+    /**
+     * Reads follows written by {@link #writeSnapshot}, the user IDs must have been restored first.
+     */
+    public void readSnapshot(DataInput input) throws IOException {
+        int followerId;
+        while ((followerId = input.readInt()) != UserIdDictionary.UNKNOWN) {
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                int followedId = input.readInt();
+                followers.add(followedId, followerId);
+                following.add(followerId, followedId);
+            }
+        }
+    }
+
+    private List<String> toUserIds(int[] ids) {
+        List<String> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(userIds.userIdOf(id));
+        }
+        return result;
     }
 }
@@ -2,42 +2,245 @@ package com.example.minix.infrastructure.out.persistence.inmemory;
 
 import com.example.minix.application.port.out.TimelineRepository;
 import com.example.minix.domain.model.Timeline;
-import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.domain.model.TimelineEntry;
+import com.example.minix.domain.model.TimelineQuery;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 /**
  * In-memory implementation of TimelineRepository.
  * Stores materialized timelines for read optimization.
- * Thread-safe using ConcurrentHashMap and synchronized lists.
+ * Timelines only hold tweet references, content is hydrated by the caller.
+ * Each timeline retains at most {@code timeline.retention-length} items.
+ * <p>
+ * Users are resolved to their dense IDs from the {@link UserIdDictionary}. Timelines are spread over
+ * {@code timeline.shard-count} shards by dense ID, each shard being an array indexed by that ID behind its own
+ * lock. Batch writes group users by shard, so a shard lock is taken once per batch rather than once per user.
  */
 @Repository
 public class InMemoryTimelineRepository implements TimelineRepository {
 
-    private final ConcurrentHashMap<String, Timeline> timelines = new ConcurrentHashMap<>();
+    private final UserIdDictionary userIds;
+    private final Shard[] shards;
+    private final int retentionLength;
+
+    public InMemoryTimelineRepository(UserIdDictionary userIds,
+            @Value("${timeline.retention-length}") final int retentionLength,
+            @Value("${timeline.shard-count}") final int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.userIds = userIds;
+        this.retentionLength = retentionLength;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    @Override
+    public void addToTimeline(String userId, TimelineEntry entry) {
+        timelineOf(userIds.intern(userId)).add(entry);
+    }
+
+    @Override
+    public void addToTimelines(Collection<String> userIds, TimelineEntry entry) {
+        forEachTimeline(userIds, timeline -> timeline.add(entry));
+    }
+
+    @Override
+    public void addAllToTimeline(String userId, Collection<TimelineEntry> entries) {
+        timelineOf(userIds.intern(userId)).addAll(entries);
+    }
 
     @Override
-    public void addToTimeline(String userId, TimelineItem item) {
-        timelines.computeIfAbsent(userId, k ->
-                        new Timeline())
-                .add(item);
+    public void addAllToTimelines(Collection<String> userIds, Collection<TimelineEntry> entries) {
+        forEachTimeline(userIds, timeline -> timeline.addAll(entries));
+    }
+
+    /**
+     * Applies an update to the timelines of many users, creating the missing ones shard by shard.
+     */
+    private void forEachTimeline(Collection<String> userIds, Consumer<Timeline> update) {
+        // counting sort of the dense IDs by shard
+        int[] ids = new int[userIds.size()];
+        int[] shardStarts = new int[shards.length + 1];
+        int count = 0;
+        for (String userId : userIds) {
+            ids[count] = this.userIds.intern(userId);
+            shardStarts[shardOf(ids[count]) + 1]++;
+            count++;
+        }
+        for (int shard = 0; shard < shards.length; shard++) {
+            shardStarts[shard + 1] += shardStarts[shard];
+        }
+        int[] slotsByShard = new int[count];
+        int[] next = Arrays.copyOf(shardStarts, shards.length);
+        for (int id : ids) {
+            slotsByShard[next[shardOf(id)]++] = slotOf(id);
+        }
+
+        for (int shard = 0; shard < shards.length; shard++) {
+            int from = shardStarts[shard];
+            int to = shardStarts[shard + 1];
+            if (from < to) {
+                for (Timeline timeline : shards[shard].getOrCreate(slotsByShard, from, to, retentionLength)) {
+                    update.accept(timeline);
+                }
+            }
+        }
     }
 
     @Override
-    public List<TimelineItem> getTimeline(String userId, int limit) {
-        Timeline timeline = timelines.get(userId);
+    public List<TimelineEntry> getTimeline(String userId, TimelineQuery query) {
+        Timeline timeline = findTimeline(userId);
 
         if (timeline == null) {
             return Collections.emptyList();
         }
-        return timeline.items(limit);
+        return timeline.items(query);
+    }
+
+    @Override
+    public long getTimelineVersion(String userId) {
+        Timeline timeline = findTimeline(userId);
+        return timeline != null ? timeline.version() : 0;
+    }
+
+    /**
+     * Writes the entries of each timeline, users as dense IDs. Timelines are written one at a time, while they
+     * keep receiving entries.
+     */
+    public void writeSnapshot(DataOutput output) throws IOException {
+        for (int shard = 0; shard < shards.length; shard++) {
+            Timeline[] timelines = shards[shard].snapshot();
+            for (int slot = 0; slot < timelines.length; slot++) {
+                if (timelines[slot] == null || timelines[slot].isEmpty()) {
+                    continue;
+                }
+                List<TimelineEntry> entries = timelines[slot].items(retentionLength);
+                output.writeInt(slot * shards.length + shard);
+                output.writeInt(entries.size());
+                for (TimelineEntry entry : entries) {
+                    output.writeLong(entry.tweetId());
+                    output.writeLong(entry.createdAt().getEpochSecond());
+                    output.writeInt(entry.createdAt().getNano());
+                }
+            }
+        }
+        output.writeInt(UserIdDictionary.UNKNOWN);
+    }
+
+    /**
+     * Reads timelines written by {@link #writeSnapshot}, the user IDs must have been restored first.
+     */
+    public void readSnapshot(DataInput input) throws IOException {
+        int id;
+        while ((id = input.readInt()) != UserIdDictionary.UNKNOWN) {
+            TimelineEntry[] entries = new TimelineEntry[input.readInt()];
+            for (int i = 0; i < entries.length; i++) {
+                long tweetId = input.readLong();
+                entries[i] = new TimelineEntry(tweetId, Instant.ofEpochSecond(input.readLong(), input.readInt()));
+            }
+            timelineOf(id).addAll(Arrays.asList(entries));
+        }
+    }
+
+    private Timeline findTimeline(String userId) {
+        int id = userIds.find(userId);
+        return id != UserIdDictionary.UNKNOWN ? shards[shardOf(id)].get(slotOf(id)) : null;
+    }
+
+    private Timeline timelineOf(int id) {
+        return shards[shardOf(id)].getOrCreate(new int[] {slotOf(id)}, 0, 1, retentionLength)[0];
+    }
+
+    private int shardOf(int id) {
+        return id % shards.length;
+    }
+
+    private int slotOf(int id) {
+        return id / shards.length;
+    }
+
+    /**
+     * Timelines of the users of one shard, indexed by their slot.
+     * Only the array is guarded by the shard lock, each timeline synchronizes its own entries.
+     */
+    private static final class Shard {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private Timeline[] timelines = new Timeline[16];
+
+        private Timeline[] snapshot() {
+            lock.readLock().lock();
+            try {
+                return timelines.clone();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private Timeline get(int slot) {
+            lock.readLock().lock();
+            try {
+                return slot < timelines.length ? timelines[slot] : null;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Resolves the timelines of the slots under one read lock, then creates the missing ones
+         * under one write lock.
+         */
+        private Timeline[] getOrCreate(int[] slots, int from, int to, int retentionLength) {
+            Timeline[] result = new Timeline[to - from];
+            boolean missing = false;
+            lock.readLock().lock();
+            try {
+                for (int i = 0; i < result.length; i++) {
+                    int slot = slots[from + i];
+                    result[i] = slot < timelines.length ? timelines[slot] : null;
+                    missing |= result[i] == null;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (missing) {
+                lock.writeLock().lock();
+                try {
+                    for (int i = 0; i < result.length; i++) {
+                        if (result[i] == null) {
+                            result[i] = create(slots[from + i], retentionLength);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            return result;
+        }
+
+        private Timeline create(int slot, int retentionLength) {
+            if (slot >= timelines.length) {
+                timelines = Arrays.copyOf(timelines, Math.max(timelines.length * 2, slot + 1));
+            }
+            if (timelines[slot] == null) {
+                timelines[slot] = new Timeline(retentionLength);
+            }
+            return timelines[slot];
+        }
     }
 }
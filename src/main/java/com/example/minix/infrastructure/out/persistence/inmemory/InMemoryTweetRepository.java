@@ -1,10 +1,19 @@
 package com.example.minix.infrastructure.out.persistence.inmemory;
 
 import com.example.minix.application.port.out.TweetRepository;
+import com.example.minix.domain.model.TimelineQuery;
 import com.example.minix.domain.model.Tweet;
+import com.example.minix.infrastructure.out.persistence.wal.WalRecord;
+import com.example.minix.infrastructure.out.persistence.wal.WriteAheadLog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -14,44 +23,157 @@ import java.util.stream.Collectors;
 /**
  * In-memory implementation of TweetRepository.
  * Thread-safe using ConcurrentHashMap.
+ * Keeps a per-author index in creation order so author queries don't scan every tweet.
+ * Authors are keyed by their dense IDs from the {@link UserIdDictionary} and stored tweets share
+ * the canonical instance of their author ID.
+ * Contents are kept off-heap in the {@link TweetContentStore}, tweets are only materialized when read.
+ * Saves are appended to the {@link WriteAheadLog} before being applied.
  */
 @Repository
+@ConditionalOnProperty(name = "tweet-repository.type", havingValue = "inmemory", matchIfMissing = true)
 public class InMemoryTweetRepository implements TweetRepository {
 
-    private final ConcurrentHashMap<String, Tweet> tweets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, StoredTweet> tweets = new ConcurrentHashMap<>();
+
+    // Map: dense author ID -> tweets of the author in creation order
+    private final ConcurrentHashMap<Integer, AuthorTweetIndex> tweetsByAuthor = new ConcurrentHashMap<>();
+
+    private final UserIdDictionary userIds;
+    private final TweetContentStore contents;
+    private final WriteAheadLog writeAheadLog;
+
+    public InMemoryTweetRepository(UserIdDictionary userIds, TweetContentStore contents, WriteAheadLog writeAheadLog) {
+        this.userIds = userIds;
+        this.contents = contents;
+        this.writeAheadLog = writeAheadLog;
+    }
 
     @Override
     public Tweet save(Tweet tweet) {
-        tweets.put(tweet.id(), tweet);
-        return tweet;
+        return writeAheadLog.append(new WalRecord.TweetSaved(tweet), () -> restore(tweet));
+    }
+
+    @Override
+    public List<Tweet> saveAll(List<Tweet> tweets) {
+        List<WalRecord> records = tweets.stream().<WalRecord>map(WalRecord.TweetSaved::new).toList();
+        return writeAheadLog.appendAll(records, () -> tweets.stream().map(this::restore).toList());
+    }
+
+    /**
+     * Applies a tweet without logging it, used to rebuild the repository on startup.
+     */
+    public Tweet restore(Tweet tweet) {
+        String authorId = userIds.canonical(tweet.authorId());
+        StoredTweet stored = new StoredTweet(tweet.id(), authorId, tweet.createdAt(), contents.put(tweet.content()));
+        StoredTweet previous = tweets.put(stored.id(), stored);
+        if (previous != null) {
+            authorIndex(previous.authorId()).remove(previous);
+        }
+        authorIndex(authorId).add(stored);
+        return authorId == tweet.authorId() ? tweet : new Tweet(tweet.id(), authorId, tweet.content(), tweet.createdAt());
     }
 
     @Override
-    public Optional<Tweet> findById(String id) {
-        return Optional.ofNullable(tweets.get(id));
+    public Optional<Tweet> findById(long id) {
+        StoredTweet stored = tweets.get(id);
+        return stored != null ? Optional.of(toTweet(stored)) : Optional.empty();
+    }
+
+    @Override
+    public List<Tweet> findAllById(Collection<Long> ids) {
+        List<Tweet> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            StoredTweet stored = tweets.get(id);
+            if (stored != null) {
+                found.add(toTweet(stored));
+            }
+        }
+        return found;
     }
 
     @Override
     public List<Tweet> findByAuthorId(String authorId) {
-        return tweets.values().stream()
-                .filter(tweet -> tweet.authorId().equals(authorId))
-                .sorted(Comparator.comparing(Tweet::createdAt).reversed())
-                .collect(Collectors.toList());
+        AuthorTweetIndex index = findAuthorIndex(authorId);
+        return index != null ? toTweets(index.latest(Integer.MAX_VALUE)) : new ArrayList<>();
     }
 
     @Override
     public List<Tweet> findByAuthorIdAfter(String authorId, int limit) {
-        return tweets.values().stream()
-                .filter(tweet -> tweet.authorId().equals(authorId))
-                .sorted(Comparator.comparing(Tweet::createdAt).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+        AuthorTweetIndex index = findAuthorIndex(authorId);
+        return index != null ? toTweets(index.latest(limit)) : new ArrayList<>();
+    }
+
+    @Override
+    public List<Tweet> findByAuthorId(String authorId, TimelineQuery query) {
+        AuthorTweetIndex index = findAuthorIndex(authorId);
+        return index != null ? toTweets(index.page(query)) : new ArrayList<>();
     }
 
     @Override
     public List<Tweet> findAll() {
         return tweets.values().stream()
-                .sorted(Comparator.comparing(Tweet::createdAt).reversed())
+                .sorted(Comparator.comparing(StoredTweet::createdAt).reversed())
+                .map(this::toTweet)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Writes the tweets, with authors as dense IDs. Saves may proceed meanwhile, the tweets they add may or
+     * may not be written.
+     */
+    public void writeSnapshot(DataOutput output) throws IOException {
+        for (StoredTweet tweet : tweets.values()) {
+            output.writeBoolean(true);
+            output.writeLong(tweet.id());
+            output.writeInt(userIds.intern(tweet.authorId()));
+            output.writeUTF(contents.get(tweet.contentHandle()));
+            output.writeLong(tweet.createdAt().getEpochSecond());
+            output.writeInt(tweet.createdAt().getNano());
+        }
+        output.writeBoolean(false);
+    }
+
+    /**
+     * Reads tweets written by {@link #writeSnapshot}, the user IDs must have been restored first.
+     */
+    public void readSnapshot(DataInput input) throws IOException {
+        while (input.readBoolean()) {
+            restore(new Tweet(input.readLong(), userIds.userIdOf(input.readInt()), input.readUTF(),
+                    Instant.ofEpochSecond(input.readLong(), input.readInt())));
+        }
+    }
+
+    /**
+     * Skips tweets written by {@link #writeSnapshot}, when tweets are stored elsewhere.
+     */
+    public static void skipSnapshot(DataInput input) throws IOException {
+        while (input.readBoolean()) {
+            input.readLong();
+            input.readInt();
+            input.readUTF();
+            input.readLong();
+            input.readInt();
+        }
+    }
+
+    private Tweet toTweet(StoredTweet stored) {
+        return new Tweet(stored.id(), stored.authorId(), contents.get(stored.contentHandle()), stored.createdAt());
+    }
+
+    private List<Tweet> toTweets(List<StoredTweet> stored) {
+        List<Tweet> result = new ArrayList<>(stored.size());
+        for (StoredTweet tweet : stored) {
+            result.add(toTweet(tweet));
+        }
+        return result;
+    }
+
+    private AuthorTweetIndex authorIndex(String authorId) {
+        return tweetsByAuthor.computeIfAbsent(userIds.intern(authorId), k -> new AuthorTweetIndex());
+    }
+
+    private AuthorTweetIndex findAuthorIndex(String authorId) {
+        int id = userIds.find(authorId);
+        return id != UserIdDictionary.UNKNOWN ? tweetsByAuthor.get(id) : null;
+    }
 }
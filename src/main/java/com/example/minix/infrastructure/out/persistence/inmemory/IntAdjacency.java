@@ -0,0 +1,339 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Directed graph over dense int IDs, storing edges as primitive arrays.
+ * <p>
+ * Most edges live in a compressed sparse row (CSR) layout: the targets of source {@code s} are
+ * {@code targets[offsets[s]]} up to {@code targets[offsets[s + 1]]}, sorted, at 4 bytes per edge. New edges go
+ * to small growable sorted arrays per source and are merged into the CSR arrays once they exceed a fraction
+ * of the compacted edges, so the compaction cost is amortized over the insertions.
+ * <p>
+ * Compaction always allocates new CSR arrays, so compacted arrays are never modified once published and can be
+ * read without copying or locking. The lock is only held to freeze the pending edges and to swap in the new
+ * arrays: the merge itself runs outside of it, so reads and new edges never wait for a whole compaction. Until
+ * the swap, frozen edges are read alongside the old CSR arrays and new edges go to fresh pending arrays.
+ * <p>
+ * Sources whose degree exceeds the bitmap threshold are moved to a compressed {@link RoaringBitmap}, which is
+ * an order of magnitude smaller for large dense ID sets and supports fast unions and intersections.
+ * Their CSR space is reclaimed at the next compaction.
+ */
+final class IntAdjacency {
+
+    private static final int[] EMPTY = new int[0];
+    private static final int MIN_PENDING_EDGES = 1024;
+    private static final int COMPACTION_RATIO = 8;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // compacted edges in CSR form
+    private int[] offsets = {0};
+    private int[] targets = EMPTY;
+
+    // edges being merged by the compaction in progress, sorted per source, never modified
+    private int[][] frozen = new int[0][];
+    private int[] frozenSizes = EMPTY;
+    private boolean compacting;
+
+    // edges added since the last compaction, sorted per source
+    private int[][] pending = new int[16][];
+    private int[] pendingSizes = new int[16];
+    private int pendingEdges;
+
+    // sources above the threshold
+    private final Map<Integer, RoaringBitmap> bitmaps = new HashMap<>();
+    private final int bitmapThreshold;
+    private final Executor compactor;
+
+    IntAdjacency(int bitmapThreshold) {
+        this(bitmapThreshold, Runnable::run);
+    }
+
+    /**
+     * @param compactor runs the merges of the compactions, by default the thread adding the edge triggering them
+     */
+    IntAdjacency(int bitmapThreshold, Executor compactor) {
+        this.bitmapThreshold = bitmapThreshold;
+        this.compactor = compactor;
+    }
+
+    /**
+     * Adds an edge.
+     *
+     * @return false if the edge already existed
+     */
+    boolean add(int source, int target) {
+        Runnable compaction;
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap bitmap = bitmaps.get(source);
+            if (bitmap != null) {
+                return bitmap.checkedAdd(target);
+            }
+            if (compactedIndexOf(source, target) >= 0 || frozenIndexOf(source, target) >= 0) {
+                return false;
+            }
+            ensurePendingCapacity(source);
+            int[] list = pending[source] != null ? pending[source] : new int[4];
+            int size = pendingSizes[source];
+            int position = Arrays.binarySearch(list, 0, size, target);
+            if (position >= 0) {
+                return false;
+            }
+            int insertion = -position - 1;
+            if (size == list.length) {
+                list = Arrays.copyOf(list, size * 2);
+            }
+            System.arraycopy(list, insertion, list, insertion + 1, size - insertion);
+            list[insertion] = target;
+            pending[source] = list;
+            pendingSizes[source] = size + 1;
+            pendingEdges++;
+
+            if (compactedDegree(source) + frozenSize(source) + size + 1 > bitmapThreshold) {
+                toBitmap(source);
+            }
+            compaction = !compacting && pendingEdges > Math.max(MIN_PENDING_EDGES, targets.length / COMPACTION_RATIO)
+                    ? freeze() : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compaction != null) {
+            compactor.execute(compaction);
+        }
+        return true;
+    }
+
+    boolean contains(int source, int target) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = bitmaps.get(source);
+            if (bitmap != null) {
+                return bitmap.contains(target);
+            }
+            return compactedIndexOf(source, target) >= 0 || frozenIndexOf(source, target) >= 0
+                    || (source < pending.length && pending[source] != null
+                    && Arrays.binarySearch(pending[source], 0, pendingSizes[source], target) >= 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int degree(int source) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = bitmaps.get(source);
+            if (bitmap != null) {
+                return bitmap.getCardinality();
+            }
+            return compactedDegree(source) + frozenSize(source) + pendingSize(source);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the targets of a source, sorted.
+     */
+    int[] targetsOf(int source) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = bitmaps.get(source);
+            if (bitmap != null) {
+                return bitmap.toArray();
+            }
+            int from = source < offsets.length - 1 ? offsets[source] : 0;
+            int compacted = compactedDegree(source);
+            int frozenSize = frozenSize(source);
+            int[] merged = frozenSize == 0 ? Arrays.copyOfRange(targets, from, from + compacted)
+                    : merge(targets, from, compacted, frozen[source], frozenSize, new int[compacted + frozenSize], 0);
+            int size = pendingSize(source);
+            if (size == 0) {
+                return merged;
+            }
+            return merge(merged, 0, merged.length, pending[source], size, new int[merged.length + size], 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Streams the targets of a source without copying the compacted ones, in no particular order.
+     * The stream is weakly consistent: it reflects the edges at the time of the call.
+     * Sources stored as bitmaps stream a copy of their compressed bitmap.
+     */
+    IntStream streamTargets(int source) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = bitmaps.get(source);
+            if (bitmap != null) {
+                return bitmap.clone().stream();
+            }
+            int from = source < offsets.length - 1 ? offsets[source] : 0;
+            IntStream compacted = Arrays.stream(targets, from, from + compactedDegree(source));
+            int frozenSize = frozenSize(source);
+            if (frozenSize > 0) {
+                compacted = IntStream.concat(compacted, Arrays.stream(frozen[source], 0, frozenSize));
+            }
+            int size = pendingSize(source);
+            return size == 0 ? compacted : IntStream.concat(compacted, Arrays.stream(Arrays.copyOf(pending[source], size)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns an upper bound of the sources having edges.
+     */
+    int sourceBound() {
+        lock.readLock().lock();
+        try {
+            return Math.max(Math.max(offsets.length - 1, frozen.length), pending.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the targets of a source as a bitmap the caller may modify, for set operations.
+     */
+    RoaringBitmap bitmapOf(int source) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = bitmaps.get(source);
+            return bitmap != null ? bitmap.clone() : RoaringBitmap.bitmapOf(targetsOf(source));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the targets of a source to a bitmap, its CSR slice is dropped at the next compaction.
+     */
+    private void toBitmap(int source) {
+        RoaringBitmap bitmap = RoaringBitmap.bitmapOf(targetsOf(source));
+        bitmap.runOptimize();
+        bitmaps.put(source, bitmap);
+        pendingEdges -= pendingSize(source);
+        pending[source] = null;
+        pendingSizes[source] = 0;
+    }
+
+    /**
+     * Freezes the pending edges for a compaction and starts new pending arrays, while holding the write lock.
+     *
+     * @return the compaction, merging the frozen edges into new CSR arrays without holding the lock
+     */
+    private Runnable freeze() {
+        compacting = true;
+        frozen = pending;
+        frozenSizes = pendingSizes;
+        pending = new int[pending.length][];
+        pendingSizes = new int[pending.length];
+        pendingEdges = 0;
+        int[] compactedOffsets = offsets;
+        int[] compactedTargets = targets;
+        int[][] frozenTargets = frozen;
+        int[] frozenTargetSizes = frozenSizes;
+        Set<Integer> skipped = Set.copyOf(bitmaps.keySet());
+        return () -> {
+            int sources = Math.max(compactedOffsets.length - 1, frozenTargets.length);
+            long edges = compactedTargets.length;
+            for (int size : frozenTargetSizes) {
+                edges += size;
+            }
+            int[] newOffsets = new int[sources + 1];
+            int[] newTargets = new int[Math.toIntExact(edges)];
+            int position = 0;
+            for (int source = 0; source < sources; source++) {
+                newOffsets[source] = position;
+                if (skipped.contains(source)) {
+                    continue;
+                }
+                int from = source < compactedOffsets.length - 1 ? compactedOffsets[source] : 0;
+                int compacted = source < compactedOffsets.length - 1
+                        ? compactedOffsets[source + 1] - compactedOffsets[source] : 0;
+                int frozenSize = source < frozenTargetSizes.length ? frozenTargetSizes[source] : 0;
+                merge(compactedTargets, from, compacted, frozenSize > 0 ? frozenTargets[source] : EMPTY, frozenSize,
+                        newTargets, position);
+                position += compacted + frozenSize;
+            }
+            newOffsets[sources] = position;
+            swap(newOffsets, position < newTargets.length ? Arrays.copyOf(newTargets, position) : newTargets);
+        };
+    }
+
+    /**
+     * Publishes the compacted arrays, replacing the old CSR arrays and the frozen edges they now hold.
+     * Sources moved to bitmaps during the merge keep a stale CSR slice until the next compaction.
+     */
+    private void swap(int[] newOffsets, int[] newTargets) {
+        lock.writeLock().lock();
+        try {
+            offsets = newOffsets;
+            targets = newTargets;
+            frozen = new int[0][];
+            frozenSizes = EMPTY;
+            compacting = false;
+            bitmaps.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int[] merge(int[] left, int leftFrom, int leftSize, int[] right, int rightSize,
+            int[] destination, int destinationFrom) {
+        int l = 0;
+        int r = 0;
+        int d = destinationFrom;
+        while (l < leftSize && r < rightSize) {
+            destination[d++] = left[leftFrom + l] <= right[r] ? left[leftFrom + l++] : right[r++];
+        }
+        while (l < leftSize) {
+            destination[d++] = left[leftFrom + l++];
+        }
+        while (r < rightSize) {
+            destination[d++] = right[r++];
+        }
+        return destination;
+    }
+
+    private int compactedIndexOf(int source, int target) {
+        int degree = compactedDegree(source);
+        return degree > 0 ? Arrays.binarySearch(targets, offsets[source], offsets[source] + degree, target) : -1;
+    }
+
+    private int frozenIndexOf(int source, int target) {
+        int size = frozenSize(source);
+        return size > 0 ? Arrays.binarySearch(frozen[source], 0, size, target) : -1;
+    }
+
+    private int frozenSize(int source) {
+        return source < frozenSizes.length ? frozenSizes[source] : 0;
+    }
+
+    private int compactedDegree(int source) {
+        return source < offsets.length - 1 ? offsets[source + 1] - offsets[source] : 0;
+    }
+
+    private int pendingSize(int source) {
+        return source < pendingSizes.length ? pendingSizes[source] : 0;
+    }
+
+    private void ensurePendingCapacity(int source) {
+        if (source >= pending.length) {
+            int capacity = Math.max(pending.length * 2, source + 1);
+            pending = Arrays.copyOf(pending, capacity);
+            pendingSizes = Arrays.copyOf(pendingSizes, capacity);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import java.time.Instant;
+
+/**
+ * Tweet as held by the repository, its content stays off-heap in the {@link TweetContentStore}.
+ */
+record StoredTweet(long id, String authorId, Instant createdAt, long contentHandle) {
+}
@@ -0,0 +1,153 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Off-heap store of tweet contents, as UTF-8 bytes appended to memory-mapped segment files.
+ * <p>
+ * Each content is referenced by a {@code long} handle packing its segment, offset and length, so the heap only
+ * holds one primitive per tweet and the page cache holds the bytes. Contents are written once and never moved,
+ * a handle is readable by any thread once it has been published, e.g. through a concurrent map.
+ * <p>
+ * The store only caches the repository contents, durability comes from the write-ahead log. Its segments are
+ * recreated on every start, in a temporary directory unless {@code tweet-content.directory} is set.
+ */
+@Component
+@ConditionalOnProperty(name = "tweet-repository.type", havingValue = "inmemory", matchIfMissing = true)
+@Slf4j
+public class TweetContentStore {
+
+    private static final int LENGTH_BITS = 12;
+    private static final int OFFSET_BITS = 31;
+    private static final int MAX_LENGTH = (1 << LENGTH_BITS) - 1;
+    private static final String SEGMENT_PREFIX = "content-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    private final Path directory;
+    private final boolean temporary;
+    private final int segmentSizeBytes;
+
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+    // guarded by this
+    private int position;
+
+    public TweetContentStore(@Value("${tweet-content.directory}") String directory,
+            @Value("${tweet-content.segment-size-bytes}") int segmentSizeBytes) throws IOException {
+        if (segmentSizeBytes < MAX_LENGTH) {
+            throw new IllegalArgumentException("Tweet content segment size must be at least " + MAX_LENGTH + " bytes");
+        }
+        this.temporary = directory == null || directory.isBlank();
+        this.directory = temporary ? Files.createTempDirectory("minix-content") : Paths.get(directory);
+        this.segmentSizeBytes = segmentSizeBytes;
+        Files.createDirectories(this.directory);
+        deleteSegments();
+    }
+
+    /**
+     * Appends a content.
+     *
+     * @param content the tweet content
+     * @return the handle of the stored bytes
+     */
+    public long put(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Tweet content cannot exceed " + MAX_LENGTH + " bytes");
+        }
+        synchronized (this) {
+            MappedByteBuffer[] current = segments;
+            if (current.length == 0 || position + bytes.length > segmentSizeBytes) {
+                current = addSegment(current);
+            }
+            int segment = current.length - 1;
+            int offset = position;
+            current[segment].put(offset, bytes);
+            position += bytes.length;
+            return ((long) segment << (OFFSET_BITS + LENGTH_BITS)) | ((long) offset << LENGTH_BITS) | bytes.length;
+        }
+    }
+
+    /**
+     * Decodes a content.
+     *
+     * @param handle a handle returned by {@link #put}
+     * @return the tweet content
+     */
+    public String get(long handle) {
+        byte[] bytes = new byte[lengthOf(handle)];
+        segments[segmentOf(handle)].get(offsetOf(handle), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Size of a content in bytes.
+     */
+    public static int lengthOf(long handle) {
+        return (int) (handle & MAX_LENGTH);
+    }
+
+    private static int offsetOf(long handle) {
+        return (int) ((handle >>> LENGTH_BITS) & ((1L << OFFSET_BITS) - 1));
+    }
+
+    private static int segmentOf(long handle) {
+        return (int) (handle >>> (OFFSET_BITS + LENGTH_BITS));
+    }
+
+    private MappedByteBuffer[] addSegment(MappedByteBuffer[] current) {
+        Path path = directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, current.length, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // the mapping stays valid once the channel is closed
+            MappedByteBuffer[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSizeBytes);
+            segments = grown;
+            position = 0;
+            log.debug("Mapped tweet content segment {}", path);
+            return grown;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map tweet content segment " + path, e);
+        }
+    }
+
+    private void deleteSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            // mappings are released once unreachable, the files can be unlinked before
+            deleteSegments();
+            if (temporary) {
+                Files.deleteIfExists(directory);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete tweet content segments in {}", directory, e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of user IDs shared by the in-memory repositories.
+ * <p>
+ * Each external user ID is mapped once to a dense {@code int}, assigned in arrival order, so repositories
+ * can key their structures by small primitives and index arrays with them. The dictionary also hands out
+ * one canonical {@code String} per user, so stored objects share a single instance of each ID.
+ */
+@Component
+public class UserIdDictionary {
+
+    public static final int UNKNOWN = -1;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] userIds = new String[1024];
+    private int size;
+
+    /**
+     * Returns the dense ID of a user, assigning the next one on first sight.
+     *
+     * @param userId the external user ID
+     * @return the dense ID
+     */
+    public int intern(String userId) {
+        Integer id = ids.get(userId);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(userId);
+            if (id != null) {
+                return id;
+            }
+            int next = size;
+            if (next == userIds.length) {
+                userIds = Arrays.copyOf(userIds, next * 2);
+            }
+            // the reverse mapping is written before the ID is published through the map
+            userIds[next] = userId;
+            size++;
+            ids.put(userId, next);
+            return next;
+        }
+    }
+
+    /**
+     * Returns the dense ID of a user without assigning one.
+     *
+     * @param userId the external user ID
+     * @return the dense ID, or {@link #UNKNOWN} if the user was never interned
+     */
+    public int find(String userId) {
+        Integer id = ids.get(userId);
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * Returns the canonical external ID of a dense ID.
+     *
+     * @param id a dense ID returned by {@link #intern(String)}
+     * @return the external user ID
+     */
+    public String userIdOf(int id) {
+        return userIds[id];
+    }
+
+    /**
+     * Returns the canonical instance of a user ID, interning it if needed.
+     *
+     * @param userId the external user ID
+     * @return the shared instance equal to {@code userId}
+     */
+    public String canonical(String userId) {
+        return userIdOf(intern(userId));
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Writes the user IDs in dense ID order.
+     * Dense IDs are only ever appended, so the snapshot covers every ID assigned before the call.
+     */
+    public void writeSnapshot(DataOutput output) throws IOException {
+        String[] snapshot;
+        int count;
+        synchronized (this) {
+            snapshot = userIds;
+            count = size;
+        }
+        output.writeInt(count);
+        for (int id = 0; id < count; id++) {
+            output.writeUTF(snapshot[id]);
+        }
+    }
+
+    /**
+     * Reads user IDs written by {@link #writeSnapshot}, assigning them the same dense IDs.
+     *
+     * @throws IllegalStateException if IDs were already assigned
+     */
+    public synchronized void readSnapshot(DataInput input) throws IOException {
+        if (size > 0) {
+            throw new IllegalStateException("User IDs can only be restored into an empty dictionary");
+        }
+        int count = input.readInt();
+        for (int id = 0; id < count; id++) {
+            intern(input.readUTF());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.minix.infrastructure.out.persistence.lsm;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Bloom filter over byte array keys, used to skip sorted tables that cannot hold a key.
+ * <p>
+ * Uses about 10 bits per key and 7 probes derived from one 64-bit hash (double hashing), for a false
+ * positive rate around 1%.
+ */
+final class BloomFilter {
+
+    private static final int BITS_PER_KEY = 10;
+    private static final int PROBES = 7;
+
+    private final long[] bits;
+
+    private BloomFilter(long[] bits) {
+        this.bits = bits;
+    }
+
+    static BloomFilter withExpectedKeys(int keys) {
+        return new BloomFilter(new long[Math.max(1, (keys * BITS_PER_KEY + 63) / 64)]);
+    }
+
+    void add(byte[] key) {
+        long hash = hash(key);
+        int delta = (int) (hash >>> 32) | 1;
+        int probe = (int) hash;
+        long size = bits.length * 64L;
+        for (int i = 0; i < PROBES; i++) {
+            long bit = Integer.toUnsignedLong(probe) % size;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+            probe += delta;
+        }
+    }
+
+    boolean mightContain(byte[] key) {
+        long hash = hash(key);
+        int delta = (int) (hash >>> 32) | 1;
+        int probe = (int) hash;
+        long size = bits.length * 64L;
+        for (int i = 0; i < PROBES; i++) {
+            long bit = Integer.toUnsignedLong(probe) % size;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+            probe += delta;
+        }
+        return true;
+    }
+
+    void writeTo(DataOutput output) throws IOException {
+        output.writeInt(bits.length);
+        for (long word : bits) {
+            output.writeLong(word);
+        }
+    }
+
+    static BloomFilter readFrom(ByteBuffer input) {
+        long[] bits = new long[input.getInt()];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = input.getLong();
+        }
+        return new BloomFilter(bits);
+    }
+
+    /**
+     * FNV-1a followed by a 64-bit finalizer, so both halves of the hash are well mixed.
+     */
+    private static long hash(byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,388 @@
+package com.example.minix.infrastructure.out.persistence.lsm;
+
+import com.example.minix.infrastructure.out.persistence.wal.WriteAheadLog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Embedded log-structured merge store of byte array keys and values.
+ * <p>
+ * Writes go to a concurrent sorted memtable, made durable by a commit log owned by the caller. Once the memtable
+ * exceeds its size it is frozen and a background thread writes it to an immutable {@link SortedTable}, then drops
+ * the commit log segments it covered: each frozen memtable remembers the commit log checkpoint taken when it was
+ * frozen, every record up to it is in that memtable or an older one. When enough tables pile up, the newest ones are merged into a single table
+ * (size-tiered compaction), so a read only probes a bounded number of files.
+ * <p>
+ * Reads see an immutable view of the memtables and tables swapped atomically on every flush or compaction, the
+ * newest source holding a key wins. Point reads skip tables with their bloom filters, range scans merge the
+ * sources in key order. Deletes are tombstones, kept by compactions.
+ */
+@Slf4j
+final class LsmStore {
+
+    /**
+     * Value of a deleted key.
+     */
+    static final byte[] TOMBSTONE = new byte[0];
+
+    private static final String TABLE_PREFIX = "table-";
+    private static final String TABLE_SUFFIX = ".sst";
+    private static final long MAX_COMPACTED_BYTES = 1L << 30;
+    private static final Comparator<byte[]> KEY_ORDER = Arrays::compareUnsigned;
+
+    private final Path directory;
+    private final long memtableSizeBytes;
+    private final int compactionThreshold;
+    private final WriteAheadLog commitLog;
+    private final ExecutorService background;
+    private final AtomicLong nextTableId = new AtomicLong();
+
+    private volatile View view;
+    private final AtomicLong memtableBytes = new AtomicLong();
+    private final AtomicBoolean freezeScheduled = new AtomicBoolean();
+
+    LsmStore(Path directory, long memtableSizeBytes, int compactionThreshold, WriteAheadLog commitLog)
+            throws IOException {
+        this(directory, memtableSizeBytes, compactionThreshold, commitLog, Executors.newSingleThreadExecutor(
+                runnable -> {
+                    Thread thread = new Thread(runnable, "lsm-compactor");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    /**
+     * @param background single thread running the freezes, flushes and compactions
+     */
+    LsmStore(Path directory, long memtableSizeBytes, int compactionThreshold, WriteAheadLog commitLog,
+            ExecutorService background) throws IOException {
+        if (memtableSizeBytes <= 0) {
+            throw new IllegalArgumentException("Memtable size must be positive");
+        }
+        if (compactionThreshold < 2) {
+            throw new IllegalArgumentException("Compaction threshold must be at least 2");
+        }
+        this.directory = directory;
+        this.memtableSizeBytes = memtableSizeBytes;
+        this.compactionThreshold = compactionThreshold;
+        this.commitLog = commitLog;
+        Files.createDirectories(directory);
+        this.view = new View(new ConcurrentSkipListMap<>(KEY_ORDER), List.of(), openTables());
+        this.background = background;
+    }
+
+    /**
+     * Writes a value, to be called once its commit log record is durable.
+     */
+    void put(byte[] key, byte[] value) {
+        View current = view;
+        current.memtable().put(key, value);
+        if (memtableBytes.addAndGet(key.length + value.length + 64L) > memtableSizeBytes
+                && freezeScheduled.compareAndSet(false, true)) {
+            // the caller holds the commit log gate, the checkpoint of the freeze has to be taken elsewhere
+            background.execute(() -> {
+                freezeScheduled.set(false);
+                freeze();
+            });
+        }
+    }
+
+    void delete(byte[] key) {
+        put(key, TOMBSTONE);
+    }
+
+    /**
+     * Reads a value.
+     *
+     * @return the value, or null if absent or deleted
+     */
+    byte[] get(byte[] key) {
+        View current = view;
+        byte[] value = current.memtable().get(key);
+        for (int i = current.frozen().size() - 1; value == null && i >= 0; i--) {
+            value = current.frozen().get(i).memtable().get(key);
+        }
+        for (int i = current.tables().size() - 1; value == null && i >= 0; i--) {
+            value = current.tables().get(i).get(key);
+        }
+        return value == null || value.length == 0 ? null : value;
+    }
+
+    /**
+     * Iterates the live entries whose keys start with the prefix, from the first key greater than or equal to
+     * {@code from}, in key order.
+     */
+    Iterator<Entry> scan(byte[] prefix, byte[] from) {
+        View current = view;
+        List<Iterator<Entry>> sources = new ArrayList<>();
+        // oldest source first, so a higher source index means a newer value
+        for (SortedTable table : current.tables()) {
+            sources.add(table.iterator(from));
+        }
+        for (Frozen frozen : current.frozen()) {
+            sources.add(entries(frozen.memtable(), from));
+        }
+        sources.add(entries(current.memtable(), from));
+        return new MergingIterator(sources, prefix, true);
+    }
+
+    int tableCount() {
+        return view.tables().size();
+    }
+
+    /**
+     * Freezes the memtable and writes it to a table, blocking until done.
+     */
+    void flush() {
+        freeze();
+        try {
+            background.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to flush memtable", e);
+        }
+    }
+
+    void shutdown() {
+        background.shutdown();
+        try {
+            background.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Freezes the memtable and schedules its flush. Must not be called while applying a commit log record.
+     */
+    void freeze() {
+        if (view.memtable().isEmpty()) {
+            return;
+        }
+        // every record up to this sequence is applied, to the memtable about to be frozen or an older one
+        long sequence = commitLog.checkpoint();
+        synchronized (this) {
+            View current = view;
+            if (current.memtable().isEmpty()) {
+                return;
+            }
+            List<Frozen> frozen = new ArrayList<>(current.frozen());
+            frozen.add(new Frozen(current.memtable(), sequence));
+            view = new View(new ConcurrentSkipListMap<>(KEY_ORDER), frozen, current.tables());
+            memtableBytes.set(0);
+        }
+        background.execute(this::flushFrozen);
+    }
+
+    /**
+     * Writes the oldest frozen memtable to a table, then compacts if needed. Runs on the background thread.
+     */
+    private void flushFrozen() {
+        // waits for the puts which read the view before the freeze and may still write to the frozen memtable
+        commitLog.checkpoint();
+        Frozen frozen = view.frozen().get(0);
+        try {
+            long id = nextTableId.getAndIncrement();
+            SortedTable table = SortedTable.write(tablePath(id), id, entries(frozen.memtable(), new byte[0]),
+                    frozen.memtable().size());
+            synchronized (this) {
+                List<SortedTable> tables = new ArrayList<>(view.tables());
+                tables.add(table);
+                view = new View(view.memtable(), view.frozen().subList(1, view.frozen().size()), tables);
+            }
+            log.debug("Flushed {} entries to {}", table.entries(), table.path().getFileName());
+            // older frozen memtables were flushed first, so the records up to the freeze are all in tables
+            commitLog.deleteSegmentsBefore(frozen.sequence());
+            compactIfNeeded();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to flush memtable, it stays in memory", e);
+        }
+    }
+
+    /**
+     * Merges the newest tables into one once there are enough of them, up to a size limit. Only a contiguous
+     * run of the newest tables is merged, so the merged table still overrides every older one.
+     */
+    private void compactIfNeeded() throws IOException {
+        List<SortedTable> tables = view.tables();
+        if (tables.size() < compactionThreshold) {
+            return;
+        }
+        int from = tables.size();
+        long bytes = 0;
+        int entries = 0;
+        while (from > 0 && bytes + tables.get(from - 1).sizeBytes() <= MAX_COMPACTED_BYTES) {
+            from--;
+            bytes += tables.get(from).sizeBytes();
+            entries += tables.get(from).entries();
+        }
+        if (tables.size() - from < compactionThreshold) {
+            return;
+        }
+        List<SortedTable> inputs = tables.subList(from, tables.size());
+        List<Iterator<Entry>> sources = new ArrayList<>();
+        for (SortedTable input : inputs) {
+            sources.add(input.iterator(new byte[0]));
+        }
+        long id = nextTableId.getAndIncrement();
+        SortedTable merged = SortedTable.write(tablePath(id), id,
+                new MergingIterator(sources, new byte[0], false), entries);
+        synchronized (this) {
+            List<SortedTable> remaining = new ArrayList<>(view.tables());
+            remaining.removeAll(inputs);
+            remaining.add(merged);
+            view = new View(view.memtable(), view.frozen(), remaining);
+        }
+        // readers still holding the old view keep their mappings, which outlive the files
+        for (SortedTable input : inputs) {
+            Files.deleteIfExists(input.path());
+        }
+        log.debug("Compacted {} tables into {}", inputs.size(), merged.path().getFileName());
+    }
+
+    private List<SortedTable> openTables() throws IOException {
+        List<SortedTable> tables = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.sorted().toList()) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.delete(path);
+                } else if (name.startsWith(TABLE_PREFIX) && name.endsWith(TABLE_SUFFIX)) {
+                    long id = Long.parseLong(name.substring(TABLE_PREFIX.length(),
+                            name.length() - TABLE_SUFFIX.length()));
+                    tables.add(SortedTable.open(path, id));
+                    nextTableId.set(Math.max(nextTableId.get(), id + 1));
+                }
+            }
+        }
+        tables.sort(Comparator.comparingLong(SortedTable::id));
+        return Collections.unmodifiableList(tables);
+    }
+
+    private Path tablePath(long id) {
+        return directory.resolve(String.format("%s%020d%s", TABLE_PREFIX, id, TABLE_SUFFIX));
+    }
+
+    private static Iterator<Entry> entries(ConcurrentSkipListMap<byte[], byte[]> memtable, byte[] from) {
+        Iterator<Map.Entry<byte[], byte[]>> iterator = memtable.tailMap(from, true).entrySet().iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Entry next() {
+                Map.Entry<byte[], byte[]> entry = iterator.next();
+                return new Entry(entry.getKey(), entry.getValue());
+            }
+        };
+    }
+
+    /**
+     * Key and value of an entry, the value is {@link #TOMBSTONE} for a deleted key.
+     */
+    record Entry(byte[] key, byte[] value) {
+    }
+
+    /**
+     * Sources visible to readers, from the newest to the oldest: the memtable, the frozen memtables
+     * being flushed and the tables (last is newest).
+     */
+    private record View(ConcurrentSkipListMap<byte[], byte[]> memtable, List<Frozen> frozen,
+            List<SortedTable> tables) {
+    }
+
+    /**
+     * A memtable waiting to be flushed, with the commit log checkpoint taken when it was frozen.
+     */
+    private record Frozen(ConcurrentSkipListMap<byte[], byte[]> memtable, long sequence) {
+    }
+
+    /**
+     * Merges sorted sources, keeping the value of the newest source for each key.
+     */
+    private static final class MergingIterator implements Iterator<Entry> {
+
+        private final PriorityQueue<Head> heads;
+        private final byte[] prefix;
+        private final boolean skipTombstones;
+        private Entry next;
+
+        private MergingIterator(List<Iterator<Entry>> sources, byte[] prefix, boolean skipTombstones) {
+            this.heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                    Comparator.comparing((Head head) -> head.entry.key(), KEY_ORDER)
+                            .thenComparing(Comparator.comparingInt((Head head) -> head.source).reversed()));
+            this.prefix = prefix;
+            this.skipTombstones = skipTombstones;
+            for (int i = 0; i < sources.size(); i++) {
+                if (sources.get(i).hasNext()) {
+                    heads.add(new Head(i, sources.get(i).next(), sources.get(i)));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !heads.isEmpty()) {
+                Head newest = heads.poll();
+                Entry entry = newest.entry;
+                advance(newest);
+                // older versions of the same key
+                while (!heads.isEmpty() && Arrays.equals(heads.peek().entry.key(), entry.key())) {
+                    advance(heads.poll());
+                }
+                if (!startsWithPrefix(entry.key())) {
+                    heads.clear();
+                } else if (!skipTombstones || entry.value().length > 0) {
+                    next = entry;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Entry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry entry = next;
+            next = null;
+            return entry;
+        }
+
+        private void advance(Head head) {
+            if (head.iterator.hasNext()) {
+                heads.add(new Head(head.source, head.iterator.next(), head.iterator));
+            }
+        }
+
+        private boolean startsWithPrefix(byte[] key) {
+            return key.length >= prefix.length
+                    && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+        }
+
+        private record Head(int source, Entry entry, Iterator<Entry> iterator) {
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.minix.infrastructure.out.persistence.lsm;
+
+import com.example.minix.application.port.out.TweetRepository;
+import com.example.minix.domain.model.TimelineCursor;
+import com.example.minix.domain.model.TimelineQuery;
+import com.example.minix.domain.model.Tweet;
+import com.example.minix.infrastructure.out.persistence.wal.WalRecord;
+import com.example.minix.infrastructure.out.persistence.wal.WriteAheadLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistent implementation of TweetRepository on an embedded {@link LsmStore}, so the tweet corpus can exceed RAM.
+ * <p>
+ * Tweets are stored under two keys:
+ * <ul>
+ *   <li>{@code 'A' + author + creation time + tweet ID} holds the tweet. Time and ID are stored inverted, so the
+ *   tweets of an author are contiguous and newest first, and author queries are forward range scans.</li>
+ *   <li>{@code 'I' + tweet ID} holds the author key of the tweet, for point reads through the bloom filters.</li>
+ * </ul>
+ * Saves are appended to the store's own commit log, replayed into the memtable on startup, and to the
+ * {@link WriteAheadLog} so timelines can be rebuilt on restart like with the in-memory adapter.
+ */
+@Repository
+@ConditionalOnProperty(name = "tweet-repository.type", havingValue = "lsm")
+@Slf4j
+public class LsmTweetRepository implements TweetRepository {
+
+    private static final byte AUTHOR_KEYS = 'A';
+    private static final byte ID_KEYS = 'I';
+    private static final byte[] ID_PREFIX = {ID_KEYS};
+
+    private final WriteAheadLog writeAheadLog;
+    private final WriteAheadLog commitLog;
+    private final LsmStore store;
+
+    public LsmTweetRepository(@Value("${tweet-repository.lsm.directory}") String directory,
+            @Value("${tweet-repository.lsm.memtable-size-bytes}") long memtableSizeBytes,
+            @Value("${tweet-repository.lsm.compaction-threshold}") int compactionThreshold,
+            @Value("${tweet-repository.lsm.fsync-interval-ms}") long fsyncIntervalMs,
+            WriteAheadLog writeAheadLog) throws IOException {
+        Path root = Paths.get(directory);
+        this.writeAheadLog = writeAheadLog;
+        this.commitLog = new WriteAheadLog(true, root.resolve("commit-log").toString(), 64L << 20, fsyncIntervalMs);
+        this.store = new LsmStore(root.resolve("tables"), memtableSizeBytes, compactionThreshold, commitLog);
+
+        long start = System.nanoTime();
+        long lastSequence = commitLog.replay(0, (sequence, record) -> apply(((WalRecord.TweetSaved) record).tweet()));
+        commitLog.start();
+        log.info("Opened tweet store in {} with {} tables, replayed commit log up to sequence {} in {} ms",
+                root, store.tableCount(), lastSequence, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public Tweet save(Tweet tweet) {
+        WalRecord record = new WalRecord.TweetSaved(tweet);
+        return writeAheadLog.append(record, () -> commitLog.append(record, () -> apply(tweet)));
+    }
+
+    @Override
+    public List<Tweet> saveAll(List<Tweet> tweets) {
+        List<WalRecord> records = tweets.stream().<WalRecord>map(WalRecord.TweetSaved::new).toList();
+        return writeAheadLog.appendAll(records, () -> commitLog.appendAll(records,
+                () -> tweets.stream().map(this::apply).toList()));
+    }
+
+    @Override
+    public Optional<Tweet> findById(long id) {
+        byte[] authorKey = store.get(idKey(id));
+        byte[] value = authorKey != null ? store.get(authorKey) : null;
+        return value != null ? Optional.of(decode(value)) : Optional.empty();
+    }
+
+    @Override
+    public List<Tweet> findAllById(Collection<Long> ids) {
+        List<Tweet> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    @Override
+    public List<Tweet> findByAuthorId(String authorId) {
+        return findByAuthorIdAfter(authorId, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Tweet> findByAuthorIdAfter(String authorId, int limit) {
+        byte[] prefix = authorPrefix(authorId);
+        return scan(prefix, prefix, null, limit);
+    }
+
+    @Override
+    public List<Tweet> findByAuthorId(String authorId, TimelineQuery query) {
+        byte[] prefix = authorPrefix(authorId);
+        byte[] from = query.before() != null ? successor(authorKey(prefix, query.before())) : prefix;
+        byte[] to = query.since() != null ? authorKey(prefix, query.since()) : null;
+        return scan(prefix, from, to, query.limit());
+    }
+
+    @Override
+    public List<Tweet> findAll() {
+        List<Tweet> tweets = new ArrayList<>();
+        Iterator<LsmStore.Entry> entries = store.scan(ID_PREFIX, ID_PREFIX);
+        while (entries.hasNext()) {
+            byte[] value = store.get(entries.next().value());
+            if (value != null) {
+                tweets.add(decode(value));
+            }
+        }
+        tweets.sort(Comparator.comparing(Tweet::createdAt).reversed());
+        return tweets;
+    }
+
+    /**
+     * Writes a tweet to the store, replacing the author key of a previous version.
+     */
+    private Tweet apply(Tweet tweet) {
+        byte[] idKey = idKey(tweet.id());
+        byte[] authorKey = authorKey(authorPrefix(tweet.authorId()), tweet.createdAt(), tweet.id());
+        byte[] previous = store.get(idKey);
+        if (previous != null && !Arrays.equals(previous, authorKey)) {
+            store.delete(previous);
+        }
+        store.put(authorKey, encode(tweet));
+        store.put(idKey, authorKey);
+        return tweet;
+    }
+
+    /**
+     * Reads the tweets between {@code from} (inclusive) and {@code to} (exclusive), newest first.
+     */
+    private List<Tweet> scan(byte[] prefix, byte[] from, byte[] to, int limit) {
+        List<Tweet> result = new ArrayList<>();
+        Iterator<LsmStore.Entry> entries = store.scan(prefix, from);
+        while (entries.hasNext() && result.size() < limit) {
+            LsmStore.Entry entry = entries.next();
+            if (to != null && Arrays.compareUnsigned(entry.key(), to) >= 0) {
+                break;
+            }
+            result.add(decode(entry.value()));
+        }
+        return result;
+    }
+
+    private static byte[] authorPrefix(String authorId) {
+        byte[] author = authorId.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + Short.BYTES + author.length)
+                .put(AUTHOR_KEYS)
+                .putShort((short) author.length)
+                .put(author)
+                .array();
+    }
+
+    private static byte[] authorKey(byte[] prefix, TimelineCursor cursor) {
+        return authorKey(prefix, cursor.createdAt(), cursor.tweetId());
+    }
+
+    /**
+     * Appends the creation time and the tweet ID, inverted so newer tweets sort first in unsigned byte order.
+     */
+    private static byte[] authorKey(byte[] prefix, Instant createdAt, long tweetId) {
+        long epochNanos = Math.addExact(Math.multiplyExact(createdAt.getEpochSecond(), 1_000_000_000L),
+                createdAt.getNano());
+        return ByteBuffer.allocate(prefix.length + Long.BYTES * 2)
+                .put(prefix)
+                .putLong(~(epochNanos ^ Long.MIN_VALUE))
+                .putLong(~(tweetId ^ Long.MIN_VALUE))
+                .array();
+    }
+
+    /**
+     * Smallest key greater than the given one.
+     */
+    private static byte[] successor(byte[] key) {
+        return Arrays.copyOf(key, key.length + 1);
+    }
+
+    private static byte[] idKey(long tweetId) {
+        return ByteBuffer.allocate(1 + Long.BYTES).put(ID_KEYS).putLong(tweetId).array();
+    }
+
+    private static byte[] encode(Tweet tweet) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + tweet.content().length());
+            new WalRecord.TweetSaved(tweet).writeTo(new DataOutputStream(bytes));
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Tweet decode(byte[] value) {
+        try {
+            return ((WalRecord.TweetSaved) WalRecord.readFrom(WalRecord.TWEET_SAVED,
+                    new DataInputStream(new ByteArrayInputStream(value)))).tweet();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        store.shutdown();
+        commitLog.shutdown();
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.minix.infrastructure.out.persistence.lsm;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable sorted table file (SSTable) of the {@link LsmStore}.
+ * <p>
+ * The file holds the entries sorted by key, each framed as key length, key, value length and value, followed by
+ * a sparse index of every {@value #INDEX_INTERVAL}th key, a bloom filter of all keys and a fixed footer.
+ * Tables are memory-mapped, so hot blocks are served from the page cache, and only the sparse index and the
+ * bloom filter are held on heap.
+ */
+final class SortedTable {
+
+    private static final int INDEX_INTERVAL = 16;
+    private static final int MAGIC = 0x4D585354;
+    private static final int FOOTER_BYTES = Long.BYTES * 2 + Integer.BYTES * 2;
+    private static final long MAX_TABLE_BYTES = Integer.MAX_VALUE;
+
+    private final Path path;
+    private final long id;
+    private final MappedByteBuffer data;
+    private final int dataEnd;
+    private final byte[][] indexKeys;
+    private final int[] indexOffsets;
+    private final BloomFilter bloomFilter;
+    private final int entries;
+
+    private SortedTable(Path path, long id, MappedByteBuffer data, int dataEnd, byte[][] indexKeys,
+            int[] indexOffsets, BloomFilter bloomFilter, int entries) {
+        this.path = path;
+        this.id = id;
+        this.data = data;
+        this.dataEnd = dataEnd;
+        this.indexKeys = indexKeys;
+        this.indexOffsets = indexOffsets;
+        this.bloomFilter = bloomFilter;
+        this.entries = entries;
+    }
+
+    /**
+     * Writes sorted entries to a new table, through a temporary file renamed once synced.
+     *
+     * @param entries entries in strictly increasing key order
+     * @param expectedEntries an estimate of the number of entries, to size the bloom filter
+     */
+    static SortedTable write(Path path, long id, Iterator<LsmStore.Entry> entries, int expectedEntries)
+            throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        BloomFilter bloomFilter = BloomFilter.withExpectedKeys(expectedEntries);
+        List<byte[]> indexKeys = new ArrayList<>();
+        List<Long> indexOffsets = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), 1 << 16));
+            DataOutputStream output = new DataOutputStream(counter);
+            int count = 0;
+            while (entries.hasNext()) {
+                LsmStore.Entry entry = entries.next();
+                if (count % INDEX_INTERVAL == 0) {
+                    indexKeys.add(entry.key());
+                    indexOffsets.add(counter.count);
+                }
+                bloomFilter.add(entry.key());
+                output.writeInt(entry.key().length);
+                output.write(entry.key());
+                output.writeInt(entry.value().length);
+                output.write(entry.value());
+                count++;
+            }
+            long indexOffset = counter.count;
+            output.writeInt(indexKeys.size());
+            for (int i = 0; i < indexKeys.size(); i++) {
+                output.writeInt(indexKeys.get(i).length);
+                output.write(indexKeys.get(i));
+                output.writeInt(indexOffsets.get(i).intValue());
+            }
+            long bloomOffset = counter.count;
+            bloomFilter.writeTo(output);
+            output.writeLong(indexOffset);
+            output.writeLong(bloomOffset);
+            output.writeInt(count);
+            output.writeInt(MAGIC);
+            output.flush();
+            if (counter.count > MAX_TABLE_BYTES) {
+                throw new IOException("Sorted table exceeds " + MAX_TABLE_BYTES + " bytes");
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return open(path, id);
+    }
+
+    static SortedTable open(Path path, long id) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < FOOTER_BYTES || channel.size() > MAX_TABLE_BYTES) {
+                throw new IOException("Not a sorted table " + path);
+            }
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int footer = data.capacity() - FOOTER_BYTES;
+        if (data.getInt(footer + Long.BYTES * 2 + Integer.BYTES) != MAGIC) {
+            throw new IOException("Truncated sorted table " + path);
+        }
+        int indexOffset = (int) data.getLong(footer);
+        int bloomOffset = (int) data.getLong(footer + Long.BYTES);
+        int entries = data.getInt(footer + Long.BYTES * 2);
+
+        ByteBuffer index = data.slice(indexOffset, bloomOffset - indexOffset);
+        byte[][] indexKeys = new byte[index.getInt()][];
+        int[] indexOffsets = new int[indexKeys.length];
+        for (int i = 0; i < indexKeys.length; i++) {
+            indexKeys[i] = new byte[index.getInt()];
+            index.get(indexKeys[i]);
+            indexOffsets[i] = index.getInt();
+        }
+        BloomFilter bloomFilter = BloomFilter.readFrom(data.slice(bloomOffset, footer - bloomOffset));
+        return new SortedTable(path, id, data, indexOffset, indexKeys, indexOffsets, bloomFilter, entries);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long id() {
+        return id;
+    }
+
+    int entries() {
+        return entries;
+    }
+
+    long sizeBytes() {
+        return data.capacity();
+    }
+
+    /**
+     * Looks up a key.
+     *
+     * @return the value, {@link LsmStore#TOMBSTONE} if deleted, null if the table does not hold the key
+     */
+    byte[] get(byte[] key) {
+        if (!bloomFilter.mightContain(key)) {
+            return null;
+        }
+        Cursor cursor = new Cursor(blockOf(key));
+        while (cursor.hasNext()) {
+            LsmStore.Entry entry = cursor.next();
+            int comparison = Arrays.compareUnsigned(entry.key(), key);
+            if (comparison == 0) {
+                return entry.value();
+            }
+            if (comparison > 0) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Iterates the entries from the first key greater than or equal to {@code from}, tombstones included.
+     */
+    Iterator<LsmStore.Entry> iterator(byte[] from) {
+        Cursor cursor = new Cursor(blockOf(from));
+        cursor.skipBelow(from);
+        return cursor;
+    }
+
+    /**
+     * Offset of the last indexed block starting at or before the key.
+     */
+    private int blockOf(byte[] key) {
+        int low = 0;
+        int high = indexKeys.length - 1;
+        int block = 0;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (Arrays.compareUnsigned(indexKeys[middle], key) <= 0) {
+                block = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return indexKeys.length == 0 ? dataEnd : indexOffsets[block];
+    }
+
+    /**
+     * Forward iterator over the entries, reading them from the mapped file with absolute gets.
+     */
+    private final class Cursor implements Iterator<LsmStore.Entry> {
+
+        private int position;
+        private LsmStore.Entry peeked;
+
+        private Cursor(int position) {
+            this.position = position;
+        }
+
+        private void skipBelow(byte[] from) {
+            while (hasNext() && Arrays.compareUnsigned(peek().key(), from) < 0) {
+                next();
+            }
+        }
+
+        private LsmStore.Entry peek() {
+            if (peeked == null) {
+                byte[] key = new byte[data.getInt(position)];
+                data.get(position + Integer.BYTES, key);
+                int valuePosition = position + Integer.BYTES + key.length;
+                byte[] value = new byte[data.getInt(valuePosition)];
+                data.get(valuePosition + Integer.BYTES, value);
+                position = valuePosition + Integer.BYTES + value.length;
+                peeked = new LsmStore.Entry(key, value);
+            }
+            return peeked;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return peeked != null || position < dataEnd;
+        }
+
+        @Override
+        public LsmStore.Entry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LsmStore.Entry entry = peek();
+            peeked = null;
+            return entry;
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.minix.infrastructure.out.persistence.snapshot;
+
+import com.example.minix.infrastructure.out.persistence.inmemory.InMemoryFollowRepository;
+import com.example.minix.infrastructure.out.persistence.inmemory.InMemoryTimelineRepository;
+import com.example.minix.infrastructure.out.persistence.inmemory.InMemoryTweetRepository;
+import com.example.minix.infrastructure.out.persistence.inmemory.UserIdDictionary;
+import com.example.minix.infrastructure.out.persistence.wal.WriteAheadLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Periodic binary snapshots of the in-memory repositories, so startup only replays the write-ahead log tail.
+ * <p>
+ * Snapshots are fuzzy: a background thread writes the tweets, the follow graph and the timelines while saves
+ * go on. Before writing, a {@link WriteAheadLog#checkpoint} makes sure the repositories hold every record up
+ * to the snapshot sequence, records after it may or may not be included and are replayed again on restore.
+ * <p>
+ * Timelines are filled asynchronously by the event handlers, so they may lag behind the repositories. Their
+ * redo starts from the sequence of the previous snapshot, an interval earlier, whose events have long been
+ * handled. Replaying is idempotent: saves overwrite and timelines ignore entries they already hold.
+ * <p>
+ * A snapshot starts with a fixed header, then holds the tweets, follows and timelines with users as dense IDs,
+ * and ends with the user ID dictionary, written last so it covers every ID written before. Files are written
+ * to a temporary file and renamed once synced, the two latest ones are kept.
+ */
+@Component
+@Slf4j
+public class SnapshotManager {
+
+    private static final int MAGIC = 0x4D58534E;
+    private static final int VERSION = 1;
+    private static final int DICTIONARY_OFFSET_POSITION = Integer.BYTES * 2 + Long.BYTES * 2;
+    private static final int HEADER_BYTES = DICTIONARY_OFFSET_POSITION + Long.BYTES;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final int RETAINED_SNAPSHOTS = 2;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long intervalMs;
+    private final WriteAheadLog writeAheadLog;
+    private final UserIdDictionary userIds;
+    // absent when tweets are stored by the persistent adapter
+    private final Optional<InMemoryTweetRepository> tweetRepository;
+    private final InMemoryFollowRepository followRepository;
+    private final InMemoryTimelineRepository timelineRepository;
+
+    private ScheduledExecutorService scheduler;
+
+    // sequence of the latest snapshot, guarded by this
+    private long lastSequence;
+
+    public SnapshotManager(@Value("${snapshot.enabled}") boolean enabled,
+            @Value("${snapshot.directory}") String directory,
+            @Value("${snapshot.interval-ms}") long intervalMs,
+            WriteAheadLog writeAheadLog,
+            UserIdDictionary userIds,
+            Optional<InMemoryTweetRepository> tweetRepository,
+            InMemoryFollowRepository followRepository,
+            InMemoryTimelineRepository timelineRepository) {
+        if (intervalMs <= 0) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        if (enabled && !writeAheadLog.isEnabled()) {
+            log.warn("Snapshots need the write-ahead log, they are disabled");
+        }
+        this.enabled = enabled && writeAheadLog.isEnabled();
+        this.directory = Paths.get(directory);
+        this.intervalMs = intervalMs;
+        this.writeAheadLog = writeAheadLog;
+        this.userIds = userIds;
+        this.tweetRepository = tweetRepository;
+        this.followRepository = followRepository;
+        this.timelineRepository = timelineRepository;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Loads the latest readable snapshot into the empty repositories.
+     *
+     * @return the loaded snapshot, empty if there is none
+     */
+    public synchronized Optional<Snapshot> restoreLatest() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        List<Path> snapshots = snapshots();
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            try {
+                Snapshot snapshot = read(snapshots.get(i));
+                lastSequence = snapshot.sequence();
+                return Optional.of(snapshot);
+            } catch (IOException | RuntimeException e) {
+                if (!userIds.isEmpty()) {
+                    // the repositories were partially filled, an older snapshot cannot be loaded on top
+                    throw new IllegalStateException("Failed to restore snapshot " + snapshots.get(i), e);
+                }
+                log.warn("Skipping unreadable snapshot {}", snapshots.get(i), e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Starts writing snapshots every interval.
+     */
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes a snapshot, unless nothing was logged since the last one.
+     *
+     * @return the written snapshot, empty if skipped
+     */
+    public synchronized Optional<Snapshot> snapshot() throws IOException {
+        long sequence = writeAheadLog.checkpoint();
+        if (sequence == lastSequence) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        Snapshot snapshot = write(sequence, lastSequence);
+        lastSequence = sequence;
+        log.info("Wrote snapshot {} at sequence {} in {} ms", snapshot.path().getFileName(), sequence,
+                (System.nanoTime() - start) / 1_000_000);
+
+        List<Path> snapshots = snapshots();
+        for (int i = 0; i < snapshots.size() - RETAINED_SNAPSHOTS; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+        // the oldest retained snapshot must stay restorable
+        Path oldest = snapshots.get(Math.max(0, snapshots.size() - RETAINED_SNAPSHOTS));
+        writeAheadLog.deleteSegmentsBefore(readHeader(oldest).redoSequence());
+        return Optional.of(snapshot);
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to write snapshot", e);
+        }
+    }
+
+    private Snapshot write(long sequence, long redoSequence) throws IOException {
+        Files.createDirectories(directory);
+        Path path = directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile())) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file, 1 << 16));
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(sequence);
+            output.writeLong(redoSequence);
+            output.writeLong(0);
+            if (tweetRepository.isPresent()) {
+                tweetRepository.get().writeSnapshot(output);
+            } else {
+                output.writeBoolean(false);
+            }
+            followRepository.writeSnapshot(output);
+            timelineRepository.writeSnapshot(output);
+            output.flush();
+            long dictionaryOffset = file.getChannel().position();
+            userIds.writeSnapshot(output);
+            output.writeInt(MAGIC);
+            output.flush();
+            file.getChannel().position(DICTIONARY_OFFSET_POSITION);
+            file.getChannel().write(ByteBuffer.allocate(Long.BYTES).putLong(0, dictionaryOffset));
+            file.getFD().sync();
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return new Snapshot(path, sequence, redoSequence);
+    }
+
+    private Snapshot read(Path path) throws IOException {
+        long start = System.nanoTime();
+        Header header = readHeader(path);
+        try (FileInputStream file = new FileInputStream(path.toFile())) {
+            file.getChannel().position(header.dictionaryOffset());
+            DataInputStream dictionary = new DataInputStream(new BufferedInputStream(file, 1 << 16));
+            userIds.readSnapshot(dictionary);
+            if (dictionary.readInt() != MAGIC) {
+                throw new IOException("Truncated snapshot " + path);
+            }
+
+            file.getChannel().position(HEADER_BYTES);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(file, 1 << 16));
+            if (tweetRepository.isPresent()) {
+                tweetRepository.get().readSnapshot(input);
+            } else {
+                InMemoryTweetRepository.skipSnapshot(input);
+            }
+            followRepository.readSnapshot(input);
+            timelineRepository.readSnapshot(input);
+        }
+        log.info("Loaded snapshot {} at sequence {} in {} ms", path.getFileName(), header.sequence(),
+                (System.nanoTime() - start) / 1_000_000);
+        return new Snapshot(path, header.sequence(), header.redoSequence());
+    }
+
+    private static Header readHeader(Path path) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            if (file.readInt() != MAGIC || file.readInt() != VERSION) {
+                throw new IOException("Not a snapshot " + path);
+            }
+            return new Header(file.readLong(), file.readLong(), file.readLong());
+        }
+    }
+
+    /**
+     * Snapshot files, oldest first.
+     */
+    private List<Path> snapshots() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+                    })
+                    .sorted(Comparator.naturalOrder())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list snapshots in " + directory, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A snapshot holding every record up to {@code sequence}, with timelines complete up to {@code redoSequence}.
+     */
+    public record Snapshot(Path path, long sequence, long redoSequence) {
+    }
+
+    private record Header(long sequence, long redoSequence, long dictionaryOffset) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.minix.infrastructure.out.persistence.wal;
+
+import com.example.minix.domain.model.Follow;
+import com.example.minix.domain.model.Tweet;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Change recorded in the write-ahead log.
+ */
+public sealed interface WalRecord permits WalRecord.TweetSaved, WalRecord.FollowSaved {
+
+    byte TWEET_SAVED = 1;
+    byte FOLLOW_SAVED = 2;
+
+    byte type();
+
+    void writeTo(DataOutput output) throws IOException;
+
+    static WalRecord readFrom(byte type, DataInput input) throws IOException {
+        return switch (type) {
+            case TWEET_SAVED -> new TweetSaved(new Tweet(
+                    input.readLong(),
+                    input.readUTF(),
+                    input.readUTF(),
+                    Instant.ofEpochSecond(input.readLong(), input.readInt())));
+            case FOLLOW_SAVED -> new FollowSaved(new Follow(input.readUTF(), input.readUTF()));
+            default -> throw new IOException("Unknown record type " + type);
+        };
+    }
+
+    record TweetSaved(Tweet tweet) implements WalRecord {
+
+        @Override
+        public byte type() {
+            return TWEET_SAVED;
+        }
+
+        @Override
+        public void writeTo(DataOutput output) throws IOException {
+            output.writeLong(tweet.id());
+            output.writeUTF(tweet.authorId());
+            output.writeUTF(tweet.content());
+            output.writeLong(tweet.createdAt().getEpochSecond());
+            output.writeInt(tweet.createdAt().getNano());
+        }
+    }
+
+    record FollowSaved(Follow follow) implements WalRecord {
+
+        @Override
+        public byte type() {
+            return FOLLOW_SAVED;
+        }
+
+        @Override
+        public void writeTo(DataOutput output) throws IOException {
+            output.writeUTF(follow.followerId());
+            output.writeUTF(follow.followedId());
+        }
+    }
+}
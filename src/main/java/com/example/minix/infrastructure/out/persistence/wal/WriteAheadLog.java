@@ -0,0 +1,501 @@
+package com.example.minix.infrastructure.out.persistence.wal;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of the changes made to the in-memory repositories, replayed on startup to rebuild them.
+ * <p>
+ * Records are appended sequentially to segment files named after the sequence number of their first record,
+ * a new segment is started once the current one exceeds the segment size. Each record is framed as its length,
+ * a CRC32 checksum, its sequence number, its type and its payload, so a record torn by a crash is detected and
+ * the log is truncated there on replay.
+ * <p>
+ * Replay recovers the longest valid prefix of the log: at the first torn or corrupt record, its segment is cut
+ * on disk and the later segments are set aside as {@code .discarded} files, so the applied records never have a
+ * hole and the bad bytes are not read again on the next start.
+ * <p>
+ * A single writer thread does group commit: it waits up to the fsync interval after the first pending record,
+ * writes every record that arrived meanwhile in one call and forces them to disk with one fsync.
+ * {@link #append} returns once the record is durable, so concurrent writers share the fsync cost.
+ * <p>
+ * A batch that fails is truncated from the segment and its sequence numbers are never reused, so a record reported
+ * as failed is never replayed. If the segment cannot be truncated, the log stops accepting appends. Appends still
+ * pending when the writer stops fail instead of waiting forever.
+ * <p>
+ * Records are appended and applied to the repositories under a shared gate, {@link #checkpoint} briefly
+ * closes it so every record up to the returned sequence number has been applied.
+ * <p>
+ * The log is disabled by default, appends are then no-ops.
+ */
+@Component
+@Slf4j
+public class WriteAheadLog {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String DISCARDED_SUFFIX = ".discarded";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentSizeBytes;
+    private final long fsyncIntervalNanos;
+
+    private final LinkedBlockingQueue<PendingAppend> pending = new LinkedBlockingQueue<>();
+    private final ReentrantReadWriteLock applyGate = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    // set by the writer thread once it no longer takes pending appends
+    private volatile boolean stopped;
+    // set when a failed batch could not be removed from the segment, later appends fail
+    private volatile IOException failure;
+    private Thread writer;
+
+    // only written by the writer thread once started
+    private FileChannel segment;
+    private long segmentSize;
+    private volatile long nextSequence = 1;
+
+    public WriteAheadLog(@Value("${wal.enabled}") boolean enabled,
+            @Value("${wal.directory}") String directory,
+            @Value("${wal.segment-size-bytes}") long segmentSizeBytes,
+            @Value("${wal.fsync-interval-ms}") long fsyncIntervalMs) {
+        if (segmentSizeBytes <= 0) {
+            throw new IllegalArgumentException("WAL segment size must be positive");
+        }
+        if (fsyncIntervalMs < 0) {
+            throw new IllegalArgumentException("WAL fsync interval cannot be negative");
+        }
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMs);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Replays the records with a sequence number above the given one, in log order.
+     * Must be called before {@link #start}. Replay stops at the first torn or corrupt record: its segment is
+     * truncated there and the later segments are discarded, since they would follow a hole in the log.
+     *
+     * @param afterSequence the sequence number of the last record already applied, 0 to replay everything
+     * @param consumer receives the sequence number and the record
+     * @return the sequence number of the last valid record in the log
+     */
+    public long replay(long afterSequence, BiConsumer<Long, WalRecord> consumer) {
+        if (!enabled) {
+            return afterSequence;
+        }
+        long lastSequence = afterSequence;
+        try {
+            List<Path> segments = segments();
+            for (int i = 0; i < segments.size(); i++) {
+                Path path = segments.get(i);
+                SegmentReader reader = new SegmentReader(path);
+                try (reader) {
+                    long sequence;
+                    while ((sequence = reader.next(afterSequence, consumer)) >= 0) {
+                        lastSequence = Math.max(lastSequence, sequence);
+                    }
+                }
+                if (reader.isCorrupt()) {
+                    truncate(path, reader.validBytes(), lastSequence);
+                    discard(segments.subList(i + 1, segments.size()));
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay write-ahead log in " + directory, e);
+        }
+        nextSequence = lastSequence + 1;
+        return lastSequence;
+    }
+
+    /**
+     * Starts the writer thread, appending to a new segment after the replayed records.
+     */
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open write-ahead log in " + directory, e);
+        }
+        running = true;
+        stopped = false;
+        writer = new Thread(this::writeLoop, "wal-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Write-ahead log started in {} at sequence {}", directory, nextSequence);
+    }
+
+    /**
+     * Appends a record, waits until it is durable, then applies it.
+     *
+     * @param record the record to log
+     * @param apply applies the record to the repositories
+     * @return the result of {@code apply}
+     * @throws UncheckedIOException if the record could not be written, it is then not applied
+     * @throws IllegalStateException if the log is enabled but not started
+     */
+    public <T> T append(WalRecord record, Supplier<T> apply) {
+        return appendAll(List.of(record), apply);
+    }
+
+    /**
+     * Appends records in a single write, waits until they are durable, then applies them.
+     * The records are written together and share one fsync, however many other appends are pending.
+     *
+     * @param records the records to log, in order
+     * @param apply applies the records to the repositories
+     * @return the result of {@code apply}
+     * @throws UncheckedIOException if the records could not be written, they are then not applied
+     * @throws IllegalStateException if the log is enabled but not started
+     */
+    public <T> T appendAll(List<WalRecord> records, Supplier<T> apply) {
+        if (!enabled) {
+            return apply.get();
+        }
+        if (!running) {
+            throw new IllegalStateException("Write-ahead log is not started");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Write-ahead log failed", failure);
+        }
+        applyGate.readLock().lock();
+        try {
+            PendingAppend pendingAppend = new PendingAppend(records, new CompletableFuture<>());
+            pending.add(pendingAppend);
+            if (stopped) {
+                // the writer may have drained the queue before this append was added
+                failPending(new IOException("Write-ahead log is stopped"));
+            }
+            try {
+                pendingAppend.durable().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof IOException io
+                        ? new UncheckedIOException("Failed to append to write-ahead log", io)
+                        : e;
+            }
+            return apply.get();
+        } finally {
+            applyGate.readLock().unlock();
+        }
+    }
+
+    /**
+     * Waits for the appends in progress to be applied.
+     *
+     * @return a sequence number such that every record up to it has been applied
+     */
+    public long checkpoint() {
+        applyGate.writeLock().lock();
+        try {
+            return lastSequence();
+        } finally {
+            applyGate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Deletes the segments only holding records up to the given sequence number.
+     * The segment being written is never deleted.
+     */
+    public void deleteSegmentsBefore(long sequence) {
+        try {
+            List<Path> segments = segments();
+            for (int i = 0; i < segments.size() - 1; i++) {
+                if (firstSequenceOf(segments.get(i + 1)) > sequence + 1) {
+                    break;
+                }
+                Files.deleteIfExists(segments.get(i));
+                log.debug("Deleted write-ahead log segment {}", segments.get(i));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete write-ahead log segments before sequence {}", sequence, e);
+        }
+    }
+
+    /**
+     * Sequence number of the last record written, 0 if none.
+     */
+    public long lastSequence() {
+        return nextSequence - 1;
+    }
+
+    /**
+     * Segment files in log order.
+     */
+    List<Path> segments() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long firstSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+            segment.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Failed to close write-ahead log segment", e);
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingAppend> batch = new ArrayList<>();
+        while (running || !pending.isEmpty()) {
+            try {
+                PendingAppend first = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (fsyncIntervalNanos > 0) {
+                LockSupport.parkNanos(fsyncIntervalNanos);
+            }
+            pending.drainTo(batch);
+            try {
+                write(batch);
+                batch.forEach(append -> append.durable().complete(null));
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to write {} appends to the write-ahead log", batch.size(), e);
+                batch.forEach(append -> append.durable().completeExceptionally(e));
+            }
+            batch.clear();
+        }
+        stopped = true;
+        failPending(new IOException("Write-ahead log is stopped"));
+    }
+
+    private void failPending(IOException e) {
+        PendingAppend append;
+        while ((append = pending.poll()) != null) {
+            append.durable().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Writes and syncs a batch. On failure, the batch is truncated from the segment and its sequence numbers are
+     * skipped, so the records of a failed batch are neither replayed nor shadowed by later ones.
+     */
+    private void write(List<PendingAppend> batch) throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(batch.size() * 128);
+        DataOutputStream output = new DataOutputStream(bytes);
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+        DataOutputStream bodyOutput = new DataOutputStream(body);
+        CRC32 crc = new CRC32();
+        long sequence = nextSequence;
+        for (PendingAppend pendingAppend : batch) {
+            for (WalRecord record : pendingAppend.records()) {
+                body.reset();
+                bodyOutput.writeLong(sequence++);
+                bodyOutput.writeByte(record.type());
+                record.writeTo(bodyOutput);
+                crc.reset();
+                crc.update(body.toByteArray());
+                output.writeInt(body.size());
+                output.writeInt((int) crc.getValue());
+                body.writeTo(output);
+            }
+        }
+
+        if (segmentSize > 0 && segmentSize + bytes.size() > segmentSizeBytes) {
+            segment.close();
+            openSegment();
+        }
+        long batchStart = segmentSize;
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                segmentSize += segment.write(buffer);
+            }
+            segment.force(false);
+        } catch (IOException | RuntimeException e) {
+            nextSequence = sequence;
+            discard(batchStart, e);
+            throw e;
+        }
+        nextSequence = sequence;
+    }
+
+    /**
+     * Removes a failed batch from the end of the segment, stopping the log if it cannot.
+     */
+    private void discard(long batchStart, Exception cause) {
+        try {
+            segment.truncate(batchStart);
+            segment.force(false);
+            segment.position(batchStart);
+            segmentSize = batchStart;
+        } catch (IOException | RuntimeException e) {
+            e.addSuppressed(cause);
+            failure = e instanceof IOException io ? io : new IOException(e);
+            log.error("Failed to truncate write-ahead log segment, no more appends are accepted", e);
+        }
+    }
+
+    private void openSegment() throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence, SEGMENT_SUFFIX));
+        segment = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        segmentSize = 0;
+    }
+
+    private static void truncate(Path path, long validBytes, long lastSequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(validBytes);
+            channel.force(false);
+        }
+        log.warn("Truncated write-ahead log segment {} to {} bytes after sequence {}", path, validBytes, lastSequence);
+    }
+
+    /**
+     * Sets aside the segments following a truncated one, keeping their files for inspection.
+     */
+    private static void discard(List<Path> segments) throws IOException {
+        for (Path path : segments) {
+            Files.move(path, path.resolveSibling(path.getFileName() + DISCARDED_SUFFIX));
+            log.error("Discarded write-ahead log segment {} following a corrupt record, its records are lost", path);
+        }
+    }
+
+    /**
+     * Reads the records of a segment, tracking the end of the last valid one.
+     */
+    private static final class SegmentReader implements AutoCloseable {
+
+        private final Path path;
+        private final DataInputStream input;
+        private long validBytes;
+        private boolean corrupt;
+
+        private SegmentReader(Path path) throws IOException {
+            this.path = path;
+            this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        }
+
+        /**
+         * Reads one record, passing it to the consumer if it is above the given sequence.
+         *
+         * @return the sequence number of the record, or -1 at the end of the segment or at a torn or corrupt record
+         */
+        private long next(long afterSequence, BiConsumer<Long, WalRecord> consumer) throws IOException {
+            byte[] header = new byte[HEADER_BYTES];
+            int headerBytes = input.readNBytes(header, 0, HEADER_BYTES);
+            if (headerBytes == 0) {
+                return -1;
+            }
+            if (headerBytes < HEADER_BYTES) {
+                return corrupt("a torn record header");
+            }
+            ByteBuffer frame = ByteBuffer.wrap(header);
+            int length = frame.getInt();
+            int checksum = frame.getInt();
+            if (length < Long.BYTES + 1 || length > MAX_RECORD_BYTES) {
+                return corrupt("a corrupt record length " + length);
+            }
+            byte[] body = new byte[length];
+            if (input.readNBytes(body, 0, length) < length) {
+                // a record torn by a crash before it was acknowledged
+                return corrupt("a torn record");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            if ((int) crc.getValue() != checksum) {
+                return corrupt("a record with a bad checksum");
+            }
+            DataInputStream record = new DataInputStream(new ByteArrayInputStream(body));
+            long sequence = record.readLong();
+            byte type = record.readByte();
+            if (sequence > afterSequence) {
+                consumer.accept(sequence, WalRecord.readFrom(type, record));
+            }
+            validBytes += HEADER_BYTES + length;
+            return sequence;
+        }
+
+        private long corrupt(String reason) {
+            log.warn("Write-ahead log segment {} ends with {} at byte {}", path, reason, validBytes);
+            corrupt = true;
+            return -1;
+        }
+
+        private boolean isCorrupt() {
+            return corrupt;
+        }
+
+        private long validBytes() {
+            return validBytes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+
+    private record PendingAppend(List<WalRecord> records, CompletableFuture<Void> durable) {
+    }
+}
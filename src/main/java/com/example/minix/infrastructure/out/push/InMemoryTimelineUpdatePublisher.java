@@ -0,0 +1,158 @@
+package com.example.minix.infrastructure.out.push;
+
+import com.example.minix.application.port.out.TimelineSubscription;
+import com.example.minix.application.port.out.TimelineUpdatePublisher;
+import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.domain.model.TimelineUpdate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of TimelineUpdatePublisher, for the streams connected to this instance.
+ * <p>
+ * Each subscription buffers at most {@code timeline.stream.buffer-size} items. Pushing never waits for a slow
+ * client: once its buffer is full, the oldest item is dropped and counted, and the count is reported with the
+ * next item it receives.
+ * <p>
+ * Connected users are also indexed by the authors they watch, so pushing an author's item only reaches their
+ * connected followers without checking every connection.
+ */
+@Component
+public class InMemoryTimelineUpdatePublisher implements TimelineUpdatePublisher {
+
+    // Map: user ID -> open subscriptions of the user
+    private final ConcurrentHashMap<String, Set<BufferedSubscription>> subscriptions = new ConcurrentHashMap<>();
+    // Map: connected user ID -> watched author IDs, updated while holding the user's subscriptions entry
+    private final ConcurrentHashMap<String, Set<String>> watchedAuthors = new ConcurrentHashMap<>();
+    // Map: author ID -> connected user IDs watching them
+    private final ConcurrentHashMap<String, Set<String>> watchers = new ConcurrentHashMap<>();
+    private final int bufferSize;
+
+    public InMemoryTimelineUpdatePublisher(@Value("${timeline.stream.buffer-size}") int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Stream buffer size must be positive");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public TimelineSubscription subscribe(String userId) {
+        BufferedSubscription subscription = new BufferedSubscription(userId, bufferSize);
+        subscriptions.compute(userId, (id, open) -> {
+            Set<BufferedSubscription> result = open != null ? open : ConcurrentHashMap.newKeySet();
+            result.add(subscription);
+            return result;
+        });
+        return subscription;
+    }
+
+    @Override
+    public void publish(Collection<String> userIds, TimelineItem item) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        for (String userId : userIds) {
+            Set<BufferedSubscription> open = subscriptions.get(userId);
+            if (open != null) {
+                open.forEach(subscription -> subscription.offer(item));
+            }
+        }
+    }
+
+    @Override
+    public void watchAuthor(String userId, String authorId) {
+        subscriptions.computeIfPresent(userId, (id, open) -> {
+            watchedAuthors.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(authorId);
+            watchers.compute(authorId, (author, users) -> {
+                Set<String> result = users != null ? users : ConcurrentHashMap.newKeySet();
+                result.add(id);
+                return result;
+            });
+            return open;
+        });
+    }
+
+    @Override
+    public void publishToWatchers(String authorId, TimelineItem item) {
+        Set<String> users = watchers.get(authorId);
+        if (users != null) {
+            publish(users, item);
+        }
+    }
+
+    private void unsubscribe(BufferedSubscription subscription) {
+        subscriptions.computeIfPresent(subscription.userId, (id, open) -> {
+            open.remove(subscription);
+            if (!open.isEmpty()) {
+                return open;
+            }
+            Set<String> authors = watchedAuthors.remove(id);
+            if (authors != null) {
+                authors.forEach(authorId -> watchers.computeIfPresent(authorId, (author, users) -> {
+                    users.remove(id);
+                    return users.isEmpty() ? null : users;
+                }));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Bounded buffer of a single connection, dropping its oldest items when full.
+     */
+    private final class BufferedSubscription implements TimelineSubscription {
+
+        private final String userId;
+        private final int capacity;
+        private final ArrayDeque<TimelineItem> buffer;
+        // items dropped since the last poll, guarded by this
+        private int missed;
+        private volatile Runnable listener = () -> { };
+
+        private BufferedSubscription(String userId, int capacity) {
+            this.userId = userId;
+            this.capacity = capacity;
+            this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+        }
+
+        private void offer(TimelineItem item) {
+            synchronized (this) {
+                if (buffer.size() == capacity) {
+                    buffer.pollFirst();
+                    missed++;
+                }
+                buffer.addLast(item);
+            }
+            listener.run();
+        }
+
+        @Override
+        public synchronized TimelineUpdate poll() {
+            TimelineItem item = buffer.pollFirst();
+            if (item == null) {
+                return null;
+            }
+            TimelineUpdate update = new TimelineUpdate(item, missed);
+            missed = 0;
+            return update;
+        }
+
+        @Override
+        public void onAvailable(Runnable listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void close() {
+            unsubscribe(this);
+            synchronized (this) {
+                buffer.clear();
+            }
+        }
+    }
+}
@@ -1,23 +1,35 @@
 package com.example.minix.application.handler;
 
 import com.example.minix.application.port.out.FollowRepository;
+import com.example.minix.application.port.out.PartitionedExecutor;
 import com.example.minix.application.port.out.TimelineRepository;
+import com.example.minix.application.port.out.TimelineUpdatePublisher;
+import com.example.minix.application.service.FanOutPolicy;
 import com.example.minix.domain.event.TweetCreatedEvent;
+import com.example.minix.domain.event.TweetsCreatedEvent;
+import com.example.minix.domain.model.TimelineEntry;
 import com.example.minix.domain.model.TimelineItem;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,54 +43,200 @@ public class TweetCreatedEventHandlerTest {
     @Mock
     private TimelineRepository timelineRepository;
 
-    @InjectMocks
+    @Mock
+    private FanOutPolicy fanOutPolicy;
+
+    @Mock
+    private TimelineUpdatePublisher timelineUpdatePublisher;
+
+    private final List<String> submittedKeys = new ArrayList<>();
+    private final List<Runnable> submittedChunks = new ArrayList<>();
+    private boolean runSubmittedChunks = true;
+
     private TweetCreatedEventHandler eventHandler;
 
+    @BeforeEach
+    public void setUp() {
+        eventHandler = new TweetCreatedEventHandler(followRepository, timelineRepository, fanOutPolicy,
+                new RecordingPartitionedExecutor(), timelineUpdatePublisher, 2);
+    }
+
     @Test
     public void testHandle_shouldAddTweetToFollowersTimeline() {
         String authorId = "author1";
-        String tweetId = "tweet1";
+        long tweetId = 1L;
         String content = "Hello World";
         Instant createdAt = Instant.now();
         TweetCreatedEvent event = new TweetCreatedEvent(tweetId, authorId, content, createdAt);
 
         List<String> followers = Arrays.asList("followerA", "followerB");
-        when(followRepository.getFollowers(authorId)).thenReturn(followers);
+        when(followRepository.streamFollowers(authorId)).thenReturn(followers.stream());
 
         // Execute
         eventHandler.handle(event);
 
         // Validations
-        verify(followRepository).getFollowers(authorId);
+        verify(followRepository).streamFollowers(authorId);
+
+        ArgumentCaptor<TimelineEntry> timelineEntryCaptor = ArgumentCaptor.forClass(TimelineEntry.class);
 
-        ArgumentCaptor<TimelineItem> timelineItemCaptor = ArgumentCaptor.forClass(TimelineItem.class);
+        // Verify the entry is added to each follower's timeline, one batch per partition
+        verify(timelineRepository).addToTimelines(eq(List.of("followerA")), timelineEntryCaptor.capture());
+        verify(timelineRepository).addToTimelines(eq(List.of("followerB")), timelineEntryCaptor.capture());
 
-        // Verify addToTimeline is called for each follower
-        verify(timelineRepository).addToTimeline(eq("followerA"), timelineItemCaptor.capture());
-        verify(timelineRepository).addToTimeline(eq("followerB"), timelineItemCaptor.capture());
+        // The same entry is shared by all followers
+        List<TimelineEntry> capturedEntries = timelineEntryCaptor.getAllValues();
+        assertSame(capturedEntries.get(0), capturedEntries.get(1));
 
-        // Check the captured item (should be the same for all calls in this context
-        // logic)
-        TimelineItem capturedItem = timelineItemCaptor.getValue();
-        assertEquals(tweetId, capturedItem.tweetId());
-        assertEquals(authorId, capturedItem.authorId());
-        assertEquals(content, capturedItem.content());
-        assertEquals(createdAt, capturedItem.createdAt());
+        TimelineEntry capturedEntry = timelineEntryCaptor.getValue();
+        assertEquals(tweetId, capturedEntry.tweetId());
+        assertEquals(createdAt, capturedEntry.createdAt());
     }
 
     @Test
     public void testHandle_shouldDoNothingIfNoFollowers() {
         // Arrange
         String authorId = "author2";
-        TweetCreatedEvent event = new TweetCreatedEvent("tweet2", authorId, "Content", Instant.now());
+        TweetCreatedEvent event = new TweetCreatedEvent(2L, authorId, "Content", Instant.now());
+
+        when(followRepository.streamFollowers(authorId)).thenReturn(Stream.empty());
+
+        // Act
+        eventHandler.handle(event);
+
+        // Assert
+        verify(followRepository).streamFollowers(authorId);
+        verify(timelineRepository, times(0)).addToTimelines(any(), any());
+    }
+
+    @Test
+    public void testHandle_shouldNotFanOutTweetsPulledOnRead() {
+        // Arrange
+        String authorId = "celebrity";
+        TweetCreatedEvent event = new TweetCreatedEvent(3L, authorId, "Content", Instant.now());
+
+        when(fanOutPolicy.isPulledOnRead(authorId)).thenReturn(true);
+
+        // Act
+        eventHandler.handle(event);
+
+        // Assert
+        verify(fanOutPolicy).recordTweet(authorId);
+        verify(followRepository, never()).streamFollowers(any());
+        verify(timelineRepository, never()).addToTimelines(any(), any());
+    }
+
+    @Test
+    public void testHandle_shouldSubmitFollowersInChunksPerPartition() {
+        // Arrange
+        String authorId = "author4";
+        TweetCreatedEvent event = new TweetCreatedEvent(4L, authorId, "Content", Instant.now());
+        List<String> followers = IntStream.range(0, 7).mapToObj(i -> "follower" + i).toList();
+        when(followRepository.streamFollowers(authorId)).thenReturn(followers.stream());
+        runSubmittedChunks = false;
+
+        // Act
+        eventHandler.handle(event);
+
+        // Assert
+        // 4 even followers in 2 chunks on partition 0, 3 odd followers in 2 chunks on partition 1
+        assertEquals(4, submittedChunks.size());
+        assertEquals(List.of(0, 0, 1, 1), submittedKeys.stream().map(this::partitionOf).sorted().toList());
+        verify(timelineRepository, never()).addToTimelines(any(), any());
+        submittedChunks.forEach(Runnable::run);
+        verify(timelineRepository).addToTimelines(eq(List.of("follower0", "follower2")), any());
+        verify(timelineRepository).addToTimelines(eq(List.of("follower4", "follower6")), any());
+        verify(timelineRepository).addToTimelines(eq(List.of("follower1", "follower3")), any());
+        verify(timelineRepository).addToTimelines(eq(List.of("follower5")), any());
+    }
+
+    @Test
+    public void testHandle_shouldPushTweetToFollowerStreamsAfterWritingTimelines() {
+        // Arrange
+        String authorId = "author5";
+        Instant createdAt = Instant.now();
+        TweetCreatedEvent event = new TweetCreatedEvent(5L, authorId, "Content", createdAt);
+        when(followRepository.streamFollowers(authorId)).thenReturn(Stream.of("followerA", "followerB"));
 
-        when(followRepository.getFollowers(authorId)).thenReturn(List.of());
+        // Act
+        eventHandler.handle(event);
+
+        // Assert
+        TimelineItem item = new TimelineItem(5L, authorId, "Content", createdAt);
+        InOrder inOrder = inOrder(timelineRepository, timelineUpdatePublisher);
+        inOrder.verify(timelineRepository).addToTimelines(eq(List.of("followerA")), any());
+        inOrder.verify(timelineUpdatePublisher).publish(List.of("followerA"), item);
+        verify(timelineUpdatePublisher).publish(List.of("followerB"), item);
+    }
+
+    @Test
+    public void testHandle_shouldPushTweetsPulledOnReadToWatchersOnly() {
+        // Arrange
+        String authorId = "celebrity";
+        Instant createdAt = Instant.now();
+        TweetCreatedEvent event = new TweetCreatedEvent(6L, authorId, "Content", createdAt);
+        when(fanOutPolicy.isPulledOnRead(authorId)).thenReturn(true);
 
         // Act
         eventHandler.handle(event);
 
         // Assert
-        verify(followRepository).getFollowers(authorId);
-        verify(timelineRepository, times(0)).addToTimeline(any(), any());
+        verify(fanOutPolicy).recordTweet(authorId);
+        verify(timelineUpdatePublisher).publishToWatchers(authorId, new TimelineItem(6L, authorId, "Content", createdAt));
+        verify(followRepository, never()).streamFollowers(any());
+        verify(followRepository, never()).exists(any(), any());
+    }
+
+    @Test
+    public void testHandleBatch_shouldStreamFollowersOnceAndAddAllTweetsPerChunk() {
+        // Arrange
+        String authorId = "author7";
+        Instant createdAt = Instant.now();
+        TweetCreatedEvent first = new TweetCreatedEvent(7L, authorId, "First", createdAt);
+        TweetCreatedEvent second = new TweetCreatedEvent(8L, authorId, "Second", createdAt.plusMillis(1));
+        when(followRepository.streamFollowers(authorId)).thenReturn(Stream.of("followerA"));
+
+        // Act
+        eventHandler.handleBatch(new TweetsCreatedEvent(authorId, List.of(first, second)));
+
+        // Assert
+        verify(followRepository).streamFollowers(authorId);
+        verify(timelineRepository).addAllToTimelines(List.of("followerA"), List.of(
+                new TimelineEntry(7L, createdAt), new TimelineEntry(8L, createdAt.plusMillis(1))));
+        verify(timelineRepository, never()).addToTimelines(any(), any());
+        InOrder inOrder = inOrder(timelineUpdatePublisher);
+        inOrder.verify(timelineUpdatePublisher).publish(List.of("followerA"),
+                new TimelineItem(7L, authorId, "First", createdAt));
+        inOrder.verify(timelineUpdatePublisher).publish(List.of("followerA"),
+                new TimelineItem(8L, authorId, "Second", createdAt.plusMillis(1)));
+    }
+
+    private int partitionOf(String key) {
+        return key.charAt(key.length() - 1) % 2;
+    }
+
+    /**
+     * Two partitions keyed on the parity of the last character, records what is submitted.
+     */
+    private class RecordingPartitionedExecutor implements PartitionedExecutor {
+
+        @Override
+        public void execute(String partitionKey, Runnable task) {
+            submittedKeys.add(partitionKey);
+            submittedChunks.add(task);
+            if (runSubmittedChunks) {
+                task.run();
+            }
+        }
+
+        @Override
+        public int partitionOf(String partitionKey) {
+            return TweetCreatedEventHandlerTest.this.partitionOf(partitionKey);
+        }
+
+        @Override
+        public int partitions() {
+            return 2;
+        }
     }
 }
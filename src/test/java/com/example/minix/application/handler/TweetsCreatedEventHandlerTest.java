@@ -0,0 +1,37 @@
+package com.example.minix.application.handler;
+
+import com.example.minix.domain.event.TweetCreatedEvent;
+import com.example.minix.domain.event.TweetsCreatedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TweetsCreatedEventHandlerTest {
+
+    @Mock
+    private TweetCreatedEventHandler tweetCreatedEventHandler;
+
+    @InjectMocks
+    private TweetsCreatedEventHandler eventHandler;
+
+    @Test
+    public void testHandle_shouldFanOutTheBatch() {
+        // Arrange
+        TweetsCreatedEvent event = new TweetsCreatedEvent("author1",
+                List.of(new TweetCreatedEvent(1L, "author1", "First", Instant.now())));
+
+        // Act
+        eventHandler.handle(event);
+
+        // Assert
+        verify(tweetCreatedEventHandler).handleBatch(event);
+    }
+}
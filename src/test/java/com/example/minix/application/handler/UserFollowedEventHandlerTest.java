@@ -1,9 +1,12 @@
 package com.example.minix.application.handler;
 
+import com.example.minix.application.port.out.FollowRepository;
 import com.example.minix.application.port.out.TimelineRepository;
+import com.example.minix.application.port.out.TimelineUpdatePublisher;
 import com.example.minix.application.port.out.TweetRepository;
+import com.example.minix.application.service.FanOutPolicy;
 import com.example.minix.domain.event.UserFollowedEvent;
-import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.domain.model.TimelineEntry;
 import com.example.minix.domain.model.Tweet;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,11 +17,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,6 +39,15 @@ public class UserFollowedEventHandlerTest {
     @Mock
     private TimelineRepository timelineRepository;
 
+    @Mock
+    private FanOutPolicy fanOutPolicy;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private TimelineUpdatePublisher timelineUpdatePublisher;
+
     @InjectMocks
     private UserFollowedEventHandler eventHandler;
 
@@ -43,8 +59,8 @@ public class UserFollowedEventHandlerTest {
 
         Instant oldestTweetTimestamp = Instant.parse("2023-01-01T00:00:00Z");
 
-        Tweet tweet1 = new Tweet("id1", followedId, "content1", Instant.now());
-        Tweet tweet2 = new Tweet("id2", followedId, "content2", Instant.now());
+        Tweet tweet1 = new Tweet(1L, followedId, "content1", Instant.now());
+        Tweet tweet2 = new Tweet(2L, followedId, "content2", Instant.now());
         List<Tweet> recentTweets = Arrays.asList(tweet1, tweet2);
 
         when(tweetRepository.findByAuthorIdAfter(eq(followedId), anyInt()))
@@ -56,13 +72,14 @@ public class UserFollowedEventHandlerTest {
         // Validations
         verify(tweetRepository).findByAuthorIdAfter(eq(followedId), eq(50));
 
-        ArgumentCaptor<TimelineItem> timelineItemCaptor = ArgumentCaptor.forClass(TimelineItem.class);
-        verify(timelineRepository, times(2)).addToTimeline(eq(followerId), timelineItemCaptor.capture());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<TimelineEntry>> timelineEntriesCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(timelineRepository).addAllToTimeline(eq(followerId), timelineEntriesCaptor.capture());
 
-        List<TimelineItem> capturedItems = timelineItemCaptor.getAllValues();
+        List<TimelineEntry> capturedItems = List.copyOf(timelineEntriesCaptor.getValue());
         assertEquals(2, capturedItems.size());
-        assertEquals("id1", capturedItems.get(0).tweetId());
-        assertEquals("id2", capturedItems.get(1).tweetId());
+        assertEquals(1L, capturedItems.get(0).tweetId());
+        assertEquals(2L, capturedItems.get(1).tweetId());
     }
 
     @Test
@@ -79,5 +96,44 @@ public class UserFollowedEventHandlerTest {
 
         // Validations
         verify(tweetRepository).findByAuthorIdAfter(eq(followedId), eq(50));
+        verify(timelineRepository, never()).addAllToTimeline(any(), any());
+    }
+
+    @Test
+    public void testHandle_ShouldNotBackfillUsersPulledOnRead() {
+        String followerId = "follower1";
+        String followedId = "celebrity";
+        UserFollowedEvent event = new UserFollowedEvent(followerId, followedId);
+
+        when(fanOutPolicy.isPulledOnRead(followedId)).thenReturn(true);
+
+        // actual call
+        eventHandler.handle(event);
+
+        // Validations
+        verify(fanOutPolicy).recordFollow(followedId);
+        verify(timelineUpdatePublisher).watchAuthor(followerId, followedId);
+        verify(followRepository, never()).streamFollowers(any());
+        verify(tweetRepository, never()).findByAuthorIdAfter(any(), anyInt());
+        verify(timelineRepository, never()).addAllToTimeline(any(), any());
+    }
+
+    @Test
+    public void testHandle_ShouldWatchUserWithAllFollowersOnceOverThreshold() {
+        String followerId = "follower1";
+        String followedId = "celebrity";
+        UserFollowedEvent event = new UserFollowedEvent(followerId, followedId);
+
+        when(fanOutPolicy.recordFollow(followedId)).thenReturn(true);
+        when(fanOutPolicy.isPulledOnRead(followedId)).thenReturn(true);
+        when(followRepository.streamFollowers(followedId)).thenReturn(Stream.of("follower0", followerId));
+
+        // actual call
+        eventHandler.handle(event);
+
+        // Validations
+        verify(timelineUpdatePublisher).watchAuthor("follower0", followedId);
+        verify(timelineUpdatePublisher, times(2)).watchAuthor(followerId, followedId);
+        verify(tweetRepository, never()).findByAuthorIdAfter(any(), anyInt());
     }
 }
@@ -0,0 +1,107 @@
+package com.example.minix.application.service;
+
+import com.example.minix.application.port.out.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for FanOutPolicy.
+ */
+@ExtendWith(MockitoExtension.class)
+class FanOutPolicyTest {
+
+    private static final int CELEBRITY_THRESHOLD = 2;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    private FanOutPolicy fanOutPolicy;
+
+    @BeforeEach
+    void setUp() {
+        fanOutPolicy = new FanOutPolicy(followRepository, CELEBRITY_THRESHOLD);
+    }
+
+    @Test
+    void testIsPulledOnRead_shouldFanOutUsersUpToThreshold() {
+        when(followRepository.countFollowers("user1")).thenReturn(CELEBRITY_THRESHOLD);
+
+        assertFalse(fanOutPolicy.recordFollow("user1"));
+
+        assertFalse(fanOutPolicy.isPulledOnRead("user1"));
+    }
+
+    @Test
+    void testIsPulledOnRead_shouldPullUsersAboveThreshold() {
+        when(followRepository.countFollowers("celebrity")).thenReturn(CELEBRITY_THRESHOLD + 1);
+
+        assertTrue(fanOutPolicy.recordFollow("celebrity"));
+        assertFalse(fanOutPolicy.recordFollow("celebrity"));
+
+        assertTrue(fanOutPolicy.isPulledOnRead("celebrity"));
+    }
+
+    @Test
+    void testReload_shouldPullUsersAboveThresholdInRestoredGraph() {
+        when(followRepository.findUserIdsWithMoreFollowersThan(CELEBRITY_THRESHOLD)).thenReturn(List.of("celebrity"));
+
+        fanOutPolicy.reload();
+
+        assertTrue(fanOutPolicy.isPulledOnRead("celebrity"));
+        assertFalse(fanOutPolicy.isPulledOnRead("user1"));
+    }
+
+    @Test
+    void testFindPulledAuthorsFollowedBy_shouldOnlyReturnFollowedAuthors() {
+        // Configuring test
+        when(followRepository.findUserIdsWithMoreFollowersThan(CELEBRITY_THRESHOLD))
+                .thenReturn(List.of("celebrity1", "celebrity2"));
+        when(followRepository.exists("reader", "celebrity1")).thenReturn(true);
+        when(followRepository.exists("reader", "celebrity2")).thenReturn(false);
+        fanOutPolicy.reload();
+
+        // Execution
+        List<String> result = fanOutPolicy.findPulledAuthorsFollowedBy("reader");
+
+        // Verifications
+        assertEquals(List.of("celebrity1"), result);
+    }
+
+    @Test
+    void testPulledVersion_shouldGrowWhenFollowedAuthorPostsOrIsFollowed() {
+        // Configuring test
+        when(followRepository.findUserIdsWithMoreFollowersThan(CELEBRITY_THRESHOLD))
+                .thenReturn(List.of("celebrity1", "celebrity2"));
+        when(followRepository.exists("reader", "celebrity1")).thenReturn(true);
+        when(followRepository.exists("reader", "celebrity2")).thenReturn(false, false, false, true);
+        fanOutPolicy.reload();
+
+        // Execution
+        long initial = fanOutPolicy.pulledVersion("reader");
+        fanOutPolicy.recordTweet("celebrity2");
+        long afterOtherAuthorPosted = fanOutPolicy.pulledVersion("reader");
+        fanOutPolicy.recordTweet("celebrity1");
+        long afterFollowedAuthorPosted = fanOutPolicy.pulledVersion("reader");
+        long afterFollow = fanOutPolicy.pulledVersion("reader");
+
+        // Verifications
+        assertEquals(initial, afterOtherAuthorPosted);
+        assertTrue(afterFollowedAuthorPosted > afterOtherAuthorPosted);
+        assertTrue(afterFollow > afterFollowedAuthorPosted);
+    }
+
+    @Test
+    void testPulledVersion_shouldBeZeroWhenNoPulledAuthorIsFollowed() {
+        assertEquals(0, fanOutPolicy.pulledVersion("reader"));
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.minix.application.usecase;
 
 import com.example.minix.application.port.out.EventPublisher;
+import com.example.minix.application.port.out.EventPublisherOverloadedException;
+import com.example.minix.application.port.out.TweetIdGenerator;
 import com.example.minix.application.port.out.TweetRepository;
 import com.example.minix.domain.event.TweetCreatedEvent;
 import com.example.minix.domain.model.Tweet;
@@ -12,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +33,9 @@ public class CreateTweetUseCaseTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private TweetIdGenerator tweetIdGenerator;
+
     @InjectMocks
     private CreateTweetUseCase useCase;
 
@@ -38,8 +44,9 @@ public class CreateTweetUseCaseTest {
         // Configuring test
         String authorId = "user123";
         String content = "This is a test tweet";
-        Tweet savedTweet = new Tweet("tweet123", authorId, content, Instant.now());
+        Tweet savedTweet = new Tweet(123L, authorId, content, Instant.now());
 
+        when(tweetIdGenerator.nextId()).thenReturn(123L);
         when(tweetRepository.save(any(Tweet.class))).thenReturn(savedTweet);
 
         // Execution
@@ -51,6 +58,7 @@ public class CreateTweetUseCaseTest {
         verify(tweetRepository).save(tweetCaptor.capture());
 
         Tweet capturedTweet = tweetCaptor.getValue();
+        assertEquals(123L, capturedTweet.id());
         assertEquals(authorId, capturedTweet.authorId());
         assertEquals(content, capturedTweet.content());
 
@@ -72,4 +80,16 @@ public class CreateTweetUseCaseTest {
         assertSame(savedTweet, result);
 
     }
+
+    @Test
+    public void testExecute_shouldNotSaveTweetWhenPublisherIsOverloaded() {
+        // Configuring test
+        doThrow(new EventPublisherOverloadedException("Overloaded", Duration.ofSeconds(1)))
+                .when(eventPublisher).ensureCapacity("user123");
+
+        // Execution & Verifications
+        assertThrows(EventPublisherOverloadedException.class, () -> useCase.execute("user123", "content"));
+        verifyNoInteractions(tweetRepository, tweetIdGenerator);
+        verify(eventPublisher, never()).publish(any());
+    }
 }
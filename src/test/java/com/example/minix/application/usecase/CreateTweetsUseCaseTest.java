@@ -0,0 +1,105 @@
+package com.example.minix.application.usecase;
+
+import com.example.minix.application.port.out.EventPublisher;
+import com.example.minix.application.port.out.EventPublisherOverloadedException;
+import com.example.minix.application.port.out.TweetIdGenerator;
+import com.example.minix.application.port.out.TweetRepository;
+import com.example.minix.domain.event.TweetsCreatedEvent;
+import com.example.minix.domain.model.Tweet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CreateTweetsUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+public class CreateTweetsUseCaseTest {
+
+    @Mock
+    private TweetRepository tweetRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private TweetIdGenerator tweetIdGenerator;
+
+    private CreateTweetsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CreateTweetsUseCase(tweetRepository, eventPublisher, tweetIdGenerator, 2);
+    }
+
+    @Test
+    public void testExecute_shouldSaveAndPublishTweetsInBatches() {
+        // Configuring test
+        AtomicLong ids = new AtomicLong();
+        when(tweetIdGenerator.nextId()).thenAnswer(invocation -> ids.incrementAndGet());
+        when(tweetRepository.saveAll(any())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+        // Execution
+        List<Tweet> result = useCase.execute("user123", List.of("First", "Second", "Third"));
+
+        // Verifications
+        assertEquals(List.of(1L, 2L, 3L), result.stream().map(Tweet::id).toList());
+        assertEquals(List.of("First", "Second", "Third"), result.stream().map(Tweet::content).toList());
+
+        ArgumentCaptor<TweetsCreatedEvent> eventCaptor = ArgumentCaptor.forClass(TweetsCreatedEvent.class);
+        InOrder inOrder = inOrder(eventPublisher, tweetRepository);
+        inOrder.verify(eventPublisher).ensureCapacity("user123", 2);
+        inOrder.verify(tweetRepository).saveAll(result.subList(0, 2));
+        inOrder.verify(eventPublisher).publish(eventCaptor.capture());
+        inOrder.verify(tweetRepository).saveAll(result.subList(2, 3));
+        inOrder.verify(eventPublisher).publish(eventCaptor.capture());
+
+        List<TweetsCreatedEvent> events = eventCaptor.getAllValues();
+        assertEquals("user123", events.get(0).partitionKey());
+        assertEquals(List.of(1L, 2L), events.get(0).tweets().stream().map(tweet -> tweet.tweetId()).toList());
+        assertEquals(List.of(3L), events.get(1).tweets().stream().map(tweet -> tweet.tweetId()).toList());
+        assertEquals(result.get(2).createdAt(), events.get(1).tweets().get(0).createdAt());
+    }
+
+    @Test
+    public void testExecute_shouldRejectWholeRequestWhenATweetIsInvalid() {
+        // Configuring test
+        when(tweetIdGenerator.nextId()).thenReturn(1L, 2L);
+
+        // Execution & Verifications
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute("user123", List.of("Valid", "")));
+        verifyNoInteractions(tweetRepository, eventPublisher);
+    }
+
+    @Test
+    public void testExecute_shouldRejectEmptyBatch() {
+        // Execution & Verifications
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute("user123", List.of()));
+        verifyNoInteractions(tweetRepository, eventPublisher, tweetIdGenerator);
+    }
+
+    @Test
+    public void testExecute_shouldNotSaveTweetsWhenPublisherIsOverloaded() {
+        // Configuring test
+        when(tweetIdGenerator.nextId()).thenReturn(1L);
+        doThrow(new EventPublisherOverloadedException("Overloaded", Duration.ofSeconds(1)))
+                .when(eventPublisher).ensureCapacity("user123", 1);
+
+        // Execution & Verifications
+        assertThrows(EventPublisherOverloadedException.class, () -> useCase.execute("user123", List.of("content")));
+        verifyNoInteractions(tweetRepository);
+        verify(eventPublisher, never()).publish(any());
+    }
+}
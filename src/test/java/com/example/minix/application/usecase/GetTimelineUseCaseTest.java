@@ -1,7 +1,13 @@
 package com.example.minix.application.usecase;
 
 import com.example.minix.application.port.out.TimelineRepository;
+import com.example.minix.application.port.out.TweetRepository;
+import com.example.minix.application.service.FanOutPolicy;
+import com.example.minix.domain.model.TimelineCursor;
+import com.example.minix.domain.model.TimelineEntry;
 import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.domain.model.TimelineQuery;
+import com.example.minix.domain.model.Tweet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +20,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -25,13 +32,21 @@ public class GetTimelineUseCaseTest {
     @Mock
     private TimelineRepository timelineRepository;
 
+    @Mock
+    private TweetRepository tweetRepository;
+
+    @Mock
+    private FanOutPolicy fanOutPolicy;
+
     private GetTimelineUseCase useCase;
 
     private static final int MAX_TIMELINE_LENGTH = 3;
+    private static final TimelineQuery LATEST = TimelineQuery.latest(MAX_TIMELINE_LENGTH);
 
     @BeforeEach
     void setUp() {
-        useCase = new GetTimelineUseCase(timelineRepository, MAX_TIMELINE_LENGTH);
+        useCase = new GetTimelineUseCase(timelineRepository, tweetRepository, fanOutPolicy,
+                MAX_TIMELINE_LENGTH);
     }
 
     @Test
@@ -39,13 +54,16 @@ public class GetTimelineUseCaseTest {
         // Configuring test
         String userId = "user123";
         Instant now = Instant.now();
-        List<TimelineItem> expectedTimeline = Arrays.asList(
-                new TimelineItem("tweet1", "author1", "content1", now),
-                new TimelineItem("tweet2", "author2", "content2", now.minusSeconds(60)),
-                new TimelineItem("tweet3", "author3", "content3", now.minusSeconds(120))
+        List<Tweet> tweets = Arrays.asList(
+                new Tweet(1L, "author1", "content1", now),
+                new Tweet(2L, "author2", "content2", now.minusSeconds(60)),
+                new Tweet(3L, "author3", "content3", now.minusSeconds(120))
         );
+        List<TimelineEntry> entries = tweets.stream().map(TimelineEntry::of).toList();
+        List<TimelineItem> expectedTimeline = tweets.stream().map(TimelineItem::of).toList();
 
-        when(timelineRepository.getTimeline(userId, MAX_TIMELINE_LENGTH)).thenReturn(expectedTimeline);
+        when(timelineRepository.getTimeline(userId, LATEST)).thenReturn(entries);
+        when(tweetRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(tweets);
 
         // Execution
         List<TimelineItem> result = useCase.execute(userId);
@@ -55,14 +73,15 @@ public class GetTimelineUseCaseTest {
         assertEquals(3, result.size());
         assertEquals(expectedTimeline, result);
 
-        verify(timelineRepository, times(1)).getTimeline(userId, MAX_TIMELINE_LENGTH);
+        verify(timelineRepository, times(1)).getTimeline(userId, LATEST);
+        verify(tweetRepository, times(1)).findAllById(any());
     }
 
     @Test
     public void testExecute_shouldReturnEmptyListWhenTimelineIsEmpty() {
         // Configuring test
         String userId = "user123";
-        when(timelineRepository.getTimeline(userId, MAX_TIMELINE_LENGTH)).thenReturn(Collections.emptyList());
+        when(timelineRepository.getTimeline(userId, LATEST)).thenReturn(Collections.emptyList());
 
         // Execution
         List<TimelineItem> result = useCase.execute(userId);
@@ -71,7 +90,8 @@ public class GetTimelineUseCaseTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
-        verify(timelineRepository, times(1)).getTimeline(userId, MAX_TIMELINE_LENGTH);
+        verify(timelineRepository, times(1)).getTimeline(userId, LATEST);
+        verify(tweetRepository, never()).findAllById(any());
     }
 
     @Test
@@ -81,26 +101,146 @@ public class GetTimelineUseCaseTest {
         String userId2 = "user2";
         Instant now = Instant.now();
 
-        List<TimelineItem> timeline1 = List.of(
-                new TimelineItem("tweet1", "author1", "content1", now)
-        );
-        List<TimelineItem> timeline2 = List.of(
-                new TimelineItem("tweet2", "author2", "content2", now)
-        );
+        Tweet tweet1 = new Tweet(1L, "author1", "content1", now);
+        Tweet tweet2 = new Tweet(2L, "author2", "content2", now);
 
-        when(timelineRepository.getTimeline(userId1, MAX_TIMELINE_LENGTH)).thenReturn(timeline1);
-        when(timelineRepository.getTimeline(userId2, MAX_TIMELINE_LENGTH)).thenReturn(timeline2);
+        when(timelineRepository.getTimeline(userId1, LATEST)).thenReturn(List.of(TimelineEntry.of(tweet1)));
+        when(timelineRepository.getTimeline(userId2, LATEST)).thenReturn(List.of(TimelineEntry.of(tweet2)));
+        when(tweetRepository.findAllById(List.of(1L))).thenReturn(List.of(tweet1));
+        when(tweetRepository.findAllById(List.of(2L))).thenReturn(List.of(tweet2));
 
         // Execution
         List<TimelineItem> result1 = useCase.execute(userId1);
         List<TimelineItem> result2 = useCase.execute(userId2);
 
         // Verifications
-        assertEquals(timeline1, result1);
-        assertEquals(timeline2, result2);
+        assertEquals(List.of(TimelineItem.of(tweet1)), result1);
+        assertEquals(List.of(TimelineItem.of(tweet2)), result2);
         assertNotEquals(result1, result2);
 
-        verify(timelineRepository).getTimeline(userId1, MAX_TIMELINE_LENGTH);
-        verify(timelineRepository).getTimeline(userId2, MAX_TIMELINE_LENGTH);
+        verify(timelineRepository).getTimeline(userId1, LATEST);
+        verify(timelineRepository).getTimeline(userId2, LATEST);
+    }
+
+    @Test
+    public void testExecute_shouldSkipTweetsThatCannotBeHydrated() {
+        // Configuring test
+        String userId = "user123";
+        Instant now = Instant.now();
+        Tweet tweet = new Tweet(1L, "author1", "content1", now);
+        List<TimelineEntry> entries = List.of(
+                TimelineEntry.of(tweet),
+                new TimelineEntry(999L, now.minusSeconds(60)));
+
+        when(timelineRepository.getTimeline(userId, LATEST)).thenReturn(entries);
+        when(tweetRepository.findAllById(List.of(1L, 999L))).thenReturn(List.of(tweet));
+
+        // Execution
+        List<TimelineItem> result = useCase.execute(userId);
+
+        // Verifications
+        assertEquals(List.of(TimelineItem.of(tweet)), result);
+    }
+
+    @Test
+    public void testExecute_shouldMergeTweetsOfUsersPulledOnRead() {
+        // Configuring test
+        String userId = "user123";
+        String celebrity = "celebrity";
+        Instant now = Instant.now();
+        Tweet pushed = new Tweet(1L, "author1", "content1", now.minusSeconds(60));
+        Tweet pulledNewest = new Tweet(2L, celebrity, "content2", now);
+        Tweet pulledOldest = new Tweet(3L, celebrity, "content3", now.minusSeconds(120));
+        Tweet pulledTooOld = new Tweet(4L, celebrity, "content4", now.minusSeconds(180));
+
+        when(timelineRepository.getTimeline(userId, LATEST)).thenReturn(List.of(TimelineEntry.of(pushed)));
+        when(fanOutPolicy.findPulledAuthorsFollowedBy(userId)).thenReturn(List.of(celebrity));
+        when(tweetRepository.findByAuthorId(celebrity, LATEST))
+                .thenReturn(List.of(pulledNewest, pulledOldest, pulledTooOld));
+        when(tweetRepository.findAllById(List.of(1L))).thenReturn(List.of(pushed));
+
+        // Execution
+        List<TimelineItem> result = useCase.execute(userId);
+
+        // Verifications
+        assertEquals(List.of(TimelineItem.of(pulledNewest), TimelineItem.of(pushed), TimelineItem.of(pulledOldest)),
+                result);
+    }
+
+    @Test
+    public void testExecute_shouldNotDuplicateTweetsPushedBeforeUserWasPulled() {
+        // Configuring test
+        String userId = "user123";
+        String celebrity = "celebrity";
+        Tweet tweet = new Tweet(1L, celebrity, "content1", Instant.now());
+
+        when(timelineRepository.getTimeline(userId, LATEST)).thenReturn(List.of(TimelineEntry.of(tweet)));
+        when(fanOutPolicy.findPulledAuthorsFollowedBy(userId)).thenReturn(List.of(celebrity));
+        when(tweetRepository.findByAuthorId(celebrity, LATEST)).thenReturn(List.of(tweet));
+
+        // Execution
+        List<TimelineItem> result = useCase.execute(userId);
+
+        // Verifications
+        assertEquals(List.of(TimelineItem.of(tweet)), result);
+        verify(tweetRepository, never()).findAllById(any());
+    }
+
+    @Test
+    public void testExecute_shouldQueryPageBetweenCursors() {
+        // Configuring test
+        String userId = "user123";
+        Instant now = Instant.now();
+        TimelineCursor before = new TimelineCursor(now, 9L);
+        TimelineCursor since = new TimelineCursor(now.minusSeconds(600), 1L);
+        Tweet tweet = new Tweet(5L, "author1", "content", now.minusSeconds(300));
+        TimelineQuery query = new TimelineQuery(before, since, 2);
+
+        when(timelineRepository.getTimeline(userId, query)).thenReturn(List.of(TimelineEntry.of(tweet)));
+        when(tweetRepository.findAllById(List.of(5L))).thenReturn(List.of(tweet));
+
+        // Execution
+        List<TimelineItem> result = useCase.execute(userId, before, since, 2);
+
+        // Verifications
+        assertEquals(List.of(TimelineItem.of(tweet)), result);
+        verify(timelineRepository).getTimeline(userId, query);
+    }
+
+    @Test
+    public void testExecute_shouldCapLimitToMaxTimelineLength() {
+        // Configuring test
+        String userId = "user123";
+        when(timelineRepository.getTimeline(userId, LATEST)).thenReturn(List.of());
+
+        // Execution
+        useCase.execute(userId, null, null, MAX_TIMELINE_LENGTH + 10);
+
+        // Verifications
+        verify(timelineRepository).getTimeline(userId, LATEST);
+    }
+
+    @Test
+    public void testVersion_shouldAddTimelineAndPulledVersions() {
+        // Configuring test
+        String userId = "user123";
+        when(timelineRepository.getTimelineVersion(userId)).thenReturn(3L);
+        when(fanOutPolicy.pulledVersion(userId)).thenReturn(5L, 5L, 9L);
+
+        // Execution
+        long first = useCase.version(userId);
+        long unchanged = useCase.version(userId);
+        long changed = useCase.version(userId);
+
+        // Verifications
+        assertEquals(8L, first);
+        assertEquals(first, unchanged);
+        assertEquals(12L, changed);
+        verifyNoInteractions(tweetRepository);
+    }
+
+    @Test
+    public void testExecute_shouldThrowExceptionWhenLimitIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute("user123", null, null, -1));
     }
 }
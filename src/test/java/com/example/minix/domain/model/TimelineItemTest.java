@@ -17,7 +17,7 @@ class TimelineItemTest {
     @Test
     public void testConstructor_shouldCreateTimelineItemWithValidData() {
         // Configuring test
-        String tweetId = "tweet123";
+        long tweetId = 123L;
         String authorId = "user123";
         String content = "Test content";
         Instant createdAt = Instant.now();
@@ -33,9 +33,9 @@ class TimelineItemTest {
     }
 
     @Test
-    public void testConstructor_shouldThrowExceptionWhenTweetIdIsNull() {
+    public void testConstructor_shouldThrowExceptionWhenTweetIdIsZero() {
         // Configuring test
-        String tweetId = null;
+        long tweetId = 0L;
         String authorId = "user123";
         String content = "Test content";
         Instant createdAt = Instant.now();
@@ -45,13 +45,13 @@ class TimelineItemTest {
                 IllegalArgumentException.class,
                 () -> new TimelineItem(tweetId, authorId, content, createdAt)
         );
-        assertTrue(exception.getMessage().contains("Tweet ID cannot be empty"));
+        assertTrue(exception.getMessage().contains("Tweet ID must be positive"));
     }
 
     @Test
-    public void testConstructor_shouldThrowExceptionWhenTweetIdIsEmpty() {
+    public void testConstructor_shouldThrowExceptionWhenTweetIdIsNegative() {
         // Configuring test
-        String tweetId = "";
+        long tweetId = -1L;
         String authorId = "user123";
         String content = "Test content";
         Instant createdAt = Instant.now();
@@ -61,13 +61,13 @@ class TimelineItemTest {
                 IllegalArgumentException.class,
                 () -> new TimelineItem(tweetId, authorId, content, createdAt)
         );
-        assertTrue(exception.getMessage().contains("Tweet ID cannot be empty"));
+        assertTrue(exception.getMessage().contains("Tweet ID must be positive"));
     }
 
     @Test
     public void testConstructor_shouldThrowExceptionWhenAuthorIdIsNull() {
         // Configuring test
-        String tweetId = "tweet123";
+        long tweetId = 123L;
         String authorId = null;
         String content = "Test content";
         Instant createdAt = Instant.now();
@@ -83,7 +83,7 @@ class TimelineItemTest {
     @Test
     public void testConstructor_shouldThrowExceptionWhenAuthorIdIsEmpty() {
         // Configuring test
-        String tweetId = "tweet123";
+        long tweetId = 123L;
         String authorId = "";
         String content = "Test content";
         Instant createdAt = Instant.now();
@@ -99,7 +99,7 @@ class TimelineItemTest {
     @Test
     public void testConstructor_shouldThrowExceptionWhenContentIsNull() {
         // Configuring test
-        String tweetId = "tweet123";
+        long tweetId = 123L;
         String authorId = "user123";
         String content = null;
         Instant createdAt = Instant.now();
@@ -115,7 +115,7 @@ class TimelineItemTest {
     @Test
     public void testConstructor_shouldThrowExceptionWhenContentIsEmpty() {
         // Configuring test
-        String tweetId = "tweet123";
+        long tweetId = 123L;
         String authorId = "user123";
         String content = "";
         Instant createdAt = Instant.now();
@@ -131,7 +131,7 @@ class TimelineItemTest {
     @Test
     public void testConstructor_shouldThrowExceptionWhenCreatedAtIsNull() {
         // Configuring test
-        String tweetId = "tweet123";
+        long tweetId = 123L;
         String authorId = "user123";
         String content = "Test content";
         Instant createdAt = null;
@@ -151,9 +151,9 @@ class TimelineItemTest {
         Instant earlier = now.minusSeconds(3600);
         Instant latest = now.plusSeconds(3600);
 
-        TimelineItem item1 = new TimelineItem("tweet1", "user1", "content1", earlier);
-        TimelineItem item2 = new TimelineItem("tweet2", "user2", "content2", now);
-        TimelineItem item3 = new TimelineItem("tweet3", "user3", "content3", latest);
+        TimelineItem item1 = new TimelineItem(1L, "user1", "content1", earlier);
+        TimelineItem item2 = new TimelineItem(2L, "user2", "content2", now);
+        TimelineItem item3 = new TimelineItem(3L, "user3", "content3", latest);
 
         List<TimelineItem> items = new ArrayList<>();
         items.add(item1);
@@ -164,17 +164,17 @@ class TimelineItemTest {
         Collections.sort(items);
 
         // Verifications
-        assertEquals("tweet3", items.get(0).tweetId()); // Latest first
-        assertEquals("tweet2", items.get(1).tweetId());
-        assertEquals("tweet1", items.get(2).tweetId()); // Earliest last
+        assertEquals(3L, items.get(0).tweetId()); // Latest first
+        assertEquals(2L, items.get(1).tweetId());
+        assertEquals(1L, items.get(2).tweetId()); // Earliest last
     }
 
     @Test
     public void testConstructor_shouldCompareCorrectlyWhenCreatedAtIsSame() {
         // Configuring test
         Instant now = Instant.now();
-        TimelineItem item1 = new TimelineItem("tweet1", "user1", "content1", now);
-        TimelineItem item2 = new TimelineItem("tweet2", "user2", "content2", now);
+        TimelineItem item1 = new TimelineItem(1L, "user1", "content1", now);
+        TimelineItem item2 = new TimelineItem(2L, "user2", "content2", now);
 
         // Execution
         int comparison = item1.compareTo(item2);
@@ -189,8 +189,8 @@ class TimelineItemTest {
         Instant now = Instant.now();
         Instant earlier = now.minusSeconds(3600);
 
-        TimelineItem olderItem = new TimelineItem("tweet1", "user1", "content1", earlier);
-        TimelineItem newerItem = new TimelineItem("tweet2", "user2", "content2", now);
+        TimelineItem olderItem = new TimelineItem(1L, "user1", "content1", earlier);
+        TimelineItem newerItem = new TimelineItem(2L, "user2", "content2", now);
 
         // Execution
         int comparison = olderItem.compareTo(newerItem);
@@ -205,8 +205,8 @@ class TimelineItemTest {
         Instant now = Instant.now();
         Instant earlier = now.minusSeconds(3600);
 
-        TimelineItem newerItem = new TimelineItem("tweet1", "user1", "content1", now);
-        TimelineItem olderItem = new TimelineItem("tweet2", "user2", "content2", earlier);
+        TimelineItem newerItem = new TimelineItem(1L, "user1", "content1", now);
+        TimelineItem olderItem = new TimelineItem(2L, "user2", "content2", earlier);
 
         // Execution
         int comparison = newerItem.compareTo(olderItem);
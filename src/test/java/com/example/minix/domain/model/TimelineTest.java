@@ -0,0 +1,251 @@
+package com.example.minix.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Timeline domain model.
+ */
+class TimelineTest {
+
+    @Test
+    public void testAdd_shouldReturnItemsNewestFirst() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(10);
+
+        // Execution
+        timeline.add(new TimelineEntry(2L, now.minusSeconds(120)));
+        timeline.add(new TimelineEntry(3L, now.minusSeconds(60)));
+        timeline.add(new TimelineEntry(4L, now));
+
+        // Verifications
+        List<TimelineEntry> items = timeline.items(10);
+        assertEquals(3, items.size());
+        assertEquals(4L, items.get(0).tweetId());
+        assertEquals(3L, items.get(1).tweetId());
+        assertEquals(2L, items.get(2).tweetId());
+    }
+
+    @Test
+    public void testAdd_shouldKeepOrderForOutOfOrderItems() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(10);
+
+        // Execution
+        timeline.add(new TimelineEntry(4L, now));
+        timeline.add(new TimelineEntry(2L, now.minusSeconds(120)));
+        timeline.add(new TimelineEntry(3L, now.minusSeconds(60)));
+
+        // Verifications
+        List<TimelineEntry> items = timeline.items(10);
+        assertEquals(List.of(4L, 3L, 2L), items.stream().map(TimelineEntry::tweetId).toList());
+    }
+
+    @Test
+    public void testAdd_shouldIgnoreDuplicates() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(10);
+        TimelineEntry entry = new TimelineEntry(2L, now);
+
+        // Execution
+        timeline.add(entry);
+        timeline.add(entry);
+
+        // Verifications
+        assertEquals(1, timeline.size());
+    }
+
+    @Test
+    public void testAdd_shouldEvictOldestWhenFull() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(3);
+
+        // Execution
+        for (int i = 0; i < 5; i++) {
+            timeline.add(new TimelineEntry(i + 1L, now.plusSeconds(i)));
+        }
+
+        // Verifications
+        assertEquals(3, timeline.size());
+        assertEquals(3L, timeline.oldest().orElseThrow().tweetId());
+        assertEquals(List.of(5L, 4L, 3L),
+                timeline.items(10).stream().map(TimelineEntry::tweetId).toList());
+    }
+
+    @Test
+    public void testAdd_shouldDropItemsOlderThanRetainedWhenFull() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(2);
+        timeline.add(new TimelineEntry(2L, now));
+        timeline.add(new TimelineEntry(3L, now.plusSeconds(1)));
+
+        // Execution
+        timeline.add(new TimelineEntry(1L, now.minusSeconds(1)));
+
+        // Verifications
+        assertEquals(List.of(3L, 2L), timeline.items(10).stream().map(TimelineEntry::tweetId).toList());
+    }
+
+    @Test
+    public void testAdd_shouldInsertBackfilledItemWhenFull() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(3);
+        timeline.add(new TimelineEntry(2L, now));
+        timeline.add(new TimelineEntry(4L, now.plusSeconds(2)));
+        timeline.add(new TimelineEntry(5L, now.plusSeconds(3)));
+
+        // Execution
+        timeline.add(new TimelineEntry(3L, now.plusSeconds(1)));
+
+        // Verifications
+        assertEquals(List.of(5L, 4L, 3L),
+                timeline.items(10).stream().map(TimelineEntry::tweetId).toList());
+    }
+
+    @Test
+    public void testAddAll_shouldMergeEntriesInAnyOrder() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(3);
+        timeline.add(new TimelineEntry(3L, now.plusSeconds(2)));
+
+        // Execution
+        timeline.addAll(List.of(
+                new TimelineEntry(4L, now.plusSeconds(3)),
+                new TimelineEntry(1L, now),
+                new TimelineEntry(2L, now.plusSeconds(1)),
+                new TimelineEntry(3L, now.plusSeconds(2))));
+
+        // Verifications
+        assertEquals(List.of(4L, 3L, 2L), timeline.items(10).stream().map(TimelineEntry::tweetId).toList());
+    }
+
+    @Test
+    public void testItems_shouldLimitResults() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(10);
+        for (int i = 0; i < 5; i++) {
+            timeline.add(new TimelineEntry(i + 1L, now.plusSeconds(i)));
+        }
+
+        // Execution
+        List<TimelineEntry> items = timeline.items(2);
+
+        // Verifications
+        assertEquals(List.of(5L, 4L), items.stream().map(TimelineEntry::tweetId).toList());
+    }
+
+    @Test
+    public void testOldest_shouldBeEmptyForNewTimeline() {
+        Timeline timeline = new Timeline(10);
+
+        assertTrue(timeline.isEmpty());
+        assertTrue(timeline.oldest().isEmpty());
+        assertTrue(timeline.items(10).isEmpty());
+    }
+
+    @Test
+    public void testConstructor_shouldThrowExceptionWhenCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new Timeline(0));
+    }
+
+    @Test
+    public void testItems_shouldReturnEntriesBetweenCursors() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(10);
+        for (int i = 0; i < 6; i++) {
+            timeline.add(new TimelineEntry(i + 1L, now.plusSeconds(i)));
+        }
+        TimelineCursor before = new TimelineCursor(now.plusSeconds(4), 5L);
+        TimelineCursor since = new TimelineCursor(now.plusSeconds(1), 2L);
+
+        // Execution
+        List<TimelineEntry> page = timeline.items(new TimelineQuery(before, since, 10));
+        List<TimelineEntry> olderPage = timeline.items(new TimelineQuery(before, null, 2));
+        List<TimelineEntry> newerPage = timeline.items(new TimelineQuery(null, since, 10));
+
+        // Verifications
+        assertEquals(List.of(4L, 3L), page.stream().map(TimelineEntry::tweetId).toList());
+        assertEquals(List.of(4L, 3L), olderPage.stream().map(TimelineEntry::tweetId).toList());
+        assertEquals(List.of(6L, 5L, 4L, 3L),
+                newerPage.stream().map(TimelineEntry::tweetId).toList());
+    }
+
+    @Test
+    public void testItems_shouldReturnNothingSinceNewestEntry() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(10);
+        TimelineEntry newest = new TimelineEntry(2L, now);
+        timeline.add(newest);
+
+        // Execution
+        List<TimelineEntry> page = timeline.items(new TimelineQuery(null, TimelineCursor.of(newest), 10));
+
+        // Verifications
+        assertTrue(page.isEmpty());
+    }
+
+    @Test
+    public void testItems_shouldReadConsistentlyWhileWriting() throws InterruptedException {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(16);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                timeline.add(new TimelineEntry(i + 1L, now.plusNanos(i)));
+            }
+        });
+
+        // Execution
+        writer.start();
+        while (writer.isAlive()) {
+            List<TimelineEntry> items = timeline.items(16);
+
+            // Verifications
+            for (int i = 1; i < items.size(); i++) {
+                assertTrue(items.get(i - 1).tweetId() > items.get(i).tweetId());
+                assertEquals(items.get(i).createdAt(), now.plusNanos(items.get(i).tweetId() - 1));
+            }
+        }
+        writer.join();
+        assertEquals(16, timeline.size());
+    }
+
+    @Test
+    public void testVersion_shouldOnlyIncreaseWhenEntriesChange() {
+        // Configuring test
+        Instant now = Instant.now();
+        Timeline timeline = new Timeline(2);
+        long initial = timeline.version();
+
+        // Execution
+        timeline.add(new TimelineEntry(2L, now.minusSeconds(60)));
+        long afterAdd = timeline.version();
+        timeline.add(new TimelineEntry(2L, now.minusSeconds(60)));
+        long afterDuplicate = timeline.version();
+        timeline.addAll(List.of(new TimelineEntry(3L, now), new TimelineEntry(4L, now.plusSeconds(60))));
+        long afterAddAll = timeline.version();
+        timeline.add(new TimelineEntry(1L, now.minusSeconds(120)));
+
+        // Verifications
+        assertEquals(0, initial);
+        assertTrue(afterAdd > initial);
+        assertEquals(afterAdd, afterDuplicate);
+        assertTrue(afterAddAll > afterDuplicate);
+        // older than everything retained in the full timeline
+        assertEquals(afterAddAll, timeline.version());
+    }
+}
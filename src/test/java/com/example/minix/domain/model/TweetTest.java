@@ -18,10 +18,10 @@ class TweetTest {
         String content = "This is a valid tweet";
 
         // Execution
-        Tweet tweet = new Tweet(authorId, content);
+        Tweet tweet = new Tweet(1L, authorId, content);
 
         // Verifications
-        assertNotNull(tweet.id());
+        assertEquals(1L, tweet.id());
         assertEquals(authorId, tweet.authorId());
         assertEquals(content, tweet.content());
         assertNotNull(tweet.createdAt());
@@ -34,7 +34,7 @@ class TweetTest {
         String content = "a".repeat(280);
 
         // Execution
-        Tweet tweet = new Tweet(authorId, content);
+        Tweet tweet = new Tweet(1L, authorId, content);
 
         // Verifications
         assertNotNull(tweet);
@@ -50,7 +50,7 @@ class TweetTest {
         // Execution & Then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Tweet(authorId, content)
+            () -> new Tweet(1L, authorId, content)
         );
         assertTrue(exception.getMessage().contains("cannot exceed 280 characters"));
     }
@@ -64,7 +64,7 @@ class TweetTest {
         // Execution & Then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Tweet(authorId, content)
+            () -> new Tweet(1L, authorId, content)
         );
         assertTrue(exception.getMessage().contains("cannot be empty"));
     }
@@ -78,7 +78,7 @@ class TweetTest {
         // Execution & Then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Tweet(authorId, content)
+            () -> new Tweet(1L, authorId, content)
         );
         assertTrue(exception.getMessage().contains("cannot be empty"));
     }
@@ -92,7 +92,7 @@ class TweetTest {
         // Execution & Then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> new Tweet(authorId, content)
+            () -> new Tweet(1L, authorId, content)
         );
         assertTrue(exception.getMessage().contains("cannot be empty"));
     }
@@ -106,7 +106,7 @@ class TweetTest {
         // Execution & Then
         assertThrows(
             IllegalArgumentException.class,
-            () -> new Tweet(authorId, content)
+            () -> new Tweet(1L, authorId, content)
         );
     }
 
@@ -119,14 +119,14 @@ class TweetTest {
         // Execution & Then
         assertThrows(
             IllegalArgumentException.class,
-            () -> new Tweet(authorId, content)
+            () -> new Tweet(1L, authorId, content)
         );
     }
 
     @Test
     void testConstructor_shouldReconstituteExistingTweet() {
         // Configuring test
-        String id = "tweet123";
+        long id = 123L;
         String authorId = "user123";
         String content = "Existing tweet";
         Instant createdAt = Instant.now();
@@ -144,7 +144,7 @@ class TweetTest {
     @Test
     void testConstructor_shouldBeEqualWhenIdsMatch() {
         // Configuring test
-        String id = "tweet123";
+        long id = 123L;
         Tweet tweet1 = new Tweet(id, "user1", "content1", Instant.now());
         Tweet tweet2 = new Tweet(id, "user2", "content2", Instant.now());
 
@@ -156,8 +156,8 @@ class TweetTest {
     @Test
     void testConstructor_shouldNotBeEqualWhenIdsDiffer() {
         // Configuring test
-        Tweet tweet1 = new Tweet("id1", "user1", "content", Instant.now());
-        Tweet tweet2 = new Tweet("id2", "user1", "content", Instant.now());
+        Tweet tweet1 = new Tweet(1L, "user1", "content", Instant.now());
+        Tweet tweet2 = new Tweet(2L, "user1", "content", Instant.now());
 
         // Execution & Then
         assertNotEquals(tweet1, tweet2);
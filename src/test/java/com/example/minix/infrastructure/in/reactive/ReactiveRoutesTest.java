@@ -0,0 +1,285 @@
+package com.example.minix.infrastructure.in.reactive;
+
+import com.example.minix.application.port.out.EventPublisherOverloadedException;
+import com.example.minix.application.service.FanOutPolicy;
+import com.example.minix.application.usecase.CreateTweetUseCase;
+import com.example.minix.application.usecase.CreateTweetsUseCase;
+import com.example.minix.application.usecase.FollowUserUseCase;
+import com.example.minix.application.usecase.GetTimelineUseCase;
+import com.example.minix.application.usecase.StreamTimelineUseCase;
+import com.example.minix.config.AuthFilterProperties;
+import com.example.minix.domain.model.Follow;
+import com.example.minix.domain.model.TimelineCursor;
+import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.domain.model.Tweet;
+import com.example.minix.infrastructure.in.web.TimelineCursorCodec;
+import com.example.minix.infrastructure.in.web.TimelineResponseCache;
+import com.example.minix.infrastructure.in.web.TimelineStreamEvents;
+import com.example.minix.infrastructure.in.web.TweetBatchReader;
+import com.example.minix.infrastructure.in.web.dto.CreateTweetRequest;
+import com.example.minix.infrastructure.in.web.dto.FollowRequest;
+import com.example.minix.infrastructure.in.web.dto.TimelineItemResponse;
+import com.example.minix.infrastructure.in.web.dto.TweetResponse;
+import com.example.minix.infrastructure.out.push.InMemoryTimelineUpdatePublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.example.minix.infrastructure.in.web.ControllerAuthConstants.USER_ID_HEADER;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveRoutes.
+ */
+class ReactiveRoutesTest {
+
+    private final CreateTweetUseCase createTweetUseCase = mock(CreateTweetUseCase.class);
+    private final FollowUserUseCase followUserUseCase = mock(FollowUserUseCase.class);
+    private final CreateTweetsUseCase createTweetsUseCase = mock(CreateTweetsUseCase.class);
+    private final GetTimelineUseCase getTimelineUseCase = mock(GetTimelineUseCase.class);
+    private final InMemoryTimelineUpdatePublisher timelineUpdatePublisher = new InMemoryTimelineUpdatePublisher(16);
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        RequestBodies requestBodies = new RequestBodies(validator);
+        TweetBatchReader batchReader = new TweetBatchReader(objectMapper, validator, 2);
+        TimelineResponseCache responseCache = new TimelineResponseCache(objectMapper, 1024 * 1024);
+        client = WebTestClient.bindToRouterFunction(new ReactiveRoutes().routes(
+                        new TweetHandler(createTweetUseCase, createTweetsUseCase, requestBodies, batchReader),
+                        new FollowHandler(followUserUseCase, requestBodies),
+                        new TimelineHandler(getTimelineUseCase, responseCache,
+                                new StreamTimelineUseCase(timelineUpdatePublisher, mock(FanOutPolicy.class)), new TimelineStreamEvents(60_000))))
+                .webFilter(new AuthenticationWebFilter(new AuthFilterProperties(List.of("/swagger-ui"))))
+                .build();
+    }
+
+    @Test
+    void shouldCreateTweet() {
+        // Configuring test
+        Tweet tweet = new Tweet(123L, "user123", "Hello", Instant.now());
+        when(createTweetUseCase.execute("user123", "Hello")).thenReturn(tweet);
+
+        // Execution
+        TweetResponse response = client.post().uri("/tweets")
+                .header(USER_ID_HEADER, "user123")
+                .bodyValue(new CreateTweetRequest("Hello"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TweetResponse.class)
+                .returnResult().getResponseBody();
+
+        // validations
+        assertEquals(TweetResponse.fromDomain(tweet), response);
+    }
+
+    @Test
+    void shouldReturn400WhenTweetIsInvalid() {
+        // Execution
+        client.post().uri("/tweets")
+                .header(USER_ID_HEADER, "user123")
+                .bodyValue(new CreateTweetRequest(""))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Tweet cannot be empty");
+
+        // validations
+        verify(createTweetUseCase, never()).execute(any(), any());
+    }
+
+    @Test
+    void shouldReturn401WhenUserIdHeaderIsMissing() {
+        // Execution
+        client.post().uri("/follow")
+                .bodyValue(new FollowRequest("alice"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        // validations
+        verify(followUserUseCase, never()).execute(any(), any());
+    }
+
+    @Test
+    void shouldFollowUser() {
+        // Configuring test
+        when(followUserUseCase.execute("bob", "alice")).thenReturn(new Follow("bob", "alice"));
+
+        // Execution & validations
+        client.post().uri("/follow")
+                .header(USER_ID_HEADER, "bob")
+                .bodyValue(new FollowRequest("alice"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.followerId").isEqualTo("bob")
+                .jsonPath("$.followedId").isEqualTo("alice");
+    }
+
+    @Test
+    void shouldReturn503WithRetryAfterWhenOverloaded() {
+        // Configuring test
+        when(createTweetUseCase.execute("user123", "Hello"))
+                .thenThrow(new EventPublisherOverloadedException("Too many pending events", Duration.ofSeconds(2)));
+
+        // Execution & validations
+        client.post().uri("/tweets")
+                .header(USER_ID_HEADER, "user123")
+                .bodyValue(new CreateTweetRequest("Hello"))
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "2");
+    }
+
+    @Test
+    void shouldGetTimelineAndReturn304WhenUnchanged() {
+        // Configuring test
+        TimelineItem item = new TimelineItem(1L, "alice", "Hello", Instant.now());
+        when(getTimelineUseCase.version("bob")).thenReturn(3L);
+        when(getTimelineUseCase.execute("bob", null, null, 0)).thenReturn(List.of(item));
+
+        // Execution
+        var firstResponse = client.get().uri("/timeline")
+                .header(USER_ID_HEADER, "bob")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TimelineItemResponse.class)
+                .returnResult();
+        client.get().uri("/timeline")
+                .header(USER_ID_HEADER, "bob")
+                .header(HttpHeaders.IF_NONE_MATCH, firstResponse.getResponseHeaders().getETag())
+                .exchange()
+                .expectStatus().isNotModified();
+
+        // validations
+        assertEquals(List.of(TimelineItemResponse.fromDomain(item)), firstResponse.getResponseBody());
+        verify(getTimelineUseCase, times(1)).execute("bob", null, null, 0);
+    }
+
+    @Test
+    void shouldReadTimelineOnBoundedElasticScheduler() {
+        // Configuring test
+        List<String> readOn = new CopyOnWriteArrayList<>();
+        when(getTimelineUseCase.execute("bob", null, null, 0)).thenAnswer(invocation -> {
+            readOn.add(Thread.currentThread().getName());
+            return List.of();
+        });
+
+        // Execution
+        client.get().uri("/timeline")
+                .header(USER_ID_HEADER, "bob")
+                .exchange()
+                .expectStatus().isOk();
+
+        // validations
+        assertEquals(1, readOn.size());
+        assertTrue(readOn.get(0).startsWith("boundedElastic"));
+    }
+
+    @Test
+    void shouldReturn400WhenCursorIsInvalid() {
+        // Execution
+        client.get().uri("/timeline?since=not-a-cursor")
+                .header(USER_ID_HEADER, "bob")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        // validations
+        verify(getTimelineUseCase, never()).execute(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldReturn400WhenCursorTimeIsOutOfRange() {
+        // Configuring test
+        String cursor = TimelineCursorCodec.encode(new TimelineCursor(Instant.parse("1600-01-01T00:00:00Z"), 1L));
+
+        // Execution
+        client.get().uri("/timeline?since={cursor}", cursor)
+                .header(USER_ID_HEADER, "bob")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        // validations
+        verify(getTimelineUseCase, never()).execute(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldCreateTweetsFromNdjson() {
+        // Configuring test
+        Instant now = Instant.now();
+        List<Tweet> tweets = List.of(new Tweet(1L, "user123", "First", now), new Tweet(2L, "user123", "Second", now));
+        when(createTweetsUseCase.execute("user123", List.of("First", "Second"))).thenReturn(tweets);
+
+        // Execution
+        List<TweetResponse> response = client.post().uri("/tweets/batch")
+                .header(USER_ID_HEADER, "user123")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"content\":\"First\"}\n{\"content\":\"Second\"}\n")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBodyList(TweetResponse.class)
+                .returnResult().getResponseBody();
+
+        // validations
+        assertEquals(tweets.stream().map(TweetResponse::fromDomain).toList(), response);
+    }
+
+    @Test
+    void shouldReturn400WhenBatchHasTooManyTweets() {
+        // Execution
+        client.post().uri("/tweets/batch")
+                .header(USER_ID_HEADER, "user123")
+                .bodyValue(List.of(new CreateTweetRequest("1"), new CreateTweetRequest("2"), new CreateTweetRequest("3")))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Tweet batch cannot hold more than 2 tweets");
+
+        // validations
+        verifyNoInteractions(createTweetsUseCase);
+    }
+
+    @Test
+    void shouldStreamNewTimelineItems() {
+        // Configuring test
+        TimelineItem item = new TimelineItem(7L, "author", "Live", Instant.parse("2024-01-01T10:00:00Z"));
+        Flux<ServerSentEvent<TimelineItemResponse>> events = client.get().uri("/timeline/stream")
+                .header(USER_ID_HEADER, "user123")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<TimelineItemResponse>>() { })
+                .getResponseBody();
+
+        // Execution
+        List<ServerSentEvent<TimelineItemResponse>> received = events
+                .filter(event -> Objects.equals(event.event(), "item"))
+                .doOnSubscribe(subscription -> timelineUpdatePublisher.publish(List.of("user123"), item))
+                .take(1)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // validations
+        assertNotNull(received);
+        assertEquals(TimelineItemResponse.fromDomain(item), received.get(0).data());
+        assertEquals(TimelineItemResponse.fromDomain(item).cursor(), received.get(0).id());
+    }
+}
@@ -1,16 +1,23 @@
 package com.example.minix.infrastructure.in.web;
 
+import com.example.minix.application.port.out.TimelineSubscription;
 import com.example.minix.application.usecase.GetTimelineUseCase;
+import com.example.minix.application.usecase.StreamTimelineUseCase;
 import com.example.minix.config.AuthFilterProperties;
+import com.example.minix.domain.model.TimelineCursor;
 import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.infrastructure.in.web.dto.TimelineItemResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -21,8 +28,12 @@ import java.util.List;
 
 import static com.example.minix.infrastructure.in.web.ControllerAuthConstants.USER_ID_HEADER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -30,6 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @WebMvcTest(TimelineController.class)
 @EnableConfigurationProperties(AuthFilterProperties.class)
+@Import({TimelineResponseCache.class, TimelineStreamEvents.class})
 class TimelineControllerTest {
 
     @Autowired
@@ -38,20 +50,31 @@ class TimelineControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TimelineResponseCache responseCache;
+
     @MockBean
     private GetTimelineUseCase getTimelineUseCase;
 
+    @MockBean
+    private StreamTimelineUseCase streamTimelineUseCase;
+
+    @BeforeEach
+    void setUp() {
+        responseCache.clear();
+    }
+
     @Test
     void shouldGetTimelineSuccessfully() throws Exception {
         // Configuring test
         String userId = "user123";
         Instant now = Instant.now();
         List<TimelineItem> timeline = Arrays.asList(
-                new TimelineItem("tweet1", "author1", "content1", now),
-                new TimelineItem("tweet2", "author2", "content2", now.minusSeconds(60)),
-                new TimelineItem("tweet3", "author3", "content3", now.minusSeconds(120)));
+                new TimelineItem(1L, "author1", "content1", now),
+                new TimelineItem(2L, "author2", "content2", now.minusSeconds(60)),
+                new TimelineItem(3L, "author3", "content3", now.minusSeconds(120)));
 
-        when(getTimelineUseCase.execute(userId)).thenReturn(timeline);
+        when(getTimelineUseCase.execute(userId, null, null, 0)).thenReturn(timeline);
 
         // Execution
         MvcResult result = mockMvc.perform(get("/timeline")
@@ -67,14 +90,14 @@ class TimelineControllerTest {
 
         Assertions.assertEquals(timeline, actual);
 
-        verify(getTimelineUseCase).execute(userId);
+        verify(getTimelineUseCase).execute(userId, null, null, 0);
     }
 
     @Test
     void shouldReturnEmptyArrayWhenTimelineIsEmpty() throws Exception {
         // Configuring test
         String userId = "user123";
-        when(getTimelineUseCase.execute(userId)).thenReturn(Collections.emptyList());
+        when(getTimelineUseCase.execute(userId, null, null, 0)).thenReturn(Collections.emptyList());
 
         // Execution 
         MvcResult result = mockMvc.perform(get("/timeline")
@@ -90,7 +113,7 @@ class TimelineControllerTest {
 
         assertThat(actual).isEmpty();
 
-        verify(getTimelineUseCase).execute(userId);
+        verify(getTimelineUseCase).execute(userId, null, null, 0);
     }
 
     @Test
@@ -100,6 +123,133 @@ class TimelineControllerTest {
                 .andExpect(status().isUnauthorized());
 
         // validations
-        verify(getTimelineUseCase, never()).execute(any());
+        verify(getTimelineUseCase, never()).execute(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldPassCursorsFromPreviousPage() throws Exception {
+        // Configuring test
+        String userId = "user123";
+        Instant now = Instant.now();
+        TimelineItem item = new TimelineItem(1L, "author1", "content1", now);
+        TimelineCursor cursor = new TimelineCursor(now, 1L);
+
+        when(getTimelineUseCase.execute(userId, null, null, 0)).thenReturn(List.of(item));
+        when(getTimelineUseCase.execute(userId, cursor, null, 10)).thenReturn(Collections.emptyList());
+
+        MvcResult firstPage = mockMvc.perform(get("/timeline")
+                .header(USER_ID_HEADER, userId))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<TimelineItemResponse> items = objectMapper.readValue(
+                firstPage.getResponse().getContentAsString(),
+                new TypeReference<>() {
+                });
+
+        // Execution
+        mockMvc.perform(get("/timeline")
+                .header(USER_ID_HEADER, userId)
+                .param("before", items.get(0).cursor())
+                .param("limit", "10"))
+                .andExpect(status().isOk());
+
+        // validations
+        verify(getTimelineUseCase).execute(userId, cursor, null, 10);
+    }
+
+    @Test
+    void shouldReturn400WhenCursorIsInvalid() throws Exception {
+        // Execution
+        mockMvc.perform(get("/timeline")
+                .header(USER_ID_HEADER, "user123")
+                .param("since", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        // validations
+        verify(getTimelineUseCase, never()).execute(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldReturn400WhenCursorTimeIsOutOfRange() throws Exception {
+        // Configuring test
+        String cursor = TimelineCursorCodec.encode(new TimelineCursor(Instant.parse("2300-01-01T00:00:00Z"), 1L));
+
+        // Execution
+        mockMvc.perform(get("/timeline")
+                .header(USER_ID_HEADER, "user123")
+                .param("before", cursor))
+                .andExpect(status().isBadRequest());
+
+        // validations
+        verify(getTimelineUseCase, never()).execute(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldReturn304WhenTimelineIsUnchanged() throws Exception {
+        // Configuring test
+        String userId = "user123";
+        when(getTimelineUseCase.version(userId)).thenReturn(7L);
+        when(getTimelineUseCase.execute(userId, null, null, 0))
+                .thenReturn(List.of(new TimelineItem(1L, "author1", "content1", Instant.now())));
+        String etag = mockMvc.perform(get("/timeline")
+                .header(USER_ID_HEADER, userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Execution
+        mockMvc.perform(get("/timeline")
+                .header(USER_ID_HEADER, userId)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        // validations
+        verify(getTimelineUseCase, times(1)).execute(userId, null, null, 0);
+    }
+
+    @Test
+    void shouldReuseSerializedResponseUntilVersionChanges() throws Exception {
+        // Configuring test
+        String userId = "user123";
+        Instant now = Instant.now();
+        when(getTimelineUseCase.version(userId)).thenReturn(1L, 1L, 2L);
+        when(getTimelineUseCase.execute(userId, null, null, 0))
+                .thenReturn(List.of(new TimelineItem(1L, "author1", "content1", now)))
+                .thenReturn(List.of(new TimelineItem(2L, "author2", "content2", now),
+                        new TimelineItem(1L, "author1", "content1", now)));
+
+        // Execution
+        String first = getTimelineBody(userId);
+        String cached = getTimelineBody(userId);
+        String changed = getTimelineBody(userId);
+
+        // validations
+        Assertions.assertEquals(first, cached);
+        Assertions.assertNotEquals(first, changed);
+        verify(getTimelineUseCase, times(2)).execute(userId, null, null, 0);
+    }
+
+    private String getTimelineBody(String userId) throws Exception {
+        return mockMvc.perform(get("/timeline")
+                .header(USER_ID_HEADER, userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    void shouldOpenTimelineStream() throws Exception {
+        // Configuring test
+        TimelineSubscription subscription = mock(TimelineSubscription.class);
+        when(streamTimelineUseCase.execute("user123")).thenReturn(subscription);
+
+        // Execution
+        mockMvc.perform(get("/timeline/stream")
+                .header(USER_ID_HEADER, "user123"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        // validations
+        verify(streamTimelineUseCase, timeout(5_000)).execute("user123");
+        verify(subscription, timeout(5_000)).onAvailable(any());
     }
 }
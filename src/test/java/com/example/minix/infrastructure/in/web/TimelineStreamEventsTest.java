@@ -0,0 +1,59 @@
+package com.example.minix.infrastructure.in.web;
+
+import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.infrastructure.in.web.dto.TimelineItemResponse;
+import com.example.minix.infrastructure.out.push.InMemoryTimelineUpdatePublisher;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for TimelineStreamEvents.
+ */
+class TimelineStreamEventsTest {
+
+    private final InMemoryTimelineUpdatePublisher publisher = new InMemoryTimelineUpdatePublisher(1);
+    private final TimelineStreamEvents streamEvents = new TimelineStreamEvents(60_000);
+
+    @Test
+    void testUpdates_shouldNotEmitMoreEventsThanRequested() {
+        // Configuring test
+        List<ServerSentEvent<Object>> received = new CopyOnWriteArrayList<>();
+        BaseSubscriber<ServerSentEvent<Object>> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+            }
+
+            @Override
+            protected void hookOnNext(ServerSentEvent<Object> event) {
+                received.add(event);
+            }
+        };
+        streamEvents.updates(() -> publisher.subscribe("bob")).subscribe(subscriber);
+        publisher.publish(List.of("bob"), item(1));
+        publisher.publish(List.of("bob"), item(2));
+
+        // Execution
+        subscriber.request(1);
+        int afterFirstRequest = received.size();
+        subscriber.request(1);
+
+        // Verifications
+        assertEquals(1, afterFirstRequest);
+        assertEquals(List.of(TimelineStreamEvents.MISSED_EVENT, TimelineStreamEvents.ITEM_EVENT),
+                received.stream().map(ServerSentEvent::event).toList());
+        assertEquals(TimelineItemResponse.fromDomain(item(2)), received.get(1).data());
+        subscriber.dispose();
+    }
+
+    private static TimelineItem item(long tweetId) {
+        return new TimelineItem(tweetId, "alice", "Tweet " + tweetId, Instant.parse("2024-01-01T10:00:00Z"));
+    }
+}
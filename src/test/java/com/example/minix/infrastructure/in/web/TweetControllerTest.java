@@ -1,6 +1,8 @@
 package com.example.minix.infrastructure.in.web;
 
+import com.example.minix.application.port.out.EventPublisherOverloadedException;
 import com.example.minix.application.usecase.CreateTweetUseCase;
+import com.example.minix.application.usecase.CreateTweetsUseCase;
 import com.example.minix.config.AuthFilterProperties;
 import com.example.minix.domain.model.Tweet;
 import com.example.minix.infrastructure.in.web.dto.CreateTweetRequest;
@@ -10,20 +12,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 
 import static com.example.minix.infrastructure.in.web.ControllerAuthConstants.USER_ID_HEADER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -31,6 +40,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @WebMvcTest(TweetController.class)
 @EnableConfigurationProperties(AuthFilterProperties.class)
+@Import(TweetBatchReader.class)
 class TweetControllerTest {
 
     @Autowired
@@ -42,13 +52,16 @@ class TweetControllerTest {
     @MockBean
     private CreateTweetUseCase createTweetUseCase;
 
+    @MockBean
+    private CreateTweetsUseCase createTweetsUseCase;
+
     @Test
     void shouldCreateTweetSuccessfully() throws Exception {
         // Configuring test
         String userId = "user123";
         String content = "This is a test tweet";
         CreateTweetRequest request = new CreateTweetRequest(content);
-        Tweet tweet = new Tweet("tweet123", userId, content, Instant.now());
+        Tweet tweet = new Tweet(123L, userId, content, Instant.now());
 
         when(createTweetUseCase.execute(userId, content)).thenReturn(tweet);
 
@@ -124,7 +137,7 @@ class TweetControllerTest {
         String userId = "user123";
         String maxContent = "a".repeat(280);
         CreateTweetRequest request = new CreateTweetRequest(maxContent);
-        Tweet tweet = new Tweet("tweet123", userId, maxContent, Instant.now());
+        Tweet tweet = new Tweet(123L, userId, maxContent, Instant.now());
 
         when(createTweetUseCase.execute(userId, maxContent)).thenReturn(tweet);
 
@@ -178,4 +191,89 @@ class TweetControllerTest {
         // validate
         verify(createTweetUseCase, times(1)).execute(userId, content);
     }
+
+    @Test
+    void shouldReturn503WithRetryAfterWhenOverloaded() throws Exception {
+        // Configuring test
+        String userId = "user123";
+        String content = "Test content";
+        CreateTweetRequest request = new CreateTweetRequest(content);
+
+        when(createTweetUseCase.execute(userId, content))
+                .thenThrow(new EventPublisherOverloadedException("Too many pending events", Duration.ofSeconds(2)));
+
+        // Execution
+        mockMvc.perform(post("/tweets")
+                .header(USER_ID_HEADER, userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+
+    @Test
+    void shouldCreateTweetsFromJsonArray() throws Exception {
+        // Configuring test
+        Instant now = Instant.now();
+        List<Tweet> tweets = List.of(new Tweet(1L, "user123", "First", now), new Tweet(2L, "user123", "Second", now));
+        when(createTweetsUseCase.execute("user123", List.of("First", "Second"))).thenReturn(tweets);
+
+        // Execution
+        MvcResult result = mockMvc.perform(post("/tweets/batch")
+                .header(USER_ID_HEADER, "user123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        List.of(new CreateTweetRequest("First"), new CreateTweetRequest("Second")))))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // validate
+        assertThat(objectMapper.readValue(result.getResponse().getContentAsString(), Tweet[].class))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(tweets);
+    }
+
+    @Test
+    void shouldCreateTweetsFromNdjson() throws Exception {
+        // Configuring test
+        Tweet tweet = new Tweet(1L, "user123", "First", Instant.now());
+        when(createTweetsUseCase.execute("user123", List.of("First", "Second"))).thenReturn(List.of(tweet));
+
+        // Execution
+        mockMvc.perform(post("/tweets/batch")
+                .header(USER_ID_HEADER, "user123")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"content\":\"First\"}\n{\"content\":\"Second\"}\n"))
+                .andExpect(status().isCreated());
+
+        // validate
+        verify(createTweetsUseCase).execute("user123", List.of("First", "Second"));
+    }
+
+    @Test
+    void shouldReturn400WhenATweetOfTheBatchIsInvalid() throws Exception {
+        // Execution
+        mockMvc.perform(post("/tweets/batch")
+                .header(USER_ID_HEADER, "user123")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"content\":\"First\"}\n{\"content\":\"\"}\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Tweet 2: Tweet cannot be empty"));
+
+        // validate
+        verify(createTweetsUseCase, never()).execute(anyString(), anyList());
+    }
+
+    @Test
+    void shouldReturn400WhenBatchIsMalformed() throws Exception {
+        // Execution
+        mockMvc.perform(post("/tweets/batch")
+                .header(USER_ID_HEADER, "user123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"content\":"))
+                .andExpect(status().isBadRequest());
+
+        // validate
+        verify(createTweetsUseCase, never()).execute(anyString(), anyList());
+    }
 }
@@ -0,0 +1,61 @@
+package com.example.minix.infrastructure.out.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SnowflakeTweetIdGenerator.
+ */
+class SnowflakeTweetIdGeneratorTest {
+
+    @Test
+    void testNextId_shouldGenerateIncreasingIds() {
+        // Configuring test
+        SnowflakeTweetIdGenerator generator = new SnowflakeTweetIdGenerator(1);
+
+        // Execution & Verifications
+        long previous = generator.nextId();
+        assertTrue(previous > 0);
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous, "IDs must increase");
+            previous = next;
+        }
+    }
+
+    @Test
+    void testNextId_shouldGenerateUniqueIdsConcurrently() {
+        // Configuring test
+        SnowflakeTweetIdGenerator generator = new SnowflakeTweetIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // Execution
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(generator.nextId()));
+
+        // Verifications
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    void testNextId_shouldEncodeNodeId() {
+        // Configuring test
+        SnowflakeTweetIdGenerator generator = new SnowflakeTweetIdGenerator(5);
+
+        // Execution
+        long id = generator.nextId();
+
+        // Verifications
+        assertEquals(5, (id >>> 12) & 0x3FF);
+    }
+
+    @Test
+    void testConstructor_shouldThrowExceptionWhenNodeIdIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeTweetIdGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeTweetIdGenerator(-1));
+    }
+}
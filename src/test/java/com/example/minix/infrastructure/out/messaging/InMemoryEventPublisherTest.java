@@ -0,0 +1,230 @@
+package com.example.minix.infrastructure.out.messaging;
+
+import com.example.minix.application.handler.EventHandler;
+import com.example.minix.application.port.out.EventPublisherOverloadedException;
+import com.example.minix.domain.event.EventType;
+import com.example.minix.domain.event.UserFollowedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryEventPublisher overload policies.
+ */
+class InMemoryEventPublisherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> handledOn = new CopyOnWriteArrayList<>();
+    private final List<String> handled = new CopyOnWriteArrayList<>();
+    private InMemoryEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        publisher.shutdown();
+    }
+
+    @Test
+    void testPublish_shouldWaitForRoomOnTheLaneWhenCallerRuns() {
+        // Configuring test
+        publisher = saturatedPublisher(OverloadPolicy.CALLER_RUNS, 5_000, 10);
+
+        // Execution
+        Thread caller = publishInBackground("first", "second");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> caller.getState() == Thread.State.WAITING);
+        assertTrue(handled.isEmpty());
+        release.countDown();
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.size() == 4);
+        assertEquals(List.of("blocking", "queued", "first", "second"), handled);
+        assertFalse(handledOn.contains(caller.getName()));
+    }
+
+    @Test
+    void testEnsureCapacity_shouldShedWhenSaturated() {
+        // Configuring test
+        publisher = saturatedPublisher(OverloadPolicy.SHED);
+
+        // Execution & Verifications
+        EventPublisherOverloadedException exception =
+                assertThrows(EventPublisherOverloadedException.class, () -> publisher.ensureCapacity("shed"));
+        assertEquals(2, exception.getRetryAfter().toSeconds());
+    }
+
+    @Test
+    void testEnsureCapacity_shouldCountEveryUpcomingEvent() {
+        // Configuring test
+        LaneExecutor lanes = new LaneExecutor("event-lane", 1, 4, false, 0);
+        publisher = new InMemoryEventPublisher(lanes, OverloadPolicy.SHED, 5_000, 2, 10);
+        publisher.addListener(EventType.USER_FOLLOWED, event -> awaitQuietly(release));
+        IntStream.range(0, 3).forEach(i -> publisher.publish(new UserFollowedEvent("user" + i, "followed")));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> lanes.lane(0).getQueue().size() == 2);
+
+        // Execution & Verifications
+        assertDoesNotThrow(() -> publisher.ensureCapacity("shed", 2));
+        assertThrows(EventPublisherOverloadedException.class, () -> publisher.ensureCapacity("shed", 3));
+        assertThrows(EventPublisherOverloadedException.class, () -> publisher.ensureCapacity("shed", 40));
+    }
+
+    @Test
+    void testEnsureCapacity_shouldAdmitMoreEventsThanALaneHoldsOnceItIsEmpty() {
+        // Configuring test
+        publisher = new InMemoryEventPublisher(new LaneExecutor("event-lane", 1, 4, false, 0),
+                OverloadPolicy.SHED, 5_000, 2, 10);
+
+        // Execution & Verifications
+        assertDoesNotThrow(() -> publisher.ensureCapacity("shed", 40));
+    }
+
+    @Test
+    void testEnsureCapacity_shouldShedWhenStillSaturatedAfterBlockTimeout() {
+        // Configuring test
+        publisher = saturatedPublisher(OverloadPolicy.BLOCK, 50, 10);
+
+        // Execution & Verifications
+        assertThrows(EventPublisherOverloadedException.class, () -> publisher.ensureCapacity("blocked"));
+    }
+
+    @Test
+    void testEnsureCapacity_shouldAcceptOnceRoomFreesUpWithinBlockTimeout() {
+        // Configuring test
+        publisher = saturatedPublisher(OverloadPolicy.BLOCK, 5_000, 10);
+        new Thread(() -> {
+            sleep(100);
+            release.countDown();
+        }).start();
+
+        // Execution & Verifications
+        assertDoesNotThrow(() -> publisher.ensureCapacity("blocked"));
+    }
+
+    @Test
+    void testPublish_shouldSpillToOverflowAndDrainLater() {
+        // Configuring test
+        publisher = saturatedPublisher(OverloadPolicy.SPILL);
+
+        // Execution
+        publisher.ensureCapacity("spilled");
+        publisher.publish(new UserFollowedEvent("spilled", "followed"));
+        assertTrue(handledOn.isEmpty());
+        release.countDown();
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handledOn.size() == 3);
+        assertFalse(handledOn.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    void testPublish_shouldKeepLaneOrderWhenSpilling() {
+        // Configuring test
+        publisher = saturatedPublisher(OverloadPolicy.SPILL);
+
+        // Execution
+        publisher.publish(new UserFollowedEvent("first", "followed"));
+        publisher.publish(new UserFollowedEvent("second", "followed"));
+        release.countDown();
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.size() == 4);
+        assertEquals(List.of("blocking", "queued", "first", "second"), handled);
+    }
+
+    @Test
+    void testPublish_shouldWaitForRoomInAFullOverflowAndKeepLaneOrder() {
+        // Configuring test
+        publisher = saturatedPublisher(OverloadPolicy.SPILL, 5_000, 1);
+
+        // Execution
+        Thread caller = publishInBackground("first", "second", "third");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> caller.getState() == Thread.State.WAITING);
+        assertTrue(handled.isEmpty());
+        release.countDown();
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.size() == 5);
+        assertEquals(List.of("blocking", "queued", "first", "second", "third"), handled);
+        assertFalse(handledOn.contains(caller.getName()));
+    }
+
+    @Test
+    void testPublish_shouldWaitForRoomWhenBlocking() {
+        // Configuring test
+        publisher = saturatedPublisher(OverloadPolicy.BLOCK);
+
+        // Execution
+        new Thread(() -> {
+            sleep(100);
+            release.countDown();
+        }).start();
+        publisher.publish(new UserFollowedEvent("blocked", "followed"));
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handledOn.size() == 3);
+        assertFalse(handledOn.contains(Thread.currentThread().getName()));
+    }
+
+    /**
+     * Publishes events of a user one after the other from another thread, which may wait for room.
+     */
+    private Thread publishInBackground(String... followerIds) {
+        Thread caller = new Thread(() -> {
+            for (String followerId : followerIds) {
+                publisher.publish(new UserFollowedEvent(followerId, "followed"));
+            }
+        }, "publisher");
+        caller.start();
+        return caller;
+    }
+
+    private InMemoryEventPublisher saturatedPublisher(OverloadPolicy policy) {
+        return saturatedPublisher(policy, 5_000, 10);
+    }
+
+    /**
+     * Builds a publisher over a single lane whose worker is blocked and whose queue is full.
+     */
+    private InMemoryEventPublisher saturatedPublisher(OverloadPolicy policy, long blockTimeoutMs, int overflowCapacity) {
+        LaneExecutor lanes = new LaneExecutor("event-lane", 1, 1, false, 0);
+        ThreadPoolExecutor executor = lanes.lane(0);
+        InMemoryEventPublisher saturated =
+                new InMemoryEventPublisher(lanes, policy, blockTimeoutMs, 2, overflowCapacity);
+        EventHandler<UserFollowedEvent> handler = event -> {
+            if (event.followerId().equals("blocking")) {
+                awaitQuietly(release);
+            }
+            handledOn.add(Thread.currentThread().getName());
+            handled.add(event.followerId());
+        };
+        saturated.addListener(EventType.USER_FOLLOWED, handler);
+        saturated.publish(new UserFollowedEvent("blocking", "followed"));
+        saturated.publish(new UserFollowedEvent("queued", "followed"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 1 && executor.getQueue().size() == 1);
+        return saturated;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.minix.infrastructure.out.messaging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LaneExecutor.
+ */
+class LaneExecutorTest {
+
+    private final LaneExecutor lanes = new LaneExecutor("event-lane", 4, 1_000, false, 0);
+
+    @AfterEach
+    void tearDown() {
+        lanes.shutdown();
+    }
+
+    @Test
+    void testExecute_shouldRunTasksOfAKeyInOrderOnOneThread() {
+        // Configuring test
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        // Execution
+        IntStream.range(0, 100).forEach(i -> lanes.execute("user1", () -> {
+            executed.add(i);
+            threads.add(Thread.currentThread().getName());
+        }));
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executed.size() == 100);
+        assertEquals(IntStream.range(0, 100).boxed().toList(), executed);
+        assertEquals(1, threads.stream().distinct().count());
+        assertEquals("event-lane-" + lanes.partitionOf("user1"), threads.get(0));
+    }
+
+    @Test
+    void testExecute_shouldRunInlineWhenAlreadyOnTheLane() {
+        // Configuring test
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        // Execution
+        lanes.execute("user1", () -> {
+            threads.add(Thread.currentThread().getName());
+            lanes.execute("user1", () -> threads.add(Thread.currentThread().getName()));
+            threads.add("after");
+        });
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> threads.size() == 3);
+        assertEquals(threads.get(0), threads.get(1));
+        assertEquals("after", threads.get(2));
+    }
+
+    @Test
+    void testExecute_shouldQueueTasksFromTheSameLaneOfAnotherGroup() {
+        // Configuring test
+        LaneExecutor fanOutLanes = new LaneExecutor("fan-out-lane", 4, 1_000, false, 0);
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        // Execution
+        lanes.execute("user1", () -> fanOutLanes.execute("user1", () -> threads.add(Thread.currentThread().getName())));
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> threads.size() == 1);
+        assertEquals("fan-out-lane-" + fanOutLanes.partitionOf("user1"), threads.get(0));
+        fanOutLanes.shutdown();
+    }
+
+    @Test
+    void testExecute_shouldWaitForRoomAndKeepOrderWhenSaturated() {
+        // Configuring test
+        LaneExecutor saturated = new LaneExecutor("fan-out-lane", 1, 1, false, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        saturated.execute("user1", () -> {
+            awaitQuietly(release);
+            executed.add(0);
+        });
+        saturated.execute("user1", () -> executed.add(1));
+
+        // Execution
+        Thread caller = new Thread(() -> IntStream.range(2, 5).forEach(i -> saturated.execute("user1", () -> {
+            executed.add(i);
+            threads.add(Thread.currentThread().getName());
+        })), "caller");
+        try {
+            caller.start();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> caller.getState() == Thread.State.WAITING);
+            assertEquals(List.of(), executed);
+            release.countDown();
+
+            // Verifications
+            await().atMost(5, TimeUnit.SECONDS).until(() -> executed.size() == 5);
+            assertEquals(List.of(0, 1, 2, 3, 4), executed);
+            assertEquals(List.of("fan-out-lane-0"), threads.stream().distinct().toList());
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+        }
+    }
+
+    @Test
+    void testPartitionOf_shouldStayWithinLanes() {
+        IntStream.range(0, 1_000).forEach(i -> {
+            int partition = lanes.partitionOf("user" + i);
+            assertTrue(partition >= 0 && partition < lanes.partitions());
+        });
+    }
+
+    @Test
+    void testExecute_shouldBoundTasksRunningAtOnce() {
+        // Configuring test
+        LaneExecutor limited = new LaneExecutor("event-lane", 4, 1_000, true, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+
+        // Execution
+        try {
+            IntStream.range(0, 40).forEach(i -> limited.execute("user" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(2));
+                running.decrementAndGet();
+                completed.incrementAndGet();
+            }));
+
+            // Verifications
+            await().atMost(5, TimeUnit.SECONDS).until(() -> completed.get() == 40);
+            assertTrue(maxRunning.get() <= 2);
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
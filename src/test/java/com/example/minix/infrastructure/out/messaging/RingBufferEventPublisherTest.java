@@ -0,0 +1,134 @@
+package com.example.minix.infrastructure.out.messaging;
+
+import com.example.minix.domain.event.EventType;
+import com.example.minix.domain.event.TweetCreatedEvent;
+import com.example.minix.domain.event.UserFollowedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RingBufferEventPublisher.
+ */
+class RingBufferEventPublisherTest {
+
+    private RingBufferEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    void testPublish_shouldDeliverEventsToHandlersOfTheirType() {
+        // Configuring test
+        publisher = new RingBufferEventPublisher(8);
+        List<Long> tweets = new CopyOnWriteArrayList<>();
+        List<String> follows = new CopyOnWriteArrayList<>();
+        publisher.addListener(EventType.TWEET_CREATED, (TweetCreatedEvent event) -> tweets.add(event.tweetId()));
+        publisher.addListener(EventType.USER_FOLLOWED, (UserFollowedEvent event) -> follows.add(event.followerId()));
+
+        // Execution
+        publisher.publish(new TweetCreatedEvent(1L, "author", "content", Instant.now()));
+        publisher.publish(new UserFollowedEvent("follower", "author"));
+        publisher.publish(new TweetCreatedEvent(2L, "author", "content", Instant.now()));
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> tweets.size() == 2 && follows.size() == 1);
+        assertEquals(List.of(1L, 2L), tweets);
+        assertEquals(List.of("follower"), follows);
+    }
+
+    @Test
+    void testPublish_shouldKeepOrderPerProducerWhenWrappingAround() throws InterruptedException {
+        // Configuring test
+        publisher = new RingBufferEventPublisher(8);
+        List<String> handled = new CopyOnWriteArrayList<>();
+        publisher.addListener(EventType.USER_FOLLOWED, (UserFollowedEvent event) -> handled.add(event.followerId() + ":" + event.followedId()));
+        int producers = 4;
+        int eventsPerProducer = 1_000;
+
+        // Execution
+        List<Thread> threads = new ArrayList<>();
+        for (int producer = 0; producer < producers; producer++) {
+            String producerId = "producer" + producer;
+            Thread thread = new Thread(() -> IntStream.range(0, eventsPerProducer)
+                    .forEach(i -> publisher.publish(new UserFollowedEvent(producerId, Integer.toString(i)))));
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Verifications
+        await().atMost(10, TimeUnit.SECONDS).until(() -> handled.size() == producers * eventsPerProducer);
+        for (int producer = 0; producer < producers; producer++) {
+            String prefix = "producer" + producer + ":";
+            List<Integer> sequence = handled.stream()
+                    .filter(entry -> entry.startsWith(prefix))
+                    .map(entry -> Integer.parseInt(entry.substring(prefix.length())))
+                    .toList();
+            assertEquals(IntStream.range(0, eventsPerProducer).boxed().toList(), sequence);
+        }
+    }
+
+    @Test
+    void testPublish_shouldKeepConsumingAfterHandlerError() {
+        // Configuring test
+        publisher = new RingBufferEventPublisher(4);
+        List<String> handled = new CopyOnWriteArrayList<>();
+        publisher.addListener(EventType.USER_FOLLOWED, (UserFollowedEvent event) -> {
+            if (event.followerId().equals("failing")) {
+                throw new AssertionError("handler failure");
+            }
+            handled.add(event.followerId());
+        });
+
+        // Execution
+        publisher.publish(new UserFollowedEvent("failing", "author"));
+        IntStream.range(0, 8).forEach(i -> publisher.publish(new UserFollowedEvent("follower" + i, "author")));
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.size() == 8);
+        assertEquals("follower0", handled.get(0));
+    }
+
+    @Test
+    void testPublish_shouldWakeConsumerBlockedWhileIdle() {
+        // Configuring test
+        publisher = new RingBufferEventPublisher(8);
+        List<String> handled = new CopyOnWriteArrayList<>();
+        Set<Thread> existing = Thread.getAllStackTraces().keySet();
+        publisher.addListener(EventType.USER_FOLLOWED, (UserFollowedEvent event) -> handled.add(event.followerId()));
+        Thread consumer = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> !existing.contains(thread) && thread.getName().startsWith("ring-buffer-"))
+                .findFirst()
+                .orElseThrow();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> consumer.getState() == Thread.State.WAITING);
+
+        // Execution
+        publisher.publish(new UserFollowedEvent("follower", "author"));
+
+        // Verifications
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.size() == 1);
+    }
+
+    @Test
+    void testConstructor_shouldThrowExceptionWhenSizeIsNotAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferEventPublisher(6));
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferEventPublisher(0));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.minix.infrastructure.out.persistence.cache;
+
+import com.example.minix.application.port.out.TweetRepository;
+import com.example.minix.domain.model.Tweet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingTweetRepository.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingTweetRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Mock
+    private TweetRepository delegate;
+
+    private CachingTweetRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingTweetRepository(delegate, 1024 * 1024);
+    }
+
+    @Test
+    void testFindById_shouldLoadOnceThenServeFromCache() {
+        // Configuring test
+        Tweet tweet = new Tweet(1L, "alice", "Hello", NOW);
+        when(delegate.findById(1L)).thenReturn(Optional.of(tweet));
+
+        // Execution
+        Optional<Tweet> first = repository.findById(1L);
+        Optional<Tweet> second = repository.findById(1L);
+
+        // Verifications
+        assertEquals(Optional.of(tweet), first);
+        assertEquals(Optional.of(tweet), second);
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(1, repository.stats().hitCount());
+        assertEquals(1, repository.stats().missCount());
+    }
+
+    @Test
+    void testFindById_shouldNotCacheUnknownTweet() {
+        // Configuring test
+        when(delegate.findById(1L)).thenReturn(Optional.empty());
+
+        // Execution
+        repository.findById(1L);
+        Optional<Tweet> result = repository.findById(1L);
+
+        // Verifications
+        assertTrue(result.isEmpty());
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void testSave_shouldWriteThrough() {
+        // Configuring test
+        Tweet tweet = new Tweet(1L, "alice", "Hello", NOW);
+        when(delegate.save(tweet)).thenReturn(tweet);
+
+        // Execution
+        repository.save(tweet);
+        Optional<Tweet> result = repository.findById(1L);
+
+        // Verifications
+        assertEquals(Optional.of(tweet), result);
+        verify(delegate, never()).findById(anyLong());
+    }
+
+    @Test
+    void testFindAllById_shouldLoadMissingTweetsWithOneMultiGetInRequestedOrder() {
+        // Configuring test
+        Tweet cached = new Tweet(1L, "alice", "Cached", NOW);
+        Tweet second = new Tweet(2L, "bob", "Second", NOW);
+        Tweet third = new Tweet(3L, "carol", "Third", NOW);
+        when(delegate.save(cached)).thenReturn(cached);
+        repository.save(cached);
+        when(delegate.findAllById(anyCollection())).thenReturn(List.of(third, second));
+
+        // Execution
+        List<Tweet> result = repository.findAllById(List.of(3L, 1L, 4L, 2L));
+
+        // Verifications
+        assertEquals(List.of(third, cached, second), result);
+        verify(delegate).findAllById(argThat(ids -> Set.copyOf(ids).equals(Set.of(2L, 3L, 4L))));
+    }
+
+    @Test
+    void testSave_shouldEvictBeyondMaximumSize() {
+        // Configuring test
+        repository = new CachingTweetRepository(delegate, 10 * 1024);
+        when(delegate.save(any(Tweet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Execution
+        for (long id = 1; id <= 1000; id++) {
+            repository.save(new Tweet(id, "alice", "Tweet " + id, NOW));
+        }
+        repository.cleanUp();
+
+        // Verifications
+        assertTrue(repository.cachedBytes() <= 10 * 1024);
+        assertTrue(repository.stats().evictionCount() > 0);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import com.example.minix.domain.model.TimelineCursor;
+import com.example.minix.domain.model.TimelineQuery;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AuthorTweetIndex.
+ */
+class AuthorTweetIndexTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final AuthorTweetIndex index = new AuthorTweetIndex();
+
+    @Test
+    void testLatest_shouldOrderTweetsCreatedAtTheSameInstantById() {
+        // Configuring test
+        StoredTweet first = tweet(1L, 0);
+        StoredTweet second = tweet(2L, 0);
+        StoredTweet third = tweet(3L, 0);
+
+        // Execution
+        index.add(second);
+        index.add(third);
+        index.add(first);
+
+        // Verifications
+        assertEquals(List.of(third, second, first), index.latest(10));
+        assertEquals(List.of(third, second), index.latest(2));
+    }
+
+    @Test
+    void testLatest_shouldInsertTweetsSavedOutOfOrder() {
+        // Configuring test
+        StoredTweet oldest = tweet(3L, 0);
+        StoredTweet middle = tweet(1L, 10);
+        StoredTweet newest = tweet(2L, 20);
+
+        // Execution
+        index.add(newest);
+        index.add(oldest);
+        index.add(middle);
+
+        // Verifications
+        assertEquals(List.of(newest, middle, oldest), index.latest(10));
+    }
+
+    @Test
+    void testPage_shouldExcludeTweetsAtTheCursors() {
+        // Configuring test
+        StoredTweet first = tweet(1L, 0);
+        StoredTweet second = tweet(2L, 10);
+        StoredTweet third = tweet(3L, 10);
+        StoredTweet fourth = tweet(4L, 20);
+        List.of(first, second, third, fourth).forEach(index::add);
+        TimelineCursor before = new TimelineCursor(third.createdAt(), third.id());
+        TimelineCursor since = new TimelineCursor(first.createdAt(), first.id());
+
+        // Execution
+        List<StoredTweet> between = index.page(new TimelineQuery(before, since, 10));
+        List<StoredTweet> older = index.page(new TimelineQuery(before, null, 10));
+        List<StoredTweet> newer = index.page(new TimelineQuery(null, since, 2));
+
+        // Verifications
+        assertEquals(List.of(second), between);
+        assertEquals(List.of(second, first), older);
+        assertEquals(List.of(fourth, third), newer);
+    }
+
+    @Test
+    void testPage_shouldReturnNothingWhenCursorsAreInverted() {
+        // Configuring test
+        StoredTweet first = tweet(1L, 0);
+        StoredTweet second = tweet(2L, 10);
+        index.add(first);
+        index.add(second);
+
+        // Execution
+        List<StoredTweet> page = index.page(new TimelineQuery(new TimelineCursor(first.createdAt(), first.id()),
+                new TimelineCursor(second.createdAt(), second.id()), 10));
+
+        // Verifications
+        assertTrue(page.isEmpty());
+    }
+
+    @Test
+    void testRemove_shouldDropOnlyTheGivenTweet() {
+        // Configuring test
+        StoredTweet first = tweet(1L, 0);
+        StoredTweet second = tweet(2L, 0);
+        index.add(first);
+        index.add(second);
+
+        // Execution
+        index.remove(first);
+        index.remove(tweet(3L, 0));
+
+        // Verifications
+        assertEquals(1, index.size());
+        assertEquals(List.of(second), index.latest(10));
+    }
+
+    private static StoredTweet tweet(long id, long secondsAfterStart) {
+        return new StoredTweet(id, "alice", T0.plusSeconds(secondsAfterStart), id);
+    }
+}
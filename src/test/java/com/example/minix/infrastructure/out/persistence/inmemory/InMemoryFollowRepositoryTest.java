@@ -0,0 +1,52 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import com.example.minix.domain.model.Follow;
+import com.example.minix.infrastructure.out.persistence.wal.WriteAheadLog;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryFollowRepository.
+ */
+class InMemoryFollowRepositoryTest {
+
+    private final InMemoryFollowRepository repository = new InMemoryFollowRepository(new UserIdDictionary(),
+            new WriteAheadLog(false, "target/wal-unused", 1024, 0), 3);
+
+    @Test
+    void testFindMutualFollowIds_shouldIntersectFollowingAndFollowers() {
+        // Configuring test
+        repository.save(new Follow("alice", "bob"));
+        repository.save(new Follow("bob", "alice"));
+        repository.save(new Follow("alice", "carol"));
+        repository.save(new Follow("dave", "alice"));
+
+        // Execution
+        List<String> mutuals = repository.findMutualFollowIds("alice");
+
+        // Verifications
+        assertEquals(List.of("bob"), mutuals);
+        assertEquals(List.of("alice"), repository.findMutualFollowIds("bob"));
+        assertEquals(List.of(), repository.findMutualFollowIds("carol"));
+        assertEquals(List.of(), repository.findMutualFollowIds("stranger"));
+    }
+
+    @Test
+    void testFindMutualFollowIds_shouldIntersectUsersStoredAsBitmaps() {
+        // Configuring test
+        List<String> users = IntStream.range(0, 10).mapToObj(i -> "user" + i).toList();
+        users.forEach(user -> repository.save(new Follow("alice", user)));
+        List<String> followingBack = IntStream.range(0, 10).filter(i -> i % 2 == 0).mapToObj(users::get).toList();
+        followingBack.forEach(user -> repository.save(new Follow(user, "alice")));
+
+        // Execution
+        List<String> mutuals = repository.findMutualFollowIds("alice");
+
+        // Verifications
+        assertEquals(followingBack, mutuals);
+    }
+}
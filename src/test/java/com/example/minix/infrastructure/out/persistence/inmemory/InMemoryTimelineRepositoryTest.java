@@ -0,0 +1,122 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import com.example.minix.domain.model.TimelineEntry;
+import com.example.minix.domain.model.TimelineQuery;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryTimelineRepository.
+ */
+class InMemoryTimelineRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+    private static final int RETENTION_LENGTH = 10;
+    private static final int SHARD_COUNT = 4;
+
+    private final UserIdDictionary userIds = new UserIdDictionary();
+    private final InMemoryTimelineRepository repository =
+            new InMemoryTimelineRepository(userIds, RETENTION_LENGTH, SHARD_COUNT);
+
+    @Test
+    void testAddToTimelines_shouldReachUsersSpreadOverSeveralShards() {
+        // Configuring test
+        List<String> users = users(12);
+        Collections.shuffle(users, new Random(42));
+
+        // Execution
+        repository.addToTimelines(users, entry(1));
+
+        // Verifications
+        assertEquals(SHARD_COUNT, users.stream().map(userIds::find).map(id -> id % SHARD_COUNT).distinct().count());
+        users.forEach(user -> assertEquals(List.of(entry(1)), latest(user)));
+        assertEquals(List.of(), latest("stranger"));
+    }
+
+    @Test
+    void testAddToTimelines_shouldAddOnceForDuplicateUsers() {
+        // Execution
+        repository.addToTimelines(List.of("alice", "bob", "alice", "alice"), entry(1));
+
+        // Verifications
+        assertEquals(List.of(entry(1)), latest("alice"));
+        assertEquals(List.of(entry(1)), latest("bob"));
+        assertEquals(1, repository.getTimelineVersion("alice"));
+    }
+
+    @Test
+    void testAddAllToTimelines_shouldGrowShardsPastTheirInitialCapacity() {
+        // Configuring test
+        List<String> early = users(8);
+        repository.addToTimelines(early, entry(1));
+        // each shard starts with 16 slots, 200 users take 50 per shard
+        List<String> users = users(200);
+
+        // Execution
+        repository.addAllToTimelines(users, List.of(entry(3), entry(2)));
+
+        // Verifications
+        early.forEach(user -> assertEquals(List.of(entry(3), entry(2), entry(1)), latest(user)));
+        users.subList(early.size(), users.size())
+                .forEach(user -> assertEquals(List.of(entry(3), entry(2)), latest(user)));
+    }
+
+    @Test
+    void testAddAllToTimeline_shouldBackfillManyItemsKeepingTheNewest() {
+        // Configuring test
+        List<TimelineEntry> entries = new ArrayList<>(IntStream.rangeClosed(1, 25)
+                .mapToObj(InMemoryTimelineRepositoryTest::entry)
+                .toList());
+        Collections.shuffle(entries, new Random(42));
+
+        // Execution
+        repository.addAllToTimeline("alice", entries);
+
+        // Verifications
+        List<TimelineEntry> newest = IntStream.iterate(25, i -> i > 25 - RETENTION_LENGTH, i -> i - 1)
+                .mapToObj(InMemoryTimelineRepositoryTest::entry)
+                .toList();
+        assertEquals(newest, repository.getTimeline("alice", TimelineQuery.latest(50)));
+        assertEquals(1, repository.getTimelineVersion("alice"));
+    }
+
+    @Test
+    void testGetTimelineVersion_shouldBumpOnlyWhenEntriesChange() {
+        // Execution & Verifications
+        assertEquals(0, repository.getTimelineVersion("alice"));
+
+        repository.addToTimeline("alice", entry(1));
+        assertEquals(1, repository.getTimelineVersion("alice"));
+
+        repository.addToTimeline("alice", entry(1));
+        assertEquals(1, repository.getTimelineVersion("alice"));
+
+        repository.addAllToTimeline("alice", List.of(entry(2), entry(3)));
+        assertEquals(2, repository.getTimelineVersion("alice"));
+
+        repository.addToTimelines(List.of("alice", "bob"), entry(4));
+        repository.addAllToTimelines(List.of("alice", "bob"), List.of(entry(4), entry(5)));
+        assertEquals(4, repository.getTimelineVersion("alice"));
+        assertEquals(2, repository.getTimelineVersion("bob"));
+    }
+
+    private List<TimelineEntry> latest(String userId) {
+        return repository.getTimeline(userId, TimelineQuery.latest(50));
+    }
+
+    private static List<String> users(int count) {
+        return new ArrayList<>(IntStream.range(0, count).mapToObj(i -> "user" + i).toList());
+    }
+
+    private static TimelineEntry entry(long tweetId) {
+        return new TimelineEntry(tweetId, T0.plusSeconds(tweetId));
+    }
+}
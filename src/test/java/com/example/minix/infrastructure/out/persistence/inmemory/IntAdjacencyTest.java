@@ -0,0 +1,196 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IntAdjacency.
+ */
+class IntAdjacencyTest {
+
+    private final IntAdjacency adjacency = new IntAdjacency(50);
+
+    @Test
+    void testAdd_shouldIgnoreDuplicateEdges() {
+        assertTrue(adjacency.add(1, 2));
+        assertFalse(adjacency.add(1, 2));
+
+        assertEquals(1, adjacency.degree(1));
+        assertTrue(adjacency.contains(1, 2));
+        assertFalse(adjacency.contains(2, 1));
+    }
+
+    @Test
+    void testTargetsOf_shouldReturnSortedTargets() {
+        adjacency.add(3, 9);
+        adjacency.add(3, 1);
+        adjacency.add(3, 5);
+
+        assertArrayEquals(new int[] {1, 5, 9}, adjacency.targetsOf(3));
+        assertArrayEquals(new int[0], adjacency.targetsOf(42));
+        assertEquals(0, adjacency.degree(42));
+    }
+
+    @Test
+    void testAdd_shouldKeepEdgesAcrossCompactions() {
+        // Configuring test
+        Random random = new Random(42);
+        Map<Integer, TreeSet<Integer>> expected = new HashMap<>();
+
+        // Execution
+        for (int i = 0; i < 20_000; i++) {
+            int source = random.nextInt(500);
+            int target = random.nextInt(5_000);
+            boolean added = adjacency.add(source, target);
+            assertEquals(expected.computeIfAbsent(source, k -> new TreeSet<>()).add(target), added);
+        }
+
+        // Verifications
+        expected.forEach((source, targets) -> {
+            assertArrayEquals(targets.stream().mapToInt(Integer::intValue).toArray(), adjacency.targetsOf(source));
+            assertEquals(targets.size(), adjacency.degree(source));
+            assertArrayEquals(targets.stream().mapToInt(Integer::intValue).toArray(),
+                    adjacency.streamTargets(source).sorted().toArray());
+            targets.forEach(target -> assertTrue(adjacency.contains(source, target)));
+        });
+    }
+
+    @Test
+    void testAdd_shouldSwitchLargeSourcesToBitmaps() {
+        // Configuring test
+        IntAdjacency small = new IntAdjacency(3);
+
+        // Execution
+        for (int target = 10; target > 0; target--) {
+            small.add(1, target);
+        }
+        small.add(2, 5);
+
+        // Verifications
+        assertFalse(small.add(1, 4));
+        assertEquals(10, small.degree(1));
+        assertTrue(small.contains(1, 7));
+        assertFalse(small.contains(1, 11));
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, small.targetsOf(1));
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, small.streamTargets(1).toArray());
+        assertArrayEquals(new int[] {5}, small.targetsOf(2));
+    }
+
+    @Test
+    void testBitmapOf_shouldSupportIntersectionsAndUnions() {
+        // Configuring test
+        IntAdjacency small = new IntAdjacency(3);
+        IntStream.rangeClosed(1, 10).forEach(target -> small.add(1, target));
+        IntStream.of(2, 4, 20).forEach(target -> small.add(2, target));
+
+        // Execution
+        int[] intersection = RoaringBitmap.and(small.bitmapOf(1), small.bitmapOf(2)).toArray();
+        int[] union = RoaringBitmap.or(small.bitmapOf(2), small.bitmapOf(3)).toArray();
+        RoaringBitmap modified = small.bitmapOf(1);
+        modified.add(99);
+
+        // Verifications
+        assertArrayEquals(new int[] {2, 4}, intersection);
+        assertArrayEquals(new int[] {2, 4, 20}, union);
+        assertFalse(small.contains(1, 99));
+    }
+
+    @Test
+    void testAdd_shouldServeReadsAndWritesWhileCompactionIsInFlight() {
+        // Configuring test
+        List<Runnable> compactions = new ArrayList<>();
+        IntAdjacency deferred = new IntAdjacency(5_000, compactions::add);
+        int source = 0;
+        while (compactions.isEmpty()) {
+            deferred.add(source % 100, source);
+            source++;
+        }
+        int frozenEdges = source;
+
+        // Execution
+        assertFalse(deferred.add(7, 7));
+        assertTrue(deferred.add(7, -1));
+        for (int i = 0; i < 2_000; i++) {
+            deferred.add(1_000 + i % 100, i);
+        }
+
+        // Verifications
+        assertEquals(1, compactions.size());
+        assertReadable(deferred, frozenEdges);
+        compactions.get(0).run();
+        assertReadable(deferred, frozenEdges);
+        assertArrayEquals(IntStream.concat(IntStream.of(-1), IntStream.iterate(7, i -> i < frozenEdges, i -> i + 100))
+                .toArray(), deferred.targetsOf(7));
+        deferred.add(2_000, 0);
+        assertEquals(2, compactions.size());
+    }
+
+    @Test
+    void testAdd_shouldKeepEdgesVisibleToConcurrentReadersAcrossCompactions() throws Exception {
+        // Configuring test
+        ExecutorService compactor = Executors.newSingleThreadExecutor();
+        IntAdjacency concurrent = new IntAdjacency(5_000, compactor);
+        AtomicInteger added = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        Thread reader = new Thread(() -> {
+            Random random = new Random(7);
+            while (!done.get()) {
+                int edges = added.get();
+                if (edges > 0) {
+                    int edge = random.nextInt(edges);
+                    if (!concurrent.contains(edge % 200, edge)) {
+                        failures.add(new AssertionError("Edge " + edge + " not visible"));
+                    }
+                }
+            }
+        });
+
+        // Execution
+        try {
+            reader.start();
+            for (int edge = 0; edge < 50_000; edge++) {
+                concurrent.add(edge % 200, edge);
+                added.set(edge + 1);
+            }
+            done.set(true);
+            reader.join();
+        } finally {
+            compactor.shutdown();
+            compactor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+
+        // Verifications
+        assertEquals(List.of(), failures);
+        IntStream.range(0, 200).forEach(source ->
+                assertArrayEquals(IntStream.iterate(source, i -> i < 50_000, i -> i + 200).toArray(),
+                        concurrent.targetsOf(source)));
+    }
+
+    private static void assertReadable(IntAdjacency adjacency, int edges) {
+        for (int edge = 0; edge < edges; edge++) {
+            assertTrue(adjacency.contains(edge % 100, edge));
+        }
+        for (int source = 0; source < 100; source++) {
+            int[] targets = adjacency.targetsOf(source);
+            assertArrayEquals(targets, adjacency.streamTargets(source).sorted().toArray());
+            assertEquals(targets.length, adjacency.degree(source));
+        }
+    }
+}
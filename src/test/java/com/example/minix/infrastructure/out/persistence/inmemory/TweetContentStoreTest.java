@@ -0,0 +1,90 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TweetContentStore.
+ */
+class TweetContentStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private TweetContentStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new TweetContentStore(directory.toString(), 4096);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void testGet_shouldDecodeStoredContent() {
+        // Execution
+        long ascii = store.put("Hello");
+        long multibyte = store.put("Olé ☕ 🐦");
+
+        // Verifications
+        assertEquals("Hello", store.get(ascii));
+        assertEquals("Olé ☕ 🐦", store.get(multibyte));
+        assertEquals(5, TweetContentStore.lengthOf(ascii));
+    }
+
+    @Test
+    void testPut_shouldMapNewSegmentWhenFull() throws IOException {
+        // Configuring test
+        String content = "x".repeat(280);
+
+        // Execution
+        List<Long> handles = IntStream.range(0, 40).mapToObj(i -> store.put(content + i)).toList();
+
+        // Verifications
+        for (int i = 0; i < handles.size(); i++) {
+            assertEquals(content + i, store.get(handles.get(i)));
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.count() > 1);
+        }
+    }
+
+    @Test
+    void testPut_shouldHandleConcurrentWriters() {
+        // Execution
+        List<Long> handles = IntStream.range(0, 2000).parallel().mapToObj(i -> store.put("tweet " + i)).toList();
+
+        // Verifications
+        for (int i = 0; i < handles.size(); i++) {
+            assertEquals("tweet " + i, store.get(handles.get(i)));
+        }
+    }
+
+    @Test
+    void testShutdown_shouldDeleteSegments() throws IOException {
+        // Configuring test
+        store.put("Hello");
+
+        // Execution
+        store.shutdown();
+
+        // Verifications
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.minix.infrastructure.out.persistence.inmemory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UserIdDictionary.
+ */
+class UserIdDictionaryTest {
+
+    private final UserIdDictionary dictionary = new UserIdDictionary();
+
+    @Test
+    void testIntern_shouldAssignDenseIdsOncePerUser() {
+        // Execution
+        int alice = dictionary.intern("alice");
+        int bob = dictionary.intern("bob");
+
+        // Verifications
+        assertEquals(0, alice);
+        assertEquals(1, bob);
+        assertEquals(alice, dictionary.intern(new String("alice")));
+        assertEquals("bob", dictionary.userIdOf(bob));
+    }
+
+    @Test
+    void testFind_shouldNotAssignIds() {
+        assertEquals(UserIdDictionary.UNKNOWN, dictionary.find("alice"));
+        assertEquals(0, dictionary.intern("bob"));
+    }
+
+    @Test
+    void testCanonical_shouldReturnSharedInstance() {
+        // Configuring test
+        String first = dictionary.canonical(new String("alice"));
+
+        // Execution
+        String second = dictionary.canonical(new String("alice"));
+
+        // Verifications
+        assertSame(first, second);
+    }
+
+    @Test
+    void testIntern_shouldAssignUniqueIdsConcurrently() {
+        // Configuring test
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+
+        // Execution
+        IntStream.range(0, 10_000).parallel().forEach(i -> ids.add(dictionary.intern("user" + i)));
+
+        // Verifications
+        assertEquals(10_000, ids.size());
+        IntStream.range(0, 10_000).forEach(i -> assertEquals("user" + i, dictionary.userIdOf(dictionary.find("user" + i))));
+    }
+}
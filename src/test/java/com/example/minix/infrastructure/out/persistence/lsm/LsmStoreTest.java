@@ -0,0 +1,195 @@
+package com.example.minix.infrastructure.out.persistence.lsm;
+
+import com.example.minix.domain.model.Follow;
+import com.example.minix.infrastructure.out.persistence.wal.WalRecord;
+import com.example.minix.infrastructure.out.persistence.wal.WriteAheadLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LsmStore.
+ */
+class LsmStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private WriteAheadLog commitLog;
+    private LsmStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        commitLog = new WriteAheadLog(true, directory.resolve("log").toString(), 1024 * 1024, 0);
+        commitLog.replay(0, (sequence, record) -> { });
+        commitLog.start();
+        store = new LsmStore(directory.resolve("tables"), 1024 * 1024, 3, commitLog);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+        commitLog.shutdown();
+    }
+
+    @Test
+    void testGet_shouldReadFromMemtableAndTables() {
+        // Configuring test
+        store.put(bytes("a"), bytes("1"));
+        store.flush();
+        store.put(bytes("b"), bytes("2"));
+
+        // Execution & Verifications
+        assertEquals(1, store.tableCount());
+        assertEquals("1", string(store.get(bytes("a"))));
+        assertEquals("2", string(store.get(bytes("b"))));
+        assertNull(store.get(bytes("c")));
+    }
+
+    @Test
+    void testGet_shouldReturnNewestValueAndHonorTombstones() {
+        // Configuring test
+        store.put(bytes("a"), bytes("old"));
+        store.put(bytes("b"), bytes("deleted"));
+        store.flush();
+        store.put(bytes("a"), bytes("new"));
+        store.delete(bytes("b"));
+        store.flush();
+
+        // Execution & Verifications
+        assertEquals("new", string(store.get(bytes("a"))));
+        assertNull(store.get(bytes("b")));
+    }
+
+    @Test
+    void testScan_shouldMergeSourcesInKeyOrderWithinPrefix() {
+        // Configuring test
+        store.put(bytes("p1"), bytes("old"));
+        store.put(bytes("p3"), bytes("3"));
+        store.put(bytes("q1"), bytes("other prefix"));
+        store.flush();
+        store.put(bytes("p1"), bytes("new"));
+        store.put(bytes("p2"), bytes("2"));
+        store.delete(bytes("p3"));
+
+        // Execution
+        List<String> scanned = scan(store.scan(bytes("p"), bytes("p")));
+        List<String> fromKey = scan(store.scan(bytes("p"), bytes("p2")));
+
+        // Verifications
+        assertEquals(List.of("p1=new", "p2=2"), scanned);
+        assertEquals(List.of("p2=2"), fromKey);
+    }
+
+    @Test
+    void testFlush_shouldCompactOnceThresholdIsReached() {
+        // Execution
+        for (int table = 0; table < 3; table++) {
+            for (int i = 0; i < 100; i++) {
+                store.put(bytes(String.format("key-%03d", i)), bytes("v" + table));
+            }
+            store.flush();
+        }
+
+        // Verifications
+        assertEquals(1, store.tableCount());
+        assertEquals("v2", string(store.get(bytes("key-050"))));
+        assertEquals(100, scan(store.scan(bytes("key"), bytes("key"))).size());
+    }
+
+    @Test
+    void testOpen_shouldLoadExistingTables() throws IOException {
+        // Configuring test
+        store.put(bytes("a"), bytes("1"));
+        store.flush();
+        store.shutdown();
+
+        // Execution
+        store = new LsmStore(directory.resolve("tables"), 1024 * 1024, 3, commitLog);
+
+        // Verifications
+        assertEquals("1", string(store.get(bytes("a"))));
+    }
+
+    @Test
+    void testFreeze_shouldKeepCommitLogOfLaterMemtablesWhenFlushesQueueUp() throws Exception {
+        // Configuring test
+        WriteAheadLog log = new WriteAheadLog(true, directory.resolve("small-log").toString(), 1, 0);
+        log.replay(0, (sequence, record) -> { });
+        log.start();
+        ExecutorService background = Executors.newSingleThreadExecutor();
+        CountDownLatch slowFlush = new CountDownLatch(1);
+        background.execute(() -> awaitQuietly(slowFlush));
+        LsmStore queued = new LsmStore(directory.resolve("queued"), 1024 * 1024, 10, log, background);
+
+        // Execution
+        putLogged(log, queued, "a");
+        queued.freeze();
+        putLogged(log, queued, "b");
+        queued.freeze();
+        putLogged(log, queued, "c");
+        // a later record keeps the segment of c from being the one in use
+        log.append(new WalRecord.FollowSaved(new Follow("other", "record")), () -> null);
+        slowFlush.countDown();
+        background.submit(() -> { }).get();
+        // crash: the memtable holding c is lost
+        queued.shutdown();
+        log.shutdown();
+
+        WriteAheadLog reopenedLog = new WriteAheadLog(true, directory.resolve("small-log").toString(), 1, 0);
+        LsmStore reopened = new LsmStore(directory.resolve("queued"), 1024 * 1024, 10, reopenedLog);
+        reopenedLog.replay(0, (sequence, record) -> {
+            Follow follow = ((WalRecord.FollowSaved) record).follow();
+            reopened.put(bytes(follow.followerId()), bytes(follow.followedId()));
+        });
+
+        // Verifications
+        assertEquals(2, reopened.tableCount());
+        assertEquals("a", string(reopened.get(bytes("a"))));
+        assertEquals("b", string(reopened.get(bytes("b"))));
+        assertEquals("c", string(reopened.get(bytes("c"))));
+        reopened.shutdown();
+    }
+
+    private static void putLogged(WriteAheadLog log, LsmStore store, String key) {
+        log.append(new WalRecord.FollowSaved(new Follow(key, key)), () -> {
+            store.put(bytes(key), bytes(key));
+            return null;
+        });
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<String> scan(Iterator<LsmStore.Entry> entries) {
+        List<String> result = new ArrayList<>();
+        entries.forEachRemaining(entry -> result.add(string(entry.key()) + "=" + string(entry.value())));
+        return result;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+}
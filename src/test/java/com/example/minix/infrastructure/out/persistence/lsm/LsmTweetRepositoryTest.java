@@ -0,0 +1,114 @@
+package com.example.minix.infrastructure.out.persistence.lsm;
+
+import com.example.minix.domain.model.TimelineCursor;
+import com.example.minix.domain.model.TimelineQuery;
+import com.example.minix.domain.model.Tweet;
+import com.example.minix.infrastructure.out.persistence.wal.WriteAheadLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LsmTweetRepository.
+ */
+class LsmTweetRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T10:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private final WriteAheadLog writeAheadLog = new WriteAheadLog(false, "unused", 1024, 0);
+    private LsmTweetRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = newRepository();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown();
+    }
+
+    @Test
+    void testFindByAuthorIdAfter_shouldReturnLatestTweetsOfAuthorOnly() {
+        // Configuring test
+        Tweet first = save(1L, "alice", 0);
+        Tweet second = save(2L, "alice", 10);
+        Tweet third = save(3L, "alice", 20);
+        save(4L, "alicia", 30);
+
+        // Execution
+        List<Tweet> latest = repository.findByAuthorIdAfter("alice", 2);
+        List<Tweet> all = repository.findByAuthorId("alice");
+
+        // Verifications
+        assertEquals(List.of(third, second), latest);
+        assertEquals(List.of(third, second, first), all);
+    }
+
+    @Test
+    void testFindByAuthorId_shouldPageBetweenCursors() {
+        // Configuring test
+        Tweet first = save(1L, "alice", 0);
+        Tweet second = save(2L, "alice", 10);
+        Tweet third = save(3L, "alice", 20);
+        Tweet fourth = save(4L, "alice", 30);
+        TimelineCursor before = new TimelineCursor(fourth.createdAt(), fourth.id());
+        TimelineCursor since = new TimelineCursor(first.createdAt(), first.id());
+
+        // Execution
+        List<Tweet> page = repository.findByAuthorId("alice", new TimelineQuery(before, since, 10));
+
+        // Verifications
+        assertEquals(List.of(third, second), page);
+    }
+
+    @Test
+    void testSave_shouldReplacePreviousVersion() {
+        // Configuring test
+        save(1L, "alice", 0);
+
+        // Execution
+        Tweet updated = repository.save(new Tweet(1L, "alice", "Edited", T0.plusSeconds(5)));
+
+        // Verifications
+        assertEquals(Optional.of(updated), repository.findById(1L));
+        assertEquals("Edited", repository.findById(1L).orElseThrow().content());
+        assertEquals(List.of(updated), repository.findByAuthorId("alice"));
+        assertEquals(List.of(updated), repository.findAll());
+    }
+
+    @Test
+    void testOpen_shouldRecoverTweetsFromCommitLog() throws IOException {
+        // Configuring test
+        Tweet tweet = save(1L, "alice", 0);
+        repository.shutdown();
+
+        // Execution
+        repository = newRepository();
+
+        // Verifications
+        assertEquals(Optional.of(tweet), repository.findById(1L));
+        assertEquals("Tweet 1", repository.findById(1L).orElseThrow().content());
+        assertEquals(List.of(tweet), repository.findAllById(List.of(1L, 2L)));
+    }
+
+    private Tweet save(long id, String authorId, int secondsAfterT0) {
+        return repository.save(new Tweet(id, authorId, "Tweet " + id, T0.plusSeconds(secondsAfterT0)));
+    }
+
+    private LsmTweetRepository newRepository() throws IOException {
+        return new LsmTweetRepository(directory.toString(), 1024 * 1024, 4, 0, writeAheadLog);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.minix.infrastructure.out.persistence.snapshot;
+
+import com.example.minix.domain.model.Follow;
+import com.example.minix.domain.model.TimelineEntry;
+import com.example.minix.domain.model.TimelineQuery;
+import com.example.minix.domain.model.Tweet;
+import com.example.minix.infrastructure.out.persistence.inmemory.InMemoryFollowRepository;
+import com.example.minix.infrastructure.out.persistence.inmemory.InMemoryTimelineRepository;
+import com.example.minix.infrastructure.out.persistence.inmemory.InMemoryTweetRepository;
+import com.example.minix.infrastructure.out.persistence.inmemory.TweetContentStore;
+import com.example.minix.infrastructure.out.persistence.inmemory.UserIdDictionary;
+import com.example.minix.infrastructure.out.persistence.wal.WriteAheadLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SnapshotManager.
+ */
+class SnapshotManagerTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(node -> node.writeAheadLog().shutdown());
+    }
+
+    @Test
+    void testRestoreLatest_shouldReloadRepositoriesFromSnapshot() throws IOException {
+        // Configuring test
+        Node node = startedNode();
+        Tweet tweet = new Tweet(1L, "alice", "Hello", Instant.parse("2024-01-01T10:00:00Z"));
+        node.tweets().save(tweet);
+        node.follows().save(new Follow("bob", "alice"));
+        node.follows().save(new Follow("carol", "alice"));
+        node.timelines().addToTimeline("bob", new TimelineEntry(tweet.id(), tweet.createdAt()));
+
+        // Execution
+        Optional<SnapshotManager.Snapshot> written = node.snapshots().snapshot();
+        Node restored = newNode();
+        Optional<SnapshotManager.Snapshot> loaded = restored.snapshots().restoreLatest();
+
+        // Verifications
+        assertTrue(written.isPresent());
+        assertEquals(3, written.get().sequence());
+        assertEquals(written.get().path(), loaded.orElseThrow().path());
+        assertEquals(Optional.of(tweet), restored.tweets().findById(1L));
+        assertEquals(List.of(tweet), restored.tweets().findByAuthorId("alice"));
+        assertEquals(List.of("bob", "carol"), restored.follows().findFollowerIds("alice"));
+        assertEquals(List.of("alice"), restored.follows().findFollowedUserIds("carol"));
+        assertEquals(List.of(new TimelineEntry(tweet.id(), tweet.createdAt())),
+                restored.timelines().getTimeline("bob", TimelineQuery.latest(10)));
+    }
+
+    @Test
+    void testSnapshot_shouldRedoTimelinesFromPreviousSnapshot() throws IOException {
+        // Configuring test
+        Node node = startedNode();
+        node.follows().save(new Follow("bob", "alice"));
+        long first = node.snapshots().snapshot().orElseThrow().sequence();
+        node.follows().save(new Follow("carol", "alice"));
+
+        // Execution
+        SnapshotManager.Snapshot second = node.snapshots().snapshot().orElseThrow();
+        Optional<SnapshotManager.Snapshot> unchanged = node.snapshots().snapshot();
+
+        // Verifications
+        assertEquals(first, second.redoSequence());
+        assertEquals(2, second.sequence());
+        assertTrue(unchanged.isEmpty());
+    }
+
+    @Test
+    void testSnapshot_shouldKeepTwoLatestSnapshots() throws IOException {
+        // Configuring test
+        Node node = startedNode();
+
+        // Execution
+        for (int i = 0; i < 4; i++) {
+            node.follows().save(new Follow("user" + i, "alice"));
+            node.snapshots().snapshot();
+        }
+
+        // Verifications
+        try (Stream<Path> files = Files.list(directory.resolve("snapshots"))) {
+            assertEquals(List.of("snapshot-00000000000000000003.bin", "snapshot-00000000000000000004.bin"),
+                    files.map(path -> path.getFileName().toString()).sorted().toList());
+        }
+    }
+
+    @Test
+    void testRestoreLatest_shouldSkipUnreadableSnapshot() throws IOException {
+        // Configuring test
+        Node node = startedNode();
+        node.follows().save(new Follow("bob", "alice"));
+        node.snapshots().snapshot();
+        node.follows().save(new Follow("carol", "alice"));
+        Path latest = node.snapshots().snapshot().orElseThrow().path();
+        Files.write(latest, new byte[]{1, 2, 3});
+
+        // Execution
+        Node restored = newNode();
+        Optional<SnapshotManager.Snapshot> loaded = restored.snapshots().restoreLatest();
+
+        // Verifications
+        assertEquals(1, loaded.orElseThrow().sequence());
+        assertEquals(List.of("bob"), restored.follows().findFollowerIds("alice"));
+    }
+
+    private Node startedNode() {
+        Node node = newNode();
+        node.writeAheadLog().replay(0, (sequence, record) -> { });
+        node.writeAheadLog().start();
+        return node;
+    }
+
+    private Node newNode() {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(true, directory.resolve("wal").toString(), 1024 * 1024, 0);
+        UserIdDictionary userIds = new UserIdDictionary();
+        TweetContentStore contents = newContentStore();
+        InMemoryTweetRepository tweets = new InMemoryTweetRepository(userIds, contents, writeAheadLog);
+        InMemoryFollowRepository follows = new InMemoryFollowRepository(userIds, writeAheadLog, 4);
+        InMemoryTimelineRepository timelines = new InMemoryTimelineRepository(userIds, 10, 4);
+        SnapshotManager snapshots = new SnapshotManager(true, directory.resolve("snapshots").toString(), 60_000,
+                writeAheadLog, userIds, Optional.of(tweets), follows, timelines);
+        Node node = new Node(writeAheadLog, tweets, follows, timelines, snapshots);
+        nodes.add(node);
+        return node;
+    }
+
+    private TweetContentStore newContentStore() {
+        try {
+            return new TweetContentStore(directory.resolve("content" + nodes.size()).toString(), 64 * 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Node(WriteAheadLog writeAheadLog, InMemoryTweetRepository tweets, InMemoryFollowRepository follows,
+            InMemoryTimelineRepository timelines, SnapshotManager snapshots) {
+    }
+}
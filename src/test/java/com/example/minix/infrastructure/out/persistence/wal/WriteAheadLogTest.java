@@ -0,0 +1,286 @@
+package com.example.minix.infrastructure.out.persistence.wal;
+
+import com.example.minix.domain.model.Follow;
+import com.example.minix.domain.model.Tweet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WriteAheadLog.
+ */
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<WriteAheadLog> logs = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        logs.forEach(WriteAheadLog::shutdown);
+    }
+
+    @Test
+    void testReplay_shouldReturnAppendedRecordsInOrder() {
+        // Configuring test
+        WriteAheadLog writeAheadLog = startedLog(1024 * 1024);
+        Tweet tweet = new Tweet(42L, "alice", "Hello", Instant.parse("2024-01-01T10:00:00.123456789Z"));
+        Follow follow = new Follow("bob", "alice");
+
+        // Execution
+        writeAheadLog.append(new WalRecord.TweetSaved(tweet), () -> null);
+        writeAheadLog.append(new WalRecord.FollowSaved(follow), () -> null);
+        writeAheadLog.shutdown();
+        List<WalRecord> replayed = new ArrayList<>();
+        long lastSequence = newLog(1024 * 1024).replay(0, (sequence, record) -> replayed.add(record));
+
+        // Verifications
+        assertEquals(2, lastSequence);
+        assertEquals(List.of(new WalRecord.TweetSaved(tweet), new WalRecord.FollowSaved(follow)), replayed);
+    }
+
+    @Test
+    void testAppend_shouldGroupConcurrentRecords() throws Exception {
+        // Configuring test
+        WriteAheadLog writeAheadLog = startedLog(1024 * 1024);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Execution
+        List<Future<?>> futures = IntStream.range(0, 200)
+                .<Future<?>>mapToObj(i -> executor.submit(() ->
+                        writeAheadLog.append(new WalRecord.FollowSaved(new Follow("user" + i, "alice")), () -> null)))
+                .toList();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        writeAheadLog.shutdown();
+        List<Long> sequences = new ArrayList<>();
+        newLog(1024 * 1024).replay(0, (sequence, record) -> sequences.add(sequence));
+
+        // Verifications
+        assertEquals(LongStream.rangeClosed(1, 200).boxed().toList(), sequences);
+    }
+
+    @Test
+    void testReplay_shouldSkipRecordsUpToSequenceAndResumeAfterLast() {
+        // Configuring test
+        WriteAheadLog writeAheadLog = startedLog(1024 * 1024);
+        IntStream.range(0, 5).forEach(i ->
+                writeAheadLog.append(new WalRecord.FollowSaved(new Follow("user" + i, "alice")), () -> null));
+        writeAheadLog.shutdown();
+
+        // Execution
+        WriteAheadLog reopened = newLog(1024 * 1024);
+        List<Long> sequences = new ArrayList<>();
+        reopened.replay(3, (sequence, record) -> sequences.add(sequence));
+        reopened.start();
+        reopened.append(new WalRecord.FollowSaved(new Follow("carol", "alice")), () -> null);
+
+        // Verifications
+        assertEquals(List.of(4L, 5L), sequences);
+        assertEquals(6, reopened.lastSequence());
+    }
+
+    @Test
+    void testReplay_shouldTruncateTornRecord() throws IOException {
+        // Configuring test
+        WriteAheadLog writeAheadLog = startedLog(1024 * 1024);
+        writeAheadLog.append(new WalRecord.FollowSaved(new Follow("bob", "alice")), () -> null);
+        writeAheadLog.shutdown();
+        Path segment = writeAheadLog.segments().get(0);
+        long validBytes = Files.size(segment);
+        // a crash in the middle of a write leaves a partial frame
+        Files.write(segment, new byte[]{0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        // Execution
+        List<WalRecord> replayed = new ArrayList<>();
+        long lastSequence = newLog(1024 * 1024).replay(0, (sequence, record) -> replayed.add(record));
+
+        // Verifications
+        assertEquals(1, lastSequence);
+        assertEquals(1, replayed.size());
+        assertEquals(validBytes, Files.size(segment));
+    }
+
+    @Test
+    void testReplay_shouldStopAtCorruptRecordOfNonFinalSegmentAndDiscardLaterSegments() throws IOException {
+        // Configuring test
+        WriteAheadLog writeAheadLog = startedLog(100);
+        IntStream.range(0, 10).forEach(i ->
+                writeAheadLog.append(new WalRecord.FollowSaved(new Follow("user" + i, "alice")), () -> null));
+        writeAheadLog.shutdown();
+        List<Path> segments = writeAheadLog.segments();
+        assertTrue(segments.size() > 2);
+        Path corrupted = segments.get(1);
+        long lastValidSequence = firstSequenceOf(segments.get(2)) - 2;
+        // flips the last payload byte of the last record of the segment
+        byte[] bytes = Files.readAllBytes(corrupted);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(corrupted, bytes);
+
+        // Execution
+        List<Long> sequences = new ArrayList<>();
+        WriteAheadLog reopened = newLog(100);
+        long lastSequence = reopened.replay(0, (sequence, record) -> sequences.add(sequence));
+        reopened.start();
+        reopened.append(new WalRecord.FollowSaved(new Follow("carol", "alice")), () -> null);
+        reopened.shutdown();
+        List<Long> replayedAgain = new ArrayList<>();
+        newLog(100).replay(0, (sequence, record) -> replayedAgain.add(sequence));
+
+        // Verifications
+        assertEquals(lastValidSequence, lastSequence);
+        assertEquals(LongStream.rangeClosed(1, lastValidSequence).boxed().toList(), sequences);
+        assertTrue(Files.size(corrupted) < bytes.length);
+        assertEquals(segments.size() - 2, discardedSegments().size());
+        assertEquals(LongStream.rangeClosed(1, lastValidSequence + 1).boxed().toList(), replayedAgain);
+    }
+
+    @Test
+    void testAppend_shouldRollSegments() throws IOException {
+        // Configuring test
+        WriteAheadLog writeAheadLog = startedLog(64);
+
+        // Execution
+        IntStream.range(0, 10).forEach(i ->
+                writeAheadLog.append(new WalRecord.FollowSaved(new Follow("user" + i, "alice")), () -> null));
+        writeAheadLog.shutdown();
+        List<Long> sequences = new ArrayList<>();
+        newLog(64).replay(0, (sequence, record) -> sequences.add(sequence));
+
+        // Verifications
+        assertTrue(writeAheadLog.segments().size() > 1);
+        assertEquals(LongStream.rangeClosed(1, 10).boxed().toList(), sequences);
+    }
+
+    @Test
+    void testAppend_shouldBeNoOpWhenDisabled() throws IOException {
+        // Configuring test
+        WriteAheadLog writeAheadLog = new WriteAheadLog(false, directory.toString(), 1024, 0);
+
+        // Execution
+        writeAheadLog.start();
+        writeAheadLog.append(new WalRecord.FollowSaved(new Follow("bob", "alice")), () -> null);
+
+        // Verifications
+        assertTrue(writeAheadLog.segments().isEmpty());
+    }
+
+    @Test
+    void testAppendAll_shouldLogRecordsTogetherBeforeApplying() {
+        // Configuring test
+        WriteAheadLog writeAheadLog = startedLog(1024 * 1024);
+        List<WalRecord> records = List.of(
+                new WalRecord.TweetSaved(new Tweet(1L, "alice", "First", Instant.parse("2024-01-01T10:00:00Z"))),
+                new WalRecord.TweetSaved(new Tweet(2L, "alice", "Second", Instant.parse("2024-01-01T10:00:01Z"))));
+
+        // Execution
+        long applied = writeAheadLog.appendAll(records, writeAheadLog::lastSequence);
+        writeAheadLog.shutdown();
+        List<WalRecord> replayed = new ArrayList<>();
+        newLog(1024 * 1024).replay(0, (sequence, record) -> replayed.add(record));
+
+        // Verifications
+        assertEquals(2, applied);
+        assertEquals(records, replayed);
+    }
+
+    @Test
+    void testAppendAll_shouldNeitherReplayNorReuseSequencesOfFailedBatch() {
+        // Configuring test
+        WriteAheadLog writeAheadLog = startedLog(1024 * 1024);
+        Follow valid = new Follow("bob", "alice");
+        // longer than a modified UTF-8 string can be, the record fails to serialize
+        Follow invalid = new Follow("x".repeat(70_000), "alice");
+        AtomicBoolean applied = new AtomicBoolean();
+
+        // Execution
+        assertThrows(UncheckedIOException.class, () -> writeAheadLog.appendAll(
+                List.of(new WalRecord.FollowSaved(valid), new WalRecord.FollowSaved(invalid)),
+                () -> applied.getAndSet(true)));
+        writeAheadLog.append(new WalRecord.FollowSaved(new Follow("carol", "alice")), () -> null);
+        writeAheadLog.shutdown();
+        List<WalRecord> replayed = new ArrayList<>();
+        List<Long> sequences = new ArrayList<>();
+        newLog(1024 * 1024).replay(0, (sequence, record) -> {
+            sequences.add(sequence);
+            replayed.add(record);
+        });
+
+        // Verifications
+        assertFalse(applied.get());
+        assertEquals(List.of(new WalRecord.FollowSaved(new Follow("carol", "alice"))), replayed);
+        assertEquals(1, sequences.size());
+    }
+
+    @Test
+    void testAppend_shouldFailInsteadOfWaitingOnceWriterIsInterrupted() throws Exception {
+        // Configuring test
+        Set<Thread> existing = Thread.getAllStackTraces().keySet();
+        WriteAheadLog writeAheadLog = startedLog(1024 * 1024);
+        Thread writer = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("wal-writer") && !existing.contains(thread))
+                .findFirst()
+                .orElseThrow();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // Execution
+        writer.interrupt();
+        writer.join(5_000);
+        Future<?> append = executor.submit(() ->
+                writeAheadLog.append(new WalRecord.FollowSaved(new Follow("bob", "alice")), () -> null));
+
+        // Verifications
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> append.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertInstanceOf(UncheckedIOException.class, failure.getCause());
+        assertEquals(0, writeAheadLog.checkpoint());
+    }
+
+    private WriteAheadLog startedLog(long segmentSizeBytes) {
+        WriteAheadLog writeAheadLog = newLog(segmentSizeBytes);
+        writeAheadLog.replay(0, (sequence, record) -> { });
+        writeAheadLog.start();
+        return writeAheadLog;
+    }
+
+    private List<Path> discardedSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".discarded")).toList();
+        }
+    }
+
+    private static long firstSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring("segment-".length(), name.length() - ".log".length()));
+    }
+
+    private WriteAheadLog newLog(long segmentSizeBytes) {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(true, directory.toString(), segmentSizeBytes, 1);
+        logs.add(writeAheadLog);
+        return writeAheadLog;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.minix.infrastructure.out.push;
+
+import com.example.minix.application.port.out.TimelineSubscription;
+import com.example.minix.domain.model.TimelineItem;
+import com.example.minix.domain.model.TimelineUpdate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryTimelineUpdatePublisher.
+ */
+class InMemoryTimelineUpdatePublisherTest {
+
+    private final InMemoryTimelineUpdatePublisher publisher = new InMemoryTimelineUpdatePublisher(2);
+
+    @Test
+    void testPublish_shouldBufferItemsForSubscribedUsersOnly() {
+        // Configuring test
+        TimelineSubscription bob = publisher.subscribe("bob");
+        TimelineSubscription carol = publisher.subscribe("carol");
+        AtomicInteger notifications = new AtomicInteger();
+        bob.onAvailable(notifications::incrementAndGet);
+
+        // Execution
+        publisher.publish(List.of("bob", "dave"), item(1));
+
+        // Verifications
+        assertEquals(new TimelineUpdate(item(1), 0), bob.poll());
+        assertNull(bob.poll());
+        assertNull(carol.poll());
+        assertEquals(1, notifications.get());
+    }
+
+    @Test
+    void testPublish_shouldDropOldestItemsAndCountThemWhenBufferIsFull() {
+        // Configuring test
+        TimelineSubscription subscription = publisher.subscribe("bob");
+
+        // Execution
+        for (int i = 1; i <= 5; i++) {
+            publisher.publish(List.of("bob"), item(i));
+        }
+
+        // Verifications
+        assertEquals(new TimelineUpdate(item(4), 3), subscription.poll());
+        assertEquals(new TimelineUpdate(item(5), 0), subscription.poll());
+        assertNull(subscription.poll());
+    }
+
+    @Test
+    void testClose_shouldStopReceivingItems() {
+        // Configuring test
+        TimelineSubscription first = publisher.subscribe("bob");
+        TimelineSubscription second = publisher.subscribe("bob");
+
+        // Execution
+        first.close();
+        publisher.publish(List.of("bob"), item(1));
+        second.close();
+
+        // Verifications
+        assertNull(first.poll());
+        assertNull(second.poll());
+    }
+
+    @Test
+    void testPublishToWatchers_shouldReachConnectedWatchersOnly() {
+        // Configuring test
+        TimelineSubscription bob = publisher.subscribe("bob");
+        TimelineSubscription carol = publisher.subscribe("carol");
+        publisher.watchAuthor("bob", "alice");
+        publisher.watchAuthor("dave", "alice");
+
+        // Execution
+        publisher.publishToWatchers("alice", item(1));
+        publisher.publishToWatchers("erin", item(2));
+
+        // Verifications
+        assertEquals(new TimelineUpdate(item(1), 0), bob.poll());
+        assertNull(bob.poll());
+        assertNull(carol.poll());
+    }
+
+    @Test
+    void testClose_shouldStopWatchingOnceLastSubscriptionCloses() {
+        // Configuring test
+        TimelineSubscription first = publisher.subscribe("bob");
+        TimelineSubscription second = publisher.subscribe("bob");
+        publisher.watchAuthor("bob", "alice");
+
+        // Execution
+        first.close();
+        publisher.publishToWatchers("alice", item(1));
+        TimelineUpdate stillWatching = second.poll();
+        second.close();
+        TimelineSubscription reconnected = publisher.subscribe("bob");
+        publisher.publishToWatchers("alice", item(2));
+
+        // Verifications
+        assertEquals(new TimelineUpdate(item(1), 0), stillWatching);
+        assertNull(reconnected.poll());
+    }
+
+    private static TimelineItem item(long tweetId) {
+        return new TimelineItem(tweetId, "alice", "Tweet " + tweetId, Instant.parse("2024-01-01T10:00:00Z"));
+    }
+}
@@ -15,8 +15,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.util.List;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -96,15 +98,10 @@ class EndToEndIntegrationTest {
         assertEquals(alice, followResponse.followerId());
         assertEquals(bob, followResponse.followedId());
 
-        // Step 4: Alice checks her timeline (should contain Bob's tweet now)
-        String aliceTimelineStr = mockMvc.perform(get("/timeline")
-                        .header("X-User-Id", alice))
-                .andExpect(status().isOk())
-                .andReturn().getResponse().getContentAsString();
-
-        List<TimelineItemResponse> aliceTimeline = objectMapper.readValue(aliceTimelineStr,
-                new TypeReference<>() {
-                });
+        // Step 4: Alice checks her timeline (should contain Bob's tweet now, backfill is async)
+        List<TimelineItemResponse> aliceTimeline = await()
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> getTimeline(alice), timeline -> !timeline.isEmpty());
         assertNotNull(aliceTimeline);
         assertEquals(1, aliceTimeline.size(), "Alice should see Bob's tweet after following him");
         assertEquals(bob, aliceTimeline.get(0).authorId());
@@ -123,4 +120,13 @@ class EndToEndIntegrationTest {
         assertTrue(bobTimeline.isEmpty(), "Bob's timeline should not have changed");
 
     }
+
+    private List<TimelineItemResponse> getTimeline(String userId) throws Exception {
+        String timelineStr = mockMvc.perform(get("/timeline")
+                        .header("X-User-Id", userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(timelineStr, new TypeReference<>() {
+        });
+    }
 }